@@ -0,0 +1,25 @@
+#!/bin/bash
+
+# JMH benchmark'larını çalıştırır ve sonuçları commit'e göre adlandırılmış JSON dosyasına yazar.
+#
+#   ./run.sh                      # tüm benchmark'lar
+#   ./run.sh JwtBenchmark         # ek argümanlar doğrudan JMH'a geçer
+#
+# İki commit'in sonuçları BenchmarkComparison ile karşılaştırılır:
+#   java -cp target/benchmarks.jar com.kalayciburak.authservice.benchmark.BenchmarkComparison \
+#       results/<eski>.json results/<yeni>.json 10
+
+set -euo pipefail
+
+BENCHMARKS_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(cd "$BENCHMARKS_DIR/.." && pwd)"
+REVISION="$(git -C "$PROJECT_ROOT" rev-parse --short HEAD)"
+RESULT_FILE="$BENCHMARKS_DIR/results/$REVISION.json"
+
+(cd "$PROJECT_ROOT" && ./mvnw -q install -DskipTests)
+(cd "$BENCHMARKS_DIR" && ../mvnw -q package)
+
+mkdir -p "$BENCHMARKS_DIR/results"
+java -jar "$BENCHMARKS_DIR/target/benchmarks.jar" -prof gc -rf json -rff "$RESULT_FILE" "$@"
+
+echo "Sonuçlar: $RESULT_FILE"
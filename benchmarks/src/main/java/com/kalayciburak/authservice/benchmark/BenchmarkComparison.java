@@ -0,0 +1,96 @@
+package com.kalayciburak.authservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * İki JMH JSON sonuç dosyasını ({@code -rf json}) karşılaştırır ve eşik üzerindeki gerilemeleri raporlar.
+ * <p>
+ * Throughput için düşüş, diğer modlar (ortalama/örneklenmiş süre) için artış gerileme sayılır. {@code -prof gc} ile
+ * alınmış sonuçlarda işlem başına ayrılan bellek ({@code gc.alloc.rate.norm}) de karşılaştırılır. Gerileme varsa çıkış
+ * kodu 1'dir; CI'da iki commit'in sonuçlarını karşılaştırmak için kullanılabilir:
+ * <pre>java -cp target/benchmarks.jar com.kalayciburak.authservice.benchmark.BenchmarkComparison eski.json yeni.json 10</pre>
+ */
+public final class BenchmarkComparison {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Kullanım: BenchmarkComparison <eski.json> <yeni.json> [eşik yüzdesi, varsayılan 10]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        var baseline = read(Path.of(args[0]));
+        var current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-80s %12s %12s %9s %9s%n", "Benchmark", "Eski", "Yeni", "Fark %", "Bellek %");
+        for (var entry : current.entrySet()) {
+            var before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-80s %12s %12.3f %9s%n", entry.getKey(), "-", score(entry.getValue()), "yeni");
+                continue;
+            }
+
+            var after = entry.getValue();
+            double change = percentChange(score(before), score(after));
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            boolean regressed = higherIsBetter ? change < -threshold : change > threshold;
+
+            var allocation = allocationChange(before, after);
+            boolean allocationRegressed = allocation != null && allocation > threshold;
+            if (regressed || allocationRegressed) regressions++;
+
+            System.out.printf("%-80s %12.3f %12.3f %+9.1f %9s%s%n", entry.getKey(), score(before), score(after), change,
+                    allocation == null ? "-" : String.format("%+.1f", allocation),
+                    regressed || allocationRegressed ? "  GERİLEME" : "");
+        }
+
+        System.out.printf("%n%d benchmark karşılaştırıldı, %d gerileme (eşik %%%.1f).%n", current.size(), regressions,
+                threshold);
+        if (regressions > 0) System.exit(1);
+    }
+
+    /**
+     * JMH sonuç dosyasını benchmark adı, parametreleri ve moduna göre indeksler.
+     */
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        var results = new LinkedHashMap<String, JsonNode>();
+        for (var result : new ObjectMapper().readTree(file.toFile())) {
+            var key = new StringBuilder(result.path("benchmark").asText());
+            var params = result.path("params");
+            params.fieldNames().forEachRemaining(name -> key.append(':').append(name).append('=').append(params.path(name).asText()));
+            key.append(" [").append(result.path("mode").asText()).append(']');
+            results.put(key.toString(), result);
+        }
+
+        return results;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static Double allocationChange(JsonNode before, JsonNode after) {
+        var beforeAllocation = before.path("secondaryMetrics").path(ALLOCATION_METRIC);
+        var afterAllocation = after.path("secondaryMetrics").path(ALLOCATION_METRIC);
+        if (beforeAllocation.isMissingNode() || afterAllocation.isMissingNode()) return null;
+
+        return percentChange(beforeAllocation.path("score").asDouble(), afterAllocation.path("score").asDouble());
+    }
+
+    private static double percentChange(double before, double after) {
+        if (before == 0) return after == 0 ? 0 : 100;
+
+        return (after - before) / before * 100;
+    }
+}
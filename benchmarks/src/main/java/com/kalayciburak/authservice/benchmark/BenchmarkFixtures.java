@@ -0,0 +1,147 @@
+package com.kalayciburak.authservice.benchmark;
+
+import com.kalayciburak.authservice.model.entity.Role;
+import com.kalayciburak.authservice.model.entity.User;
+import com.kalayciburak.authservice.model.enums.RoleType;
+import com.kalayciburak.authservice.repository.UserRepository;
+import com.kalayciburak.authservice.security.token.JwtUtil;
+import com.kalayciburak.authservice.security.token.RejectedTokenCache;
+import com.kalayciburak.authservice.security.token.RevocationLog;
+import com.kalayciburak.authservice.security.token.RsaKeyService;
+import com.kalayciburak.authservice.security.token.TokenBlacklistService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Benchmark'larda Spring context'i ve dış servisler (Redis, MySQL, Vault) olmadan gerçek sınıfları kurmak için ortak
+ * yardımcılar.
+ * <p>
+ * Dış bağımlılıklar Mockito yerine elle yazılmış sabit cevaplı taklitlerle değiştirilir; Mockito'nun çağrı başına
+ * maliyeti ölçülen süreye karışmasın diye.
+ */
+final class BenchmarkFixtures {
+    static final String EMAIL = "ayse.yilmaz@example.com";
+    static final String KEY_ID = "benchmark-key";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 2048 bit yeni bir RSA anahtar çifti üretir (servisin Vault'ta anahtar yokken ürettiğiyle aynı boyut).
+     *
+     * @return Anahtar çifti
+     */
+    static KeyPair rsaKeyPair() {
+        try {
+            var generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Verilen anahtar çiftini döndüren, Vault'a gitmeyen {@link RsaKeyService}.
+     *
+     * @param keyPair Anahtar çifti
+     * @return Sabit anahtarlı servis
+     */
+    static RsaKeyService rsaKeyService(KeyPair keyPair) {
+        return new RsaKeyService() {
+            @Override
+            public RSAPublicKey getPublicKey() {
+                return (RSAPublicKey) keyPair.getPublic();
+            }
+
+            @Override
+            public RSAPrivateKey getPrivateKey() {
+                return (RSAPrivateKey) keyPair.getPrivate();
+            }
+
+            @Override
+            public String getKeyId() {
+                return KEY_ID;
+            }
+        };
+    }
+
+    /**
+     * Servisin varsayılan token süreleriyle (15 dakika / 7 gün) yapılandırılmış {@link JwtUtil}.
+     *
+     * @param keyPair       İmza anahtarı
+     * @param meterRegistry Metrik kaydı
+     * @return JwtUtil
+     */
+    static JwtUtil jwtUtil(KeyPair keyPair, MeterRegistry meterRegistry) {
+        var jwtUtil = new JwtUtil(rsaKeyService(keyPair), meterRegistry, new RejectedTokenCache(meterRegistry));
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationInMs", 900_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpirationDateInMs", 604_800_000L);
+
+        return jwtUtil;
+    }
+
+    /**
+     * Redis'e gitmeden her token için "kara listede değil" cevabı veren {@link TokenBlacklistService}. Benchmark'lar
+     * token iptal etmediği için iptal günlüğü Redis bağlantısı olmadan oluşturulur.
+     *
+     * @param meterRegistry Metrik kaydı
+     * @return Kara liste servisi
+     */
+    static TokenBlacklistService emptyBlacklist(MeterRegistry meterRegistry) {
+        var redisTemplate = new RedisTemplate<String, Object>() {
+            @Override
+            public Boolean hasKey(String key) {
+                return Boolean.FALSE;
+            }
+        };
+
+        return new TokenBlacklistService(redisTemplate, meterRegistry, new RevocationLog(null));
+    }
+
+    /**
+     * {@link #EMAIL} adresli, ROLE_FREE ve ROLE_PREMIUM rollerine sahip kullanıcı.
+     *
+     * @return Kullanıcı
+     */
+    static User user() {
+        return User.builder()
+                .firstName("Ayşe")
+                .lastName("Yılmaz")
+                .email(EMAIL)
+                .password("{noop}benchmark")
+                .emailVerified(true)
+                .roles(Set.of(new Role(1L, RoleType.ROLE_FREE), new Role(2L, RoleType.ROLE_PREMIUM)))
+                .build();
+    }
+
+    /**
+     * Sadece {@code findByEmail} çağrısına cevap veren, veritabanına gitmeyen {@link UserRepository}.
+     *
+     * @param user Bulunacak kullanıcı
+     * @return Depo taklidi
+     */
+    static UserRepository userRepository(User user) {
+        var found = Optional.of(user);
+
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmail"))
+                        return user.getEmail().equals(args[0]) ? found : Optional.empty();
+                    if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+                    if (method.getName().equals("equals")) return proxy == args[0];
+                    if (method.getName().equals("toString")) return "UserRepositoryStub";
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,61 @@
+package com.kalayciburak.authservice.benchmark;
+
+import com.kalayciburak.authservice.model.enums.EmailType;
+import com.kalayciburak.authservice.service.mail.EmailTemplateEngine;
+import com.kalayciburak.authservice.service.mail.RenderedEmail;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Doğrulama emailinin render maliyetini ölçer: ön-derlenmiş şablon motoru ile her mesajda {@code String.formatted}
+ * çağrılan eski yöntem karşılaştırılır.
+ * <p>
+ * Mesaj başına ayrılan bellek için GC profiler ile çalıştırılır:
+ * <pre>java -jar target/benchmarks.jar EmailTemplateBenchmark -prof gc</pre>
+ * ({@code gc.alloc.rate.norm} = işlem başına byte).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateBenchmark {
+    private static final String NAME = "Ayşe Yılmaz";
+    private static final String LINK = "http://localhost:3000/verify-email?token=6f1c0c5e-3b7d-4a55-9a51-0f0b2f4d8e21";
+
+    private EmailTemplateEngine engine;
+    private String formatSource;
+
+    @Setup
+    public void setUp() throws IOException {
+        var classLoader = getClass().getClassLoader();
+        engine = EmailTemplateEngine.load(classLoader, "tr", List.of("en"));
+
+        // Eski yöntem: aynı HTML şablonu String.formatted ile
+        try (var stream = classLoader.getResourceAsStream("templates/email/tr/verification.html")) {
+            formatSource = new String(stream.readAllBytes(), StandardCharsets.UTF_8)
+                    .replace("{{name}}", "%1$s")
+                    .replace("{{link}}", "%2$s");
+        }
+    }
+
+    @Benchmark
+    public String formatted() {
+        return formatSource.formatted(NAME, LINK);
+    }
+
+    @Benchmark
+    public String compiledHtml() {
+        return engine.render(EmailType.VERIFICATION, "tr", NAME, LINK).html();
+    }
+
+    @Benchmark
+    public RenderedEmail compiledWithSubjectAndText() {
+        return engine.render(EmailType.VERIFICATION, "tr", NAME, LINK);
+    }
+}
@@ -0,0 +1,31 @@
+package com.kalayciburak.authservice.benchmark;
+
+import com.kalayciburak.authservice.model.dto.response.JwkResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.interfaces.RSAPublicKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWKS uç noktasının her istekte yaptığı {@link JwkResponse#fromRSAPublicKey} dönüşümünün (modulus ve exponent'in
+ * Base64URL kodlaması) maliyetini ölçer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwkBenchmark {
+    private RSAPublicKey publicKey;
+
+    @Setup
+    public void setUp() {
+        publicKey = (RSAPublicKey) BenchmarkFixtures.rsaKeyPair().getPublic();
+    }
+
+    @Benchmark
+    public JwkResponse fromRSAPublicKey() {
+        return JwkResponse.fromRSAPublicKey(publicKey, BenchmarkFixtures.KEY_ID);
+    }
+}
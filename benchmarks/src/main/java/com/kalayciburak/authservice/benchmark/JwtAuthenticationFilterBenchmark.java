@@ -0,0 +1,172 @@
+package com.kalayciburak.authservice.benchmark;
+
+import com.kalayciburak.authservice.security.filter.JwtAuthenticationFilter;
+import com.kalayciburak.authservice.security.handler.JwtRejectionHandler;
+import com.kalayciburak.authservice.security.token.JwtUtil;
+import com.kalayciburak.authservice.service.CustomUserDetailsService;
+import com.kalayciburak.authservice.service.helper.RoleCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtAuthenticationFilter}'ın istek başına maliyetini, zincirin geri kalanı hariç ölçer.
+ * <p>
+ * JWT doğrulaması gerçek RS256 anahtarıyla yapılır; Redis kara listesi ve kullanıcı deposu sabit cevaplı taklitlerdir.
+ * Böylece ölçülen süre filtrenin kendi CPU maliyetidir (token ayrıştırma, imza doğrulama, {@code UserDetails} oluşturma,
+ * SecurityContext'in doldurulması); ağ gidiş-dönüşleri dahil değildir.
+ * <ul>
+ *     <li>{@code authenticated}: Geçerli access token.</li>
+ *     <li>{@code anonymous}: Authorization başlığı olmayan istek (herkese açık uç noktalar).</li>
+ *     <li>{@code invalidSignature}: İmzası başka anahtarla atılmış token; ilk çağrıdan sonra reddedilen token
+ *     önbelleğinden döner.</li>
+ *     <li>{@code expired}, {@code malformed}: İmza doğrulamasına gelmeden ön kontrolde reddedilen token'lar.</li>
+ *     <li>{@code claimsOnly}: {@code app.security.claims-only-paths} altındaki yolda geçerli token; kullanıcı deposu ve
+ *     kara liste atlanır.</li>
+ *     <li>{@code jwksWithStaleToken}, {@code loginWithStaleToken}: Süresi dolmuş token ile gelinen herkese açık uç
+ *     noktalar; filtre token'a hiç bakmaz.</li>
+ * </ul>
+ * Reddedilen isteklerde 401 yanıtı yazılır; yanıt her çağrıda sıfırlanır.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletRequest invalidSignatureRequest;
+    private MockHttpServletRequest expiredRequest;
+    private MockHttpServletRequest malformedRequest;
+    private MockHttpServletRequest claimsOnlyRequest;
+    private MockHttpServletRequest jwksRequest;
+    private MockHttpServletRequest loginRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        var meterRegistry = new SimpleMeterRegistry();
+        var jwtUtil = BenchmarkFixtures.jwtUtil(BenchmarkFixtures.rsaKeyPair(), meterRegistry);
+        var userDetailsService = new CustomUserDetailsService(new RoleCatalog(),
+                BenchmarkFixtures.userRepository(BenchmarkFixtures.user()), meterRegistry);
+        filter = new JwtAuthenticationFilter(jwtUtil, BenchmarkFixtures.emptyBlacklist(meterRegistry), userDetailsService,
+                meterRegistry, new JwtRejectionHandler());
+        ReflectionTestUtils.setField(filter, "claimsOnlyPatterns", new String[]{"/api/user"});
+        ReflectionTestUtils.invokeMethod(filter, "init");
+
+        var authorities = List.of(new SimpleGrantedAuthority("ROLE_FREE"));
+        var foreignJwtUtil = BenchmarkFixtures.jwtUtil(BenchmarkFixtures.rsaKeyPair(), meterRegistry);
+        var expiredToken = token(jwtUtil, -60_000L, authorities);
+
+        var accessToken = jwtUtil.generateToken(BenchmarkFixtures.EMAIL, authorities);
+
+        authenticatedRequest = request(accessToken);
+        anonymousRequest = request(null);
+        invalidSignatureRequest = request(foreignJwtUtil.generateToken(BenchmarkFixtures.EMAIL, authorities));
+        expiredRequest = request(expiredToken);
+        malformedRequest = request("invalid.token.format");
+        claimsOnlyRequest = request("GET", "/api/user", accessToken);
+        jwksRequest = request("GET", "/.well-known/jwks.json", expiredToken);
+        loginRequest = request("POST", "/api/auth/login", expiredToken);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object authenticated() throws ServletException, IOException {
+        filter.doFilter(authenticatedRequest, response, NO_OP_CHAIN);
+        return takeAuthentication();
+    }
+
+    @Benchmark
+    public Object anonymous() throws ServletException, IOException {
+        filter.doFilter(anonymousRequest, response, NO_OP_CHAIN);
+        return takeAuthentication();
+    }
+
+    @Benchmark
+    public Object claimsOnly() throws ServletException, IOException {
+        filter.doFilter(claimsOnlyRequest, response, NO_OP_CHAIN);
+        return takeAuthentication();
+    }
+
+    @Benchmark
+    public Object jwksWithStaleToken() throws ServletException, IOException {
+        filter.doFilter(jwksRequest, response, NO_OP_CHAIN);
+        return takeAuthentication();
+    }
+
+    @Benchmark
+    public Object loginWithStaleToken() throws ServletException, IOException {
+        filter.doFilter(loginRequest, response, NO_OP_CHAIN);
+        return takeAuthentication();
+    }
+
+    @Benchmark
+    public int invalidSignature() throws ServletException, IOException {
+        return reject(invalidSignatureRequest);
+    }
+
+    @Benchmark
+    public int expired() throws ServletException, IOException {
+        return reject(expiredRequest);
+    }
+
+    @Benchmark
+    public int malformed() throws ServletException, IOException {
+        return reject(malformedRequest);
+    }
+
+    private int reject(MockHttpServletRequest request) throws ServletException, IOException {
+        response.reset();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+
+        return response.getContentAsByteArray().length;
+    }
+
+    /**
+     * Filtrenin doldurduğu kimliği döner ve bir sonraki çağrı için SecurityContext'i temizler.
+     */
+    private static Object takeAuthentication() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+
+        return authentication;
+    }
+
+    private static String token(JwtUtil jwtUtil, long expirationMs, List<SimpleGrantedAuthority> authorities) {
+        var original = ReflectionTestUtils.getField(jwtUtil, "jwtExpirationInMs");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationInMs", expirationMs);
+        try {
+            return jwtUtil.generateToken(BenchmarkFixtures.EMAIL, authorities);
+        } finally {
+            ReflectionTestUtils.setField(jwtUtil, "jwtExpirationInMs", original);
+        }
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        return request("GET", "/api/user/profile", token);
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String token) {
+        var request = new MockHttpServletRequest(method, path);
+        if (token != null) request.addHeader("Authorization", "Bearer " + token);
+
+        return request;
+    }
+}
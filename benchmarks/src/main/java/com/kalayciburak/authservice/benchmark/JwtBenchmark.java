@@ -0,0 +1,67 @@
+package com.kalayciburak.authservice.benchmark;
+
+import com.kalayciburak.authservice.security.token.JwtUtil;
+import com.kalayciburak.authservice.security.token.TokenVerification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.kalayciburak.authservice.constant.JwtConstants.ACCESS_TOKEN_TYPE;
+
+/**
+ * {@link JwtUtil} üzerindeki RS256 token işlemlerinin maliyetini ölçer: access/refresh token imzalama, exception
+ * fırlatan ({@code validateToken}) ve fırlatmayan ({@code verify}) imza doğrulama.
+ * <p>
+ * Throughput (ms başına işlem) ve SampleTime (gecikme yüzdelikleri) modlarında çalışır. İşlem başına ayrılan bellek
+ * için {@code -prof gc} ile çalıştırılır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    private final Collection<GrantedAuthority> authorities = List.of(
+            new SimpleGrantedAuthority("ROLE_FREE"),
+            new SimpleGrantedAuthority("ROLE_PREMIUM"));
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil(BenchmarkFixtures.rsaKeyPair(), new SimpleMeterRegistry());
+        accessToken = jwtUtil.generateToken(BenchmarkFixtures.EMAIL, authorities);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(BenchmarkFixtures.EMAIL, authorities);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtUtil.generateRefreshToken(BenchmarkFixtures.EMAIL);
+    }
+
+    @Benchmark
+    public void validateToken() {
+        jwtUtil.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public TokenVerification verify() {
+        return jwtUtil.verify(accessToken, ACCESS_TOKEN_TYPE);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(accessToken);
+    }
+}
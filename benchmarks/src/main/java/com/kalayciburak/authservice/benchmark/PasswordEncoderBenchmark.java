@@ -0,0 +1,42 @@
+package com.kalayciburak.authservice.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kayıt ve girişte kullanılan parola hash'leme maliyetini ölçer. Servisin {@code PasswordEncoder} bean'i ile aynı
+ * şekilde oluşturulan delegating encoder (varsayılan BCrypt, maliyet 10) kullanılır.
+ * <p>
+ * İşlem başına onlarca milisaniye sürdüğü için ölçüm iterasyonları diğer benchmark'lardan uzundur.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+    private static final String PASSWORD = "CorrectHorse!42";
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+}
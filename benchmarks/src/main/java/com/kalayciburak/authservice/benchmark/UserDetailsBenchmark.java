@@ -0,0 +1,48 @@
+package com.kalayciburak.authservice.benchmark;
+
+import com.kalayciburak.authservice.model.entity.User;
+import com.kalayciburak.authservice.service.CustomUserDetailsService;
+import com.kalayciburak.authservice.service.helper.RoleCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT filtresinin her kimlik doğrulamalı istekte yaptığı kullanıcı yükleme adımının, veritabanı hariç maliyetini ölçer:
+ * {@code UserDetails} oluşturma ve rollerin yetkilere dönüştürülmesi ({@code mapRolesToAuthorities}).
+ * <p>
+ * Depo, sabit kullanıcı dönen bir taklittir; ölçülen süreye MySQL gidiş-dönüşü dahil değildir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDetailsBenchmark {
+    private final RoleCatalog roleCatalog = new RoleCatalog();
+
+    private User user;
+    private CustomUserDetailsService userDetailsService;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+        userDetailsService = new CustomUserDetailsService(roleCatalog, BenchmarkFixtures.userRepository(user),
+                new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername(BenchmarkFixtures.EMAIL);
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> mapRolesToAuthorities() {
+        return roleCatalog.authoritiesOf(user.getRoles());
+    }
+}
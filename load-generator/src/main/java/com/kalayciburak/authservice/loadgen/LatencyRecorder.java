@@ -0,0 +1,54 @@
+package com.kalayciburak.authservice.loadgen;
+
+import java.util.Arrays;
+
+/**
+ * Bir adımın gecikme örneklerini ve hata sayısını tutar; sonunda throughput ve yüzdelikleri hesaplar.
+ * <p>
+ * Örnekler sıkıştırılmadan saklanır, böylece yüzdelikler tahmini değil kesindir. Kayıt maliyeti, ölçülen HTTP
+ * çağrısının yanında ihmal edilebilir düzeydedir.
+ */
+final class LatencyRecorder {
+    private long[] samples = new long[4096];
+    private int count;
+    private long errors;
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+        samples[count++] = nanos;
+    }
+
+    synchronized void recordError() {
+        errors++;
+    }
+
+    /**
+     * Toplanan örneklerin özetini çıkarır.
+     *
+     * @param step           Adım
+     * @param elapsedSeconds Ölçüm süresi (saniye)
+     * @return Özet
+     */
+    synchronized Summary summarize(Step step, double elapsedSeconds) {
+        var sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+
+        return new Summary(step.name(), step.description(), count, errors, count / elapsedSeconds,
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 99.9),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    /**
+     * Bir adımın ölçüm özeti. Süreler milisaniye cinsindendir.
+     */
+    record Summary(String step, String description, int count, long errors, double throughputPerSecond,
+                   double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+}
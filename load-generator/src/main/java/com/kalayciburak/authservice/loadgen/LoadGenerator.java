@@ -0,0 +1,136 @@
+package com.kalayciburak.authservice.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * auth-service için uçtan uca yük üreticisi.
+ * <p>
+ * Belirtilen sayıda sanal kullanıcı, süre boyunca {@link UserScenario} senaryosunu ardışık olarak tekrarlar. Isınma
+ * süresindeki çağrılar sonuca dahil edilmez. Sonunda her adım için throughput, hata sayısı ve gecikme yüzdelikleri
+ * yazdırılır; {@code --output} verilirse aynı sonuç JSON olarak kaydedilir.
+ * <p>
+ * Servisin {@code perf} profiliyle çalışıyor olması gerekir:
+ * <pre>
+ * ./mvnw spring-boot:run -Pperf
+ * java -jar load-generator/target/load-generator.jar --users=50 --duration=60 --warmup=10 --output=results/run.json
+ * </pre>
+ */
+public final class LoadGenerator {
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = Options.parse(args);
+        var mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        var recorders = new EnumMap<Step, LatencyRecorder>(Step.class);
+        for (var step : Step.values()) recorders.put(step, new LatencyRecorder());
+        var scenario = new UserScenario(client, mapper, options.baseUrl(), options.authenticatedCalls(), recorders);
+
+        var completed = new AtomicLong();
+        var failed = new AtomicLong();
+        var start = System.nanoTime();
+        var measureFrom = start + options.warmup().toNanos();
+        var deadline = measureFrom + options.duration().toNanos();
+
+        System.out.printf("%d sanal kullanıcı, %d sn ısınma + %d sn ölçüm: %s%n", options.users(),
+                options.warmup().toSeconds(), options.duration().toSeconds(), options.baseUrl());
+        try (var users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.users(); i++) {
+                users.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) - deadline < 0) {
+                        boolean record = now - measureFrom >= 0;
+                        boolean succeeded = scenario.run(record);
+                        if (record) (succeeded ? completed : failed).incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+
+        var elapsedSeconds = options.duration().toNanos() / 1e9;
+        var summaries = new ArrayList<LatencyRecorder.Summary>();
+        for (var entry : recorders.entrySet()) summaries.add(entry.getValue().summarize(entry.getKey(), elapsedSeconds));
+
+        print(summaries, completed.get(), failed.get(), elapsedSeconds);
+        if (options.output() != null) write(mapper, options, summaries, completed.get(), failed.get(), elapsedSeconds);
+    }
+
+    private static void print(List<LatencyRecorder.Summary> summaries, long completed, long failed, double elapsedSeconds) {
+        System.out.printf("%n%-10s %8s %6s %9s %9s %9s %9s %9s %9s%n",
+                "Adım", "İstek", "Hata", "İstek/sn", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (var summary : summaries) {
+            System.out.printf("%-10s %8d %6d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", summary.step(), summary.count(),
+                    summary.errors(), summary.throughputPerSecond(), summary.p50Ms(), summary.p90Ms(), summary.p99Ms(),
+                    summary.p999Ms(), summary.maxMs());
+        }
+        System.out.printf("%nTamamlanan senaryo: %d (%.1f/sn), başarısız: %d%n", completed, completed / elapsedSeconds,
+                failed);
+    }
+
+    private static void write(ObjectMapper mapper, Options options, List<LatencyRecorder.Summary> summaries,
+                              long completed, long failed, double elapsedSeconds) throws IOException {
+        var result = new LinkedHashMap<String, Object>();
+        result.put("baseUrl", options.baseUrl());
+        result.put("users", options.users());
+        result.put("durationSeconds", options.duration().toSeconds());
+        result.put("warmupSeconds", options.warmup().toSeconds());
+        result.put("authenticatedCallsPerScenario", options.authenticatedCalls());
+        result.put("completedScenarios", completed);
+        result.put("failedScenarios", failed);
+        result.put("scenariosPerSecond", completed / elapsedSeconds);
+        result.put("steps", summaries);
+
+        var output = Path.of(options.output());
+        if (output.getParent() != null) Files.createDirectories(output.getParent());
+        mapper.writeValue(output.toFile(), result);
+        System.out.println("Sonuçlar: " + output.toAbsolutePath());
+    }
+
+    /**
+     * Komut satırı seçenekleri ({@code --anahtar=değer}).
+     *
+     * @param baseUrl            Servis adresi ({@code --base-url}, varsayılan http://localhost:8080)
+     * @param users              Eşzamanlı sanal kullanıcı sayısı ({@code --users}, varsayılan 50)
+     * @param duration           Ölçüm süresi ({@code --duration} saniye, varsayılan 60)
+     * @param warmup             Sonuca dahil edilmeyen ısınma süresi ({@code --warmup} saniye, varsayılan 10)
+     * @param authenticatedCalls Senaryo başına kimlik doğrulamalı çağrı sayısı ({@code --calls}, varsayılan 5)
+     * @param output             JSON sonuç dosyası ({@code --output}, verilmezse yazılmaz)
+     */
+    record Options(String baseUrl, int users, Duration duration, Duration warmup, int authenticatedCalls,
+                   String output) {
+        static Options parse(String[] args) {
+            var values = new HashMap<String, String>();
+            for (var arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("="))
+                    throw new IllegalArgumentException("Geçersiz argüman: " + arg + " (beklenen: --anahtar=değer)");
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+
+            var baseUrl = values.getOrDefault("base-url", "http://localhost:8080");
+            return new Options(
+                    baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl,
+                    Integer.parseInt(values.getOrDefault("users", "50")),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                    Integer.parseInt(values.getOrDefault("calls", "5")),
+                    values.get("output"));
+        }
+    }
+}
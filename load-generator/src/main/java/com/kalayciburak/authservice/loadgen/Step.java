@@ -0,0 +1,24 @@
+package com.kalayciburak.authservice.loadgen;
+
+/**
+ * Bir kullanıcı senaryosunun ölçülen adımları, çalışma sırasıyla.
+ */
+enum Step {
+    REGISTER("POST /api/auth/register"),
+    EMAIL_DELIVERY("kayıt -> doğrulama emaili (outbox + SMTP)"),
+    VERIFY("GET /api/auth/verify-email"),
+    LOGIN("POST /api/auth/login"),
+    PROFILE("GET /api/user/profile"),
+    REFRESH("POST /api/auth/refresh"),
+    LOGOUT("POST /api/auth/logout");
+
+    private final String description;
+
+    Step(String description) {
+        this.description = description;
+    }
+
+    String description() {
+        return description;
+    }
+}
@@ -0,0 +1,152 @@
+package com.kalayciburak.authservice.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tek bir sanal kullanıcının uçtan uca senaryosu: kayıt → email doğrulama → giriş → kimlik doğrulamalı çağrılar →
+ * token yenileme → çıkış.
+ * <p>
+ * Doğrulama token'ı, servisin {@code perf} profilindeki SMTP sink'inden {@code /public/perf/mailbox} ile okunur. Bir
+ * adım beklenmeyen durum koduyla dönerse adım hatalı sayılır ve senaryo o noktada bırakılır.
+ */
+final class UserScenario {
+    private static final String PASSWORD = "PerfLoad#2024x";
+    private static final Duration MAILBOX_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration MAILBOX_POLL_INTERVAL = Duration.ofMillis(20);
+
+    private final HttpClient client;
+    private final ObjectMapper mapper;
+    private final String baseUrl;
+    private final int authenticatedCalls;
+    private final Map<Step, LatencyRecorder> recorders;
+
+    UserScenario(HttpClient client, ObjectMapper mapper, String baseUrl, int authenticatedCalls,
+                 Map<Step, LatencyRecorder> recorders) {
+        this.client = client;
+        this.mapper = mapper;
+        this.baseUrl = baseUrl;
+        this.authenticatedCalls = authenticatedCalls;
+        this.recorders = recorders;
+    }
+
+    /**
+     * Senaryoyu bir kez çalıştırır.
+     *
+     * @param record Ölçümlerin kaydedilip kaydedilmeyeceği (ısınma süresince false)
+     * @return Tüm adımlar başarılıysa true
+     */
+    boolean run(boolean record) throws InterruptedException {
+        var email = "perf-" + UUID.randomUUID() + "@load.test";
+        try {
+            var registerBody = mapper.writeValueAsString(Map.of(
+                    "firstName", "Yük", "lastName", "Testi", "email", email, "password", PASSWORD));
+            if (call(Step.REGISTER, post("/api/auth/register", registerBody), 201, record) == null) return false;
+
+            var verificationToken = awaitVerificationToken(email, record);
+            if (verificationToken == null) return false;
+            var verifyPath = "/api/auth/verify-email?token=" + encode(verificationToken);
+            if (call(Step.VERIFY, get(verifyPath, null), 200, record) == null) return false;
+
+            var loginBody = mapper.writeValueAsString(Map.of("email", email, "password", PASSWORD));
+            var login = call(Step.LOGIN, post("/api/auth/login", loginBody), 200, record);
+            var accessToken = field(login, "token");
+            var refreshToken = field(login, "refreshToken");
+            if (accessToken == null || refreshToken == null) return false;
+
+            for (int i = 0; i < authenticatedCalls; i++) {
+                if (call(Step.PROFILE, get("/api/user/profile", accessToken), 200, record) == null) return false;
+            }
+
+            var refresh = call(Step.REFRESH, post("/api/auth/refresh?refreshToken=" + encode(refreshToken), null), 200, record);
+            accessToken = field(refresh, "token");
+            if (accessToken == null) return false;
+
+            return call(Step.LOGOUT, post("/api/auth/logout?token=" + encode(accessToken), null), 200, record) != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Doğrulama emailinin SMTP sink'ine düşmesini bekler. Ölçülen süre, kaydın outbox'tan SMTP'ye ulaşma gecikmesidir.
+     */
+    private String awaitVerificationToken(String email, boolean record) throws IOException, InterruptedException {
+        var start = System.nanoTime();
+        var deadline = start + MAILBOX_TIMEOUT.toNanos();
+        var request = get("/public/perf/mailbox?email=" + encode(email), null);
+        while (System.nanoTime() - deadline < 0) {
+            var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                if (record) recorders.get(Step.EMAIL_DELIVERY).record(System.nanoTime() - start);
+                return mapper.readTree(response.body()).path("token").asText();
+            }
+            Thread.sleep(MAILBOX_POLL_INTERVAL);
+        }
+        if (record) recorders.get(Step.EMAIL_DELIVERY).recordError();
+
+        return null;
+    }
+
+    private JsonNode call(Step step, HttpRequest request, int expectedStatus, boolean record)
+            throws IOException, InterruptedException {
+        var recorder = recorders.get(step);
+        var start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            if (record) recorder.recordError();
+            throw e;
+        }
+        var elapsed = System.nanoTime() - start;
+
+        if (response.statusCode() != expectedStatus) {
+            if (record) recorder.recordError();
+            return null;
+        }
+        if (record) recorder.record(elapsed);
+
+        return response.body().isEmpty() ? mapper.createObjectNode() : mapper.readTree(response.body());
+    }
+
+    /**
+     * Yanıt gövdesinde, sarmalayıcı yapıdan bağımsız olarak ilk bulunan alanın değerini döner.
+     */
+    private static String field(JsonNode body, String name) {
+        var value = body == null ? null : body.findValue(name);
+
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private HttpRequest post(String path, String jsonBody) {
+        var builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Accept", "application/json");
+        if (jsonBody == null) return builder.POST(HttpRequest.BodyPublishers.noBody()).build();
+
+        return builder.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
+                .build();
+    }
+
+    private HttpRequest get(String path, String bearerToken) {
+        var builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Accept", "application/json").GET();
+        if (bearerToken != null) builder.header("Authorization", "Bearer " + bearerToken);
+
+        return builder.build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -6,6 +6,7 @@ import com.kalayciburak.commonpackage.core.constant.Codes;
 import com.kalayciburak.commonpackage.core.constant.Messages;
 import com.kalayciburak.commonpackage.core.constant.Types;
 import com.kalayciburak.commonpackage.core.response.error.ErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -13,6 +14,8 @@ import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import static com.kalayciburak.authservice.constant.RateLimitConstants.*;
+
 @RestControllerAdvice
 public class AuthExceptionHandler extends JPAExceptionHandler {
     /**
@@ -256,4 +259,29 @@ public class AuthExceptionHandler extends JPAExceptionHandler {
 
         return buildResponseEntity(error);
     }
-}
\ No newline at end of file
+
+    /**
+     * {@code TooManyRequestsException} istisnasını yakalar.
+     * <p>
+     * Bu istisna, hız sınırı aşıldığında fırlatılır. İstemcinin ne zaman tekrar deneyebileceği {@code Retry-After}
+     * başlığında döner.
+     *
+     * @param exception Yakalanacak istisna.
+     * @return Hız sınırı hatasını içeren {@link ResponseEntity}.
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse<?>> handleTooManyRequestsException(TooManyRequestsException exception) {
+        var error = new ErrorResponse<>(
+                TOO_MANY_REQUESTS_TYPE,
+                TOO_MANY_REQUESTS_CODE,
+                TOO_MANY_REQUESTS_MESSAGE,
+                HttpStatus.TOO_MANY_REQUESTS,
+                exception);
+        var response = buildResponseEntity(error);
+
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+}
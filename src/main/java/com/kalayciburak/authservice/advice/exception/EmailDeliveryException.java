@@ -0,0 +1,7 @@
+package com.kalayciburak.authservice.advice.exception;
+
+public class EmailDeliveryException extends RuntimeException {
+    public EmailDeliveryException(String recipient, Throwable cause) {
+        super("Email gönderilemedi: " + recipient, cause);
+    }
+}
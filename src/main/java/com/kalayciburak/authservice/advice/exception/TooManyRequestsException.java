@@ -0,0 +1,18 @@
+package com.kalayciburak.authservice.advice.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static com.kalayciburak.authservice.constant.RateLimitConstants.TOO_MANY_REQUESTS_MESSAGE;
+
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super(TOO_MANY_REQUESTS_MESSAGE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,105 @@
+package com.kalayciburak.authservice.config;
+
+import com.kalayciburak.authservice.security.password.BloomFilterPasswordChecker;
+import com.kalayciburak.authservice.security.password.CachedRangePasswordChecker;
+import com.kalayciburak.authservice.security.password.CommonPasswordChecker;
+import com.kalayciburak.authservice.security.password.PasswordBloomFilter;
+import com.kalayciburak.authservice.security.password.TimedCompromisedPasswordChecker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.web.authentication.password.HaveIBeenPwnedRestApiPasswordChecker;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Parola sızdırılmışlık kontrolü yapılandırması.
+ * <p>
+ * {@code app.password.breach-check.mode} ile seçilir:
+ * <ul>
+ *     <li>{@code api} (varsayılan): Her kontrolde HaveIBeenPwned API'sine istek atılır.</li>
+ *     <li>{@code filter}: {@code app.password.breach-check.filter-file} ile verilen yerel Bloom filtresi dosyası
+ *     kullanılır, ağa çıkılmaz. Dosya {@code BreachedPasswordFilterBuilder} ile oluşturulur. Dosya açılamazsa ve
+ *     {@code fallback-to-range} açıksa önbellekli range moduna geçilir.</li>
+ *     <li>{@code range}: k-anonymity range API'si, yanıtlar önek bazında önbelleğe alınarak kullanılır.</li>
+ *     <li>{@code local}: Sadece bellekteki küçük bir yaygın parola listesi; yerel yük testleri ({@code perf} profili)
+ *     ve geliştirme içindir.</li>
+ * </ul>
+ * Kontrol süreleri her modda {@code auth.password.breach-check} metriğine yazılır.
+ */
+@Slf4j
+@Configuration
+public class BreachedPasswordConfig {
+    private static final String RANGE_API_URL = "https://api.pwnedpasswords.com";
+
+    @Value("${app.password.breach-check.mode:api}")
+    private String mode;
+
+    @Value("${app.password.breach-check.filter-file:}")
+    private String filterFile;
+
+    @Value("${app.password.breach-check.fallback-to-range:true}")
+    private boolean fallbackToRange;
+
+    @Value("${app.password.breach-check.range.cache-size:10000}")
+    private int rangeCacheSize;
+
+    @Value("${app.password.breach-check.range.cache-ttl-ms:86400000}")
+    private long rangeCacheTtlMs;
+
+    @Value("${app.password.breach-check.range.timeout-ms:2000}")
+    private int rangeTimeoutMs;
+
+    /**
+     * Seçilen moda göre {@link CompromisedPasswordChecker} bean'i.
+     *
+     * @param meterRegistry Kontrol sürelerinin yazılacağı metrik kaydı
+     * @return Parola sızıntı kontrolcüsü
+     */
+    @Bean
+    public CompromisedPasswordChecker compromisedPasswordChecker(MeterRegistry meterRegistry) {
+        var checker = switch (mode) {
+            case "filter" -> filterChecker();
+            case "range" -> rangeChecker();
+            case "api" -> new HaveIBeenPwnedRestApiPasswordChecker();
+            case "local" -> new CommonPasswordChecker();
+            default -> throw new IllegalStateException("Geçersiz parola sızıntı kontrol modu: " + mode);
+        };
+
+        return new TimedCompromisedPasswordChecker(checker, meterRegistry);
+    }
+
+    private CompromisedPasswordChecker filterChecker() {
+        try {
+            if (filterFile.isBlank() || !Files.isReadable(Path.of(filterFile)))
+                throw new IOException("Parola filtresi dosyası bulunamadı: " + filterFile);
+
+            var filter = PasswordBloomFilter.open(Path.of(filterFile));
+            log.info("Parola filtresi yüklendi: {} özet, {} MB, {} hash fonksiyonu.", filter.count(), filter.bits() >>> 23,
+                    filter.hashFunctions());
+            return new BloomFilterPasswordChecker(filter);
+        } catch (IOException e) {
+            if (!fallbackToRange) throw new IllegalStateException("Parola filtresi yüklenemedi.", e);
+
+            log.warn("Parola filtresi yüklenemedi, önbellekli range API kullanılacak: {}", e.getMessage());
+            return rangeChecker();
+        }
+    }
+
+    private CompromisedPasswordChecker rangeChecker() {
+        var requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(rangeTimeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(rangeTimeoutMs));
+        var restClient = RestClient.builder().baseUrl(RANGE_API_URL).requestFactory(requestFactory).build();
+
+        return new CachedRangePasswordChecker(restClient, rangeCacheSize, rangeCacheTtlMs);
+    }
+}
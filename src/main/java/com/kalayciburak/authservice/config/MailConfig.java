@@ -0,0 +1,81 @@
+package com.kalayciburak.authservice.config;
+
+import com.kalayciburak.authservice.service.mail.EmailTemplateEngine;
+import com.kalayciburak.authservice.service.mail.SmtpSessionPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * SMTP oturum havuzu ve email şablon motoru yapılandırması.
+ * <p>
+ * Sunucu adresi, kimlik bilgileri ve {@code mail.smtp.*} özellikleri Spring Boot'un oluşturduğu
+ * {@link JavaMailSenderImpl} üzerinden ({@code spring.mail.*}) alınır; havuza özel ayarlar {@code app.mail.pool.*}
+ * altındadır.
+ */
+@Configuration
+public class MailConfig {
+    @Value("${app.mail.pool.max-sessions:2}")
+    private int maxSessions;
+
+    @Value("${app.mail.pool.max-idle-ms:60000}")
+    private long maxIdleMs;
+
+    @Value("${app.mail.pool.max-messages-per-second:10}")
+    private double maxMessagesPerSecond;
+
+    @Value("${app.mail.templates.default-locale:tr}")
+    private String defaultLocale;
+
+    @Value("${app.mail.templates.locales:tr,en}")
+    private List<String> locales;
+
+    /**
+     * SMTP oturumlarını yeniden kullanan havuzu oluşturur. Uygulama kapanırken açık oturumlar kapatılır.
+     *
+     * @param mailSender Spring Boot tarafından yapılandırılmış mail sender
+     * @return {@link SmtpSessionPool}
+     */
+    @Bean(destroyMethod = "close")
+    public SmtpSessionPool smtpSessionPool(JavaMailSenderImpl mailSender) {
+        return new SmtpSessionPool(mailSender.getSession(), mailSender.getProtocol(), mailSender.getHost(),
+                mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword(),
+                maxSessions, maxIdleMs, maxMessagesPerSecond);
+    }
+
+    /**
+     * Email şablonlarını başlangıçta yükleyip ayrıştırır. Varsayılan dilde eksik veya hatalı şablon varsa uygulama açılmaz.
+     *
+     * @return {@link EmailTemplateEngine}
+     */
+    @Bean
+    public EmailTemplateEngine emailTemplateEngine() {
+        return EmailTemplateEngine.load(getClass().getClassLoader(), defaultLocale, locales);
+    }
+
+    /**
+     * İsteğin dilini {@code Accept-Language} başlığından şablon dilleri arasından seçer. Başlık yoksa veya hiçbir dil
+     * desteklenmiyorsa JVM'in varsayılan dili yerine {@code app.mail.templates.default-locale} kullanılır.
+     *
+     * @return {@link AcceptHeaderLocaleResolver}
+     */
+    @Bean
+    public LocaleResolver localeResolver() {
+        var supported = new LinkedHashSet<String>();
+        supported.add(defaultLocale);
+        supported.addAll(locales);
+
+        var resolver = new AcceptHeaderLocaleResolver();
+        resolver.setDefaultLocale(Locale.forLanguageTag(defaultLocale));
+        resolver.setSupportedLocales(supported.stream().map(Locale::forLanguageTag).toList());
+
+        return resolver;
+    }
+}
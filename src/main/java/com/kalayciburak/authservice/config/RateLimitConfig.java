@@ -0,0 +1,40 @@
+package com.kalayciburak.authservice.config;
+
+import com.kalayciburak.authservice.service.ratelimit.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Hız sınırı ve başarısız giriş sayacı depolarının yapılandırması.
+ * <p>
+ * Varsayılan olarak sayaçlar instance belleğinde tutulur. Birden fazla instance çalışıyorsa sınırların ortak olması için
+ * {@code app.ratelimit.store=redis} ile Redis deposu kullanılmalıdır.
+ */
+@Configuration
+public class RateLimitConfig {
+    @Bean
+    @ConditionalOnProperty(name = "app.ratelimit.store", havingValue = "redis")
+    public RateLimitStore redisRateLimitStore(RedisTemplate<String, Object> redisTemplate) {
+        return new RedisRateLimitStore(redisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.ratelimit.store", havingValue = "memory", matchIfMissing = true)
+    public RateLimitStore inMemoryRateLimitStore() {
+        return new InMemoryRateLimitStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.ratelimit.store", havingValue = "redis")
+    public LoginAttemptStore redisLoginAttemptStore(RedisTemplate<String, Object> redisTemplate) {
+        return new RedisLoginAttemptStore(redisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.ratelimit.store", havingValue = "memory", matchIfMissing = true)
+    public LoginAttemptStore inMemoryLoginAttemptStore() {
+        return new InMemoryLoginAttemptStore();
+    }
+}
@@ -0,0 +1,101 @@
+package com.kalayciburak.authservice.config;
+
+import com.kalayciburak.authservice.config.datasource.ReadReplicaRoutingDataSource;
+import com.kalayciburak.authservice.config.datasource.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Read-only transaction'ları MySQL replikalarına yönlendiren DataSource yapılandırması.
+ * <p>
+ * {@code app.datasource.replicas.enabled=true} olduğunda devreye girer. Primary bağlantı havuzu standart
+ * {@code spring.datasource.*} ayarlarıyla, replika havuzları ise {@code app.datasource.replicas.urls} listesindeki adreslerle
+ * (aynı kullanıcı adı ve parola ile) oluşturulur.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+    @Value("${app.datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replicas.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${app.datasource.replicas.read-your-writes-ms:0}")
+    private long readYourWritesMs;
+
+    /**
+     * Primary (yazma) veritabanı için Hikari bağlantı havuzu.
+     *
+     * @param properties Spring datasource ayarları
+     * @return Primary {@link HikariDataSource}
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Read-only transaction'ları replikalara yönlendiren DataSource.
+     * <p>
+     * Bean olarak kaydedilir; böylece replika sağlık kontrolü {@code @Scheduled} ile çalışır ve uygulama kapanırken replika
+     * havuzları kapatılır.
+     *
+     * @param primaryDataSource Primary DataSource
+     * @param properties        Spring datasource ayarları
+     * @return {@link ReadReplicaRoutingDataSource}
+     */
+    @Bean
+    public ReadReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 DataSourceProperties properties) {
+        var replicas = replicaUrls.stream()
+                .map(url -> (DataSource) buildReplica(url, properties))
+                .toList();
+
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker());
+    }
+
+    /**
+     * Uygulamanın kullandığı DataSource.
+     * <p>
+     * Bağlantı, transaction'ın read-only bilgisi belli olduktan sonra ilk SQL ifadesinde alınsın diye yönlendirici
+     * {@link LazyConnectionDataSourceProxy} ile sarmalanır.
+     *
+     * @param replicaRoutingDataSource Yönlendirici DataSource
+     * @return Uygulamanın kullanacağı {@link DataSource}
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(readYourWritesMs);
+    }
+
+    private HikariDataSource buildReplica(String url, DataSourceProperties properties) {
+        var replica = new HikariDataSource();
+        replica.setJdbcUrl(url);
+        replica.setUsername(properties.determineUsername());
+        replica.setPassword(properties.determinePassword());
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setReadOnly(true);
+        replica.setPoolName("replica-" + replicaUrls.indexOf(url));
+
+        return replica;
+    }
+}
@@ -4,11 +4,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 /**
  * Redis bağlantı yapılandırmasını sağlayan konfigürasyon sınıfı.
  * <p>
@@ -26,6 +29,9 @@ public class RedisConfig {
     @Value("${spring.data.redis.password}")
     private String redisPassword;
 
+    @Value("${app.redis.command-timeout-ms:2000}")
+    private long commandTimeoutMs;
+
     /**
      * Redis bağlantısını oluşturan Bean.
      * <p>
@@ -34,6 +40,9 @@ public class RedisConfig {
      *     <li>Şifre belirtilmişse yapılandırılır.</li>
      *     <li>{@link LettuceConnectionFactory} kullanılarak bağlantı oluşturulur.</li>
      * </ol>
+     * Lettuce bağlantısı thread-safe'tir ve tüm istekler tek bir paylaşılan (multiplexed) bağlantı üzerinden gönderilir;
+     * bu nedenle sanal thread sayısı ne kadar artarsa artsın Redis'e açılan bağlantı sayısı artmaz. Komut zaman aşımı
+     * ({@code app.redis.command-timeout-ms}), Redis yavaşladığında bekleyen isteklerin sınırsız birikmesini engeller.
      *
      * @return Redis bağlantısı için {@link LettuceConnectionFactory} Bean'i
      */
@@ -42,7 +51,11 @@ public class RedisConfig {
         var config = new RedisStandaloneConfiguration(redisHost, redisPort);
         if (redisPassword != null && !redisPassword.isBlank()) config.setPassword(redisPassword);
 
-        return new LettuceConnectionFactory(config);
+        var clientConfig = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(commandTimeoutMs))
+                .build();
+
+        return new LettuceConnectionFactory(config, clientConfig);
     }
 
     /**
@@ -0,0 +1,23 @@
+package com.kalayciburak.authservice.config;
+
+import com.kalayciburak.authservice.service.helper.VerificationTokenSigner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * İmzalı (veritabanında saklanmayan) email doğrulama token'ları yapılandırması.
+ * <p>
+ * {@code app.verification.token-mode=signed} olduğunda devreye girer. İmza anahtarı {@code app.verification.hmac-secret}
+ * ile (Vault üzerinden) verilmelidir; anahtar değiştirilirse gönderilmiş ama kullanılmamış linkler geçersiz olur.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.verification.token-mode", havingValue = "signed")
+public class SignedVerificationTokenConfig {
+    @Bean
+    public VerificationTokenSigner verificationTokenSigner(@Value("${app.verification.hmac-secret}") String secret) {
+        return new VerificationTokenSigner(secret);
+    }
+}
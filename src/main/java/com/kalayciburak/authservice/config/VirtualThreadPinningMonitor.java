@@ -0,0 +1,89 @@
+package com.kalayciburak.authservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Sanal thread'lerin carrier thread'e sabitlendiği (pinning) durumları JFR ile izler.
+ * <p>
+ * Java 21'de sanal thread, {@code synchronized} blok içinde veya native çağrıda bloklanırsa carrier thread'i bırakamaz;
+ * bu durum sık yaşanırsa sanal thread'lerin ölçeklenme avantajı kaybolur. Bu sınıf {@code jdk.VirtualThreadPinned}
+ * olaylarını dinler:
+ * <ul>
+ *     <li>Eşik süresini ({@code app.virtual-threads.pinned-threshold-ms}) aşan her olay
+ *     {@code auth.virtual-threads.pinned} metriğine yazılır.</li>
+ *     <li>Her farklı sabitlenme noktası için yığın izi bir kez loglanır.</li>
+ * </ul>
+ * Sadece {@code spring.threads.virtual.enabled=true} olduğunda çalışır.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedLocations = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.virtual-threads.pinned-threshold-ms:20}")
+    private long thresholdMs;
+
+    private volatile RecordingStream stream;
+
+    @Override
+    public void start() {
+        var recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Sanal thread pinning izleme başlatıldı (eşik: {} ms).", thresholdMs);
+    }
+
+    @Override
+    public void stop() {
+        var recording = stream;
+        stream = null;
+        if (recording != null) recording.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        meterRegistry.timer("auth.virtual-threads.pinned").record(event.getDuration());
+
+        var stackTrace = event.getStackTrace();
+        if (stackTrace == null) return;
+
+        var frames = stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::format)
+                .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+        if (reportedLocations.add(frames))
+            log.warn("Sanal thread {} ms boyunca carrier thread'e sabitlendi (pinned):\n{}", event.getDuration().toMillis(), frames);
+    }
+
+    private static String format(RecordedFrame frame) {
+        var method = frame.getMethod();
+
+        return method.getType().getName() + "." + method.getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,123 @@
+package com.kalayciburak.authservice.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only transaction'ları sağlıklı replikalara, diğer tüm işlemleri primary veritabanına yönlendiren DataSource.
+ * <p>
+ * <ul>
+ *     <li>Replikalar arasında round-robin dağıtım yapılır.</li>
+ *     <li>Sağlıksız replikalar periyodik kontrol ile devre dışı bırakılır; hiç sağlıklı replika yoksa primary kullanılır.</li>
+ *     <li>{@link ReadYourWritesTracker} açıksa, kullanıcının kendi yazmalarından sonraki okumaları primary'ye gider.</li>
+ * </ul>
+ * <p>
+ * Transaction'ın read-only bilgisi bağlantı alındıktan sonra ayarlandığı için bu sınıf mutlaka
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} ile sarmalanarak kullanılmalıdır.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final List<DataSource> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger counter = new AtomicInteger();
+    private volatile int[] healthyReplicas;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker tracker) {
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = tracker;
+        this.healthyReplicas = allReplicaIndexes();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) targets.put(i, this.replicas.get(i));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteIfNeeded();
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.isWithinWriteWindow()) return PRIMARY;
+
+        var healthy = healthyReplicas;
+        if (healthy.length == 0) return PRIMARY;
+
+        return healthy[Math.floorMod(counter.getAndIncrement(), healthy.length)];
+    }
+
+    /**
+     * Replikaların bağlantı sağlığını kontrol eder ve yönlendirilebilir replika listesini günceller.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkReplicaHealth() {
+        var healthy = new int[replicas.size()];
+        int count = 0;
+        for (int i = 0; i < replicas.size(); i++) {
+            if (isHealthy(replicas.get(i))) healthy[count++] = i;
+            else log.warn("Replika {} sağlıksız, okumalar diğer replikalara veya primary'ye yönlendirilecek.", i);
+        }
+
+        this.healthyReplicas = Arrays.copyOf(healthy, count);
+        readYourWritesTracker.purgeExpired();
+    }
+
+    /**
+     * Read-write transaction commit edildiğinde kullanıcının yazma işlemini kaydeder.
+     */
+    private void registerWriteIfNeeded() {
+        if (!readYourWritesTracker.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite();
+            }
+        });
+    }
+
+    /**
+     * Replika bağlantı havuzlarını kapatır. Primary havuzu kendi bean yaşam döngüsüyle kapatılır.
+     */
+    public void close() {
+        for (var replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Replika bağlantı havuzu kapatılamadı.", e);
+                }
+            }
+        }
+    }
+
+    private static boolean isHealthy(DataSource dataSource) {
+        try (var connection = dataSource.getConnection()) {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private int[] allReplicaIndexes() {
+        var indexes = new int[replicas.size()];
+        for (int i = 0; i < indexes.length; i++) indexes[i] = i;
+
+        return indexes;
+    }
+}
@@ -0,0 +1,70 @@
+package com.kalayciburak.authservice.config.datasource;
+
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kullanıcının kendi yazma işlemlerinden sonraki kısa bir süre boyunca okumalarının primary veritabanına yönlendirilmesini
+ * sağlayan takipçi.
+ * <p>
+ * Replikasyon gecikmesi nedeniyle kullanıcının az önce yaptığı değişikliği replikadan okuyamaması engellenir. Kullanıcı,
+ * SecurityContext'teki kimlik adı (email) ile tanımlanır; kimliği olmayan istekler takip edilmez. Bu yüzden kayıt,
+ * doğrulama emaili, email doğrulama ve giriş gibi anonim akışlar read-only olmayan transaction'larla primary'de çalışır.
+ * </p>
+ */
+public class ReadYourWritesTracker {
+    private final long windowMs;
+    private final ConcurrentHashMap<String, Long> primaryUntilByUser = new ConcurrentHashMap<>();
+
+    /**
+     * @param windowMs Yazma sonrası okumaların primary'ye yönlendirileceği süre (ms). 0 ise takip kapalıdır.
+     */
+    public ReadYourWritesTracker(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public boolean isEnabled() {
+        return windowMs > 0;
+    }
+
+    /**
+     * Mevcut kullanıcı için yazma işlemini kaydeder.
+     */
+    public void recordWrite() {
+        var user = currentUser();
+        if (user != null) primaryUntilByUser.put(user, System.currentTimeMillis() + windowMs);
+    }
+
+    /**
+     * Mevcut kullanıcının okuma işlemlerinin hâlâ primary'ye yönlendirilmesi gerekip gerekmediğini döner.
+     *
+     * @return Kullanıcı yazma penceresi içindeyse true
+     */
+    public boolean isWithinWriteWindow() {
+        if (primaryUntilByUser.isEmpty()) return false;
+        var user = currentUser();
+        if (user == null) return false;
+
+        var until = primaryUntilByUser.get(user);
+        if (until == null) return false;
+        if (until > System.currentTimeMillis()) return true;
+
+        primaryUntilByUser.remove(user, until);
+        return false;
+    }
+
+    /**
+     * Süresi dolmuş kayıtları temizler.
+     */
+    public void purgeExpired() {
+        var now = System.currentTimeMillis();
+        primaryUntilByUser.values().removeIf(until -> until <= now);
+    }
+
+    private static String currentUser() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
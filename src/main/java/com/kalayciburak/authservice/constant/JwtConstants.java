@@ -1,5 +1,11 @@
 package com.kalayciburak.authservice.constant;
 
+/**
+ * Token claim adları ve sabit değerleri.
+ * <p>
+ * {@code token-client} modülündeki {@code AuthClientConstants} bu değerlerin kopyasını tutar; buradaki bir değer
+ * değiştirildiğinde orası da güncellenmelidir.
+ */
 public final class JwtConstants {
     public static final String ROLES_CLAIM = "roles";
     public static final String REALM_ACCESS_CLAIM = "realm_access";
@@ -0,0 +1,16 @@
+package com.kalayciburak.authservice.constant;
+
+/**
+ * Hız sınırı hatalarının tipi, kodu ve mesajı.
+ * <p>
+ * Diğer hata sabitleri ortak paketteki {@code Types}, {@code Codes} ve {@code Messages} sınıflarındadır; hız sınırı
+ * sadece bu serviste kullanıldığı için sabitleri burada tutulur.
+ */
+public final class RateLimitConstants {
+    public static final String TOO_MANY_REQUESTS_TYPE = "TOO_MANY_REQUESTS";
+    public static final String TOO_MANY_REQUESTS_CODE = "AUTH_TOO_MANY_REQUESTS";
+    public static final String TOO_MANY_REQUESTS_MESSAGE = "Çok fazla istek gönderildi. Lütfen daha sonra tekrar deneyin.";
+
+    private RateLimitConstants() {
+    }
+}
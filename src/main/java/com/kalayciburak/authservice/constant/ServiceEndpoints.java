@@ -0,0 +1,19 @@
+package com.kalayciburak.authservice.constant;
+
+/**
+ * Sadece {@code ROLE_SERVICE} rolüne sahip servis hesaplarının erişebildiği uç noktalar.
+ * <p>
+ * Bu yollar {@link PublicEndpoints}'teki {@code /api/auth/**} kalıbına da uyar; güvenlik yapılandırmasında ondan önce
+ * eşleştirilir ve JWT filtresi bu yollarda token'ı işler.
+ */
+public final class ServiceEndpoints {
+    public static final String ROLE = "SERVICE";
+
+    public static final String[] ENDPOINTS = {
+            "/api/auth/introspect",
+            "/api/auth/revocations/stream"
+    };
+
+    private ServiceEndpoints() {
+    }
+}
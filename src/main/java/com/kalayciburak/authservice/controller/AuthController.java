@@ -5,9 +5,12 @@ import com.kalayciburak.authservice.model.dto.request.RegisterRequest;
 import com.kalayciburak.authservice.service.AuthService;
 import com.kalayciburak.authservice.service.EmailVerificationService;
 import com.kalayciburak.authservice.service.UserService;
+import com.kalayciburak.authservice.service.ratelimit.LoginThrottle;
+import com.kalayciburak.authservice.service.ratelimit.ResendVerificationThrottle;
 import com.kalayciburak.commonpackage.core.response.common.Response;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +27,8 @@ public class AuthController {
     private final UserService userService;
     private final AuthService authService;
     private final EmailVerificationService verificationService;
+    private final LoginThrottle loginThrottle;
+    private final ResendVerificationThrottle resendThrottle;
 
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.CREATED)
@@ -34,8 +39,12 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "Giriş yap ve access token al", description = "Email ve şifre ile kimlik doğrulaması yapar ve Access/Refresh token üretir. Email doğrulaması gereklidir.")
-    public Response login(@RequestBody @Valid LoginRequest request) {
-        return authService.login(request);
+    public Response login(@RequestBody @Valid LoginRequest request, HttpServletRequest httpRequest) {
+        // Bekleme süresindeki hesap veya IP, transaction açılmadan ve veritabanına gidilmeden reddedilir. İstemci IP'si
+        // güvenilen proxy'lerin X-Forwarded-For header'ından Tomcat tarafından çözülür (server.forward-headers-strategy)
+        loginThrottle.check(request.email(), httpRequest.getRemoteAddr());
+
+        return authService.login(request, httpRequest.getRemoteAddr());
     }
 
     @PostMapping("/logout")
@@ -60,8 +69,10 @@ public class AuthController {
 
     @PostMapping("/resend-verification-email")
     @Operation(summary = "Doğrulama emailini tekrar gönder", description = "Email doğrulama linkini tekrar gönderir.")
-    public Response resendVerificationEmail(@RequestParam @Email String email) {
-        verificationService.resendVerificationEmail(email);
+    public Response resendVerificationEmail(@RequestParam @Email String email, HttpServletRequest request) {
+        // Bekleme süresi içindeki tekrar istekleri veritabanına gitmeden önceki istekle birleştirilir. İstemci IP'si,
+        // girişteki gibi güvenilen proxy'lerin X-Forwarded-For header'ından çözülür
+        if (resendThrottle.acquire(email, request.getRemoteAddr())) verificationService.resendVerificationEmail(email);
 
         return createSuccessResponse("Doğrulama emaili tekrar gönderildi.");
     }
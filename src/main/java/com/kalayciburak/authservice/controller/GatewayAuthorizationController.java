@@ -0,0 +1,52 @@
+package com.kalayciburak.authservice.controller;
+
+import com.kalayciburak.authservice.service.GatewayAuthorizationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * API gateway'in alt istek ile yetkilendirme yaptığı endpoint (NGINX {@code auth_request}, Envoy {@code ext_authz}).
+ * <p>
+ * Gövde dönmez: geçerli token için {@code 200} ile birlikte kimlik {@value #USER_HEADER}, roller {@value #ROLES_HEADER}
+ * başlığında; geçersiz, süresi dolmuş, kara listedeki veya eksik token için {@code 401} döner. Her HTTP metodunu ve
+ * {@code /api/auth/authorize} altındaki her yolu kabul eder; böylece Envoy'un orijinal yolu önek olarak eklemesi veya
+ * NGINX'in orijinal metodu kullanması sorun olmaz.
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Gateway Yetkilendirme", description = "API gateway alt istekleri için token doğrulama")
+public class GatewayAuthorizationController {
+    static final String USER_HEADER = "X-Auth-User";
+    static final String ROLES_HEADER = "X-Auth-Roles";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final GatewayAuthorizationService service;
+
+    @RequestMapping({"/api/auth/authorize", "/api/auth/authorize/**"})
+    @Operation(summary = "Gateway için token doğrula", description = "Bearer token geçerliyse 200 ve kimlik/rol başlıkları, değilse 401 döner. Gövde boştur.")
+    public void authorize(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                          HttpServletResponse response) {
+        var decision = service.authorize(getBearerToken(authorization));
+        if (!decision.allowed()) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader(USER_HEADER, decision.subject());
+        response.setHeader(ROLES_HEADER, decision.roles());
+    }
+
+    private static String getBearerToken(String authorization) {
+        return authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? authorization.substring(BEARER_PREFIX.length())
+                : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.kalayciburak.authservice.controller;
+
+import com.kalayciburak.authservice.model.dto.request.IntrospectionRequest;
+import com.kalayciburak.authservice.model.dto.response.IntrospectionResponse;
+import com.kalayciburak.authservice.service.TokenIntrospectionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * JWT'leri yerelde doğrulayamayan servisler için toplu token introspection endpoint'i.
+ * <p>
+ * RFC 7662 alan adlarıyla cevap verir; tek bir istekte birden fazla token kabul eder ve sonuçları aynı sırayla döner.
+ * Sadece {@code ROLE_SERVICE} rolüne sahip servis hesaplarının access token'ıyla çağrılabilir
+ * ({@link com.kalayciburak.authservice.constant.ServiceEndpoints}).
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Token Introspection", description = "Toplu token doğrulama (RFC 7662 alanlarıyla)")
+public class IntrospectionController {
+    private final TokenIntrospectionService service;
+
+    @PostMapping(value = "/api/auth/introspect", produces = "application/json")
+    @Operation(summary = "Token'ları toplu doğrula", description = "Her token için aktif olup olmadığını ve aktifse claim'lerini döner. Tek istekte en fazla 100 token.")
+    public IntrospectionResponse introspect(@RequestBody @Valid IntrospectionRequest request) {
+        return service.introspect(request.tokens());
+    }
+}
@@ -6,9 +6,13 @@ import com.kalayciburak.authservice.security.token.RsaKeyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * JWK (JSON Web Key) endpoint'lerini sunan controller sınıfı.
  * <p>
@@ -25,12 +29,19 @@ public class JwkController {
      * JWK Set endpoint'i.
      * <p>
      * Bu endpoint diğer microservislerin JWT token'larını doğrulaması için RSA public key bilgilerini JWK formatında sunar.
+     * Yanıt, key ID'si {@code ETag} olarak işaretlenir; {@code If-None-Match} ile gelen koşullu isteklere key
+     * değişmediyse gövdesiz {@code 304} döner.
      *
      * @return JWK Set formatında public key bilgileri
      */
     @GetMapping("/.well-known/jwks.json")
     @Operation(summary = "JWK Set al", description = "JWT token doğrulaması için public key bilgilerini JWK formatında döndürür")
-    public JwkSetResponse getJwkSet() {
-        return JwkSetResponse.of(JwkResponse.fromRSAPublicKey(rsaKeyService.getPublicKey(), rsaKeyService.getKeyId()));
+    public ResponseEntity<JwkSetResponse> getJwkSet() {
+        var keyId = rsaKeyService.getKeyId();
+
+        return ResponseEntity.ok()
+                .eTag(keyId)
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(JwkSetResponse.of(JwkResponse.fromRSAPublicKey(rsaKeyService.getPublicKey(), keyId)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.kalayciburak.authservice.controller;
+
+import com.kalayciburak.authservice.service.RevocationFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Token iptal akışı endpoint'i.
+ * <p>
+ * Gateway'ler ve diğer servisler bu akışa abone olarak iptal kümesini bellekte tutar; böylece her istekte Redis'e veya
+ * bu servise sorgu atmadan iptal edilmiş token'ları reddedebilir. Akışta kullanıcıların tuzsuz email özetleri yer
+ * aldığı için sadece {@code ROLE_SERVICE} rolüne sahip servis hesaplarının access token'ıyla abone olunabilir
+ * ({@link com.kalayciburak.authservice.constant.ServiceEndpoints}).
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Token İptal Akışı", description = "İptal edilen token ve kullanıcıların Server-Sent Events ile yayını")
+public class RevocationFeedController {
+    private final RevocationFeedService service;
+
+    @GetMapping(value = "/api/auth/revocations/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "İptal akışına abone ol",
+            description = "Bağlanınca iptal kümesinin tamamını (snapshot) veya Last-Event-ID'den sonra kaçırılan olayları, ardından yeni iptalleri (token, user) gönderir")
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return service.subscribe(lastEventId);
+    }
+}
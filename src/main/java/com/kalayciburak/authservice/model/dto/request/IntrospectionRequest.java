@@ -0,0 +1,19 @@
+package com.kalayciburak.authservice.model.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Birden fazla token'ın tek istekte sorgulanması için kullanılan introspection request sınıfıdır.
+ *
+ * @param tokens Sorgulanacak token'lar (en fazla 100)
+ */
+public record IntrospectionRequest(
+        @NotEmpty(message = "En az bir token gönderilmelidir")
+        @Size(max = 100, message = "Tek istekte en fazla 100 token sorgulanabilir")
+        List<@NotBlank(message = "Token boş bırakılamaz") String> tokens
+) {
+}
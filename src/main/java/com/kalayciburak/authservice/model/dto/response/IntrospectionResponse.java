@@ -0,0 +1,11 @@
+package com.kalayciburak.authservice.model.dto.response;
+
+import java.util.List;
+
+/**
+ * Toplu introspection sonucunu temsil eden response sınıfı. Sonuçlar, istekteki token sırasıyla döner.
+ *
+ * @param results Token başına introspection sonuçları
+ */
+public record IntrospectionResponse(List<TokenIntrospectionResponse> results) {
+}
@@ -0,0 +1,29 @@
+package com.kalayciburak.authservice.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tek bir token'ın introspection sonucunu temsil eden response sınıfı.
+ * <p>
+ * RFC 7662 alan adlarını kullanır. Token aktif değilse sadece {@code active: false} döner; sebebi (süresi dolmuş, imzası
+ * geçersiz, kara listede) bilinçli olarak açıklanmaz.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenIntrospectionResponse(
+        @JsonProperty("active") boolean active,
+        @JsonProperty("sub") String subject,
+        @JsonProperty("scope") String scope,
+        @JsonProperty("token_type") String tokenType,
+        @JsonProperty("exp") Long expiresAt,
+        @JsonProperty("iat") Long issuedAt,
+        @JsonProperty("iss") String issuer,
+        @JsonProperty("aud") Set<String> audience,
+        @JsonProperty("roles") List<String> roles) {
+    public static final TokenIntrospectionResponse INACTIVE = TokenIntrospectionResponse.builder().active(false).build();
+}
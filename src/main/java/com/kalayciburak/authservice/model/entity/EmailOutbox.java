@@ -0,0 +1,68 @@
+package com.kalayciburak.authservice.model.entity;
+
+import com.kalayciburak.authservice.model.enums.EmailType;
+import com.kalayciburak.authservice.model.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Gönderilecek emaillerin, ilgili iş işlemiyle aynı transaction içinde yazıldığı outbox kaydı.
+ * <p>
+ * Kayıtlar arka planda çalışan dispatcher tarafından sahiplenilir, gönderilir ve sonuçlarına göre işaretlenir.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_email_outbox_recipient", columnList = "recipient")})
+public class EmailOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailType type;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false, length = 50)
+    private String firstName;
+
+    @Column(nullable = false, length = 50)
+    private String lastName;
+
+    private String token;
+
+    @Column(length = 10)
+    private String locale; // Şablon dil etiketi (örn. tr, en-US); boşsa varsayılan dil kullanılır
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime claimedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+}
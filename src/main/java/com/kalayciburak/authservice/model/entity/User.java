@@ -3,6 +3,10 @@ package com.kalayciburak.authservice.model.entity;
 import com.kalayciburak.commonjpa.model.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.util.HashSet;
@@ -16,6 +20,8 @@ import java.util.Set;
 @AllArgsConstructor
 @Table(name = "users")
 @SQLRestriction("is_active=true")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users.natural-id")
 public class User extends BaseEntity {
     @Column(nullable = false, length = 50)
     private String firstName;
@@ -23,6 +29,7 @@ public class User extends BaseEntity {
     @Column(nullable = false, length = 50)
     private String lastName;
 
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String email;
 
@@ -33,7 +40,10 @@ public class User extends BaseEntity {
     @Builder.Default
     private boolean emailVerified = false;
 
+    private Long verificationNonce; // İmzalı doğrulama token'larını tek kullanımlık yapan nonce, doğrulamada silinir
+
     @ManyToMany(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users.roles")
     @JoinTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"), inverseJoinColumns = @JoinColumn(name = "role_id"))
     private Set<Role> roles = new HashSet<>();
 }
@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "verification_tokens")
+@Table(name = "verification_tokens", indexes = @Index(name = "idx_verification_tokens_expiry_date", columnList = "expiry_date"))
 public class VerificationToken extends BaseEntity {
     @Column(nullable = false, unique = true)
     private String token;
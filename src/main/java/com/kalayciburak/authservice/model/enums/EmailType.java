@@ -0,0 +1,19 @@
+package com.kalayciburak.authservice.model.enums;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public enum EmailType {
+    VERIFICATION("verification", List.of("name", "link")), // Email doğrulama linki
+    WELCOME("welcome", List.of("name")); // Doğrulama sonrası hoş geldiniz emaili
+
+    private final String templateName; // templates/email/{locale}/{templateName}.html|.txt
+    private final List<String> parameters; // Şablon parametreleri, render sırasında bu sırayla verilir
+
+    EmailType(String templateName, List<String> parameters) {
+        this.templateName = templateName;
+        this.parameters = parameters;
+    }
+}
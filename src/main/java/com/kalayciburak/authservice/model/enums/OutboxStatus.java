@@ -0,0 +1,8 @@
+package com.kalayciburak.authservice.model.enums;
+
+public enum OutboxStatus {
+    PENDING, // Gönderilmeyi bekliyor (ilk deneme veya yeniden deneme)
+    PROCESSING, // Bir dispatcher tarafından sahiplenildi
+    SENT, // Başarıyla gönderildi
+    DEAD // Maksimum deneme sayısına ulaşıldı, manuel inceleme gerekli
+}
@@ -5,5 +5,6 @@ public enum RoleType {
     ROLE_PREMIUM, // Premium üyelik
     ROLE_GUEST, // Misafir kullanıcı
     ROLE_ADMIN, // Yönetici
-    ROLE_MODERATOR // Moderatör (readonly admin)
+    ROLE_MODERATOR, // Moderatör (readonly admin)
+    ROLE_SERVICE // Servis hesabı (token introspection, iptal akışı)
 }
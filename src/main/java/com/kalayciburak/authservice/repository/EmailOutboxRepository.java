@@ -0,0 +1,83 @@
+package com.kalayciburak.authservice.repository;
+
+import com.kalayciburak.authservice.model.entity.EmailOutbox;
+import com.kalayciburak.authservice.model.enums.EmailType;
+import com.kalayciburak.authservice.model.enums.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+    /**
+     * Gönderim zamanı gelmiş bekleyen kayıtları ve sahiplenme süresi dolmuş (dispatcher'ı çökmüş) kayıtları kilitleyerek
+     * getirir.
+     * <p>
+     * {@code SKIP LOCKED} sayesinde birden fazla instance aynı kayıtları sahiplenmez, birbirini de beklemez.
+     *
+     * @param now         Şu anki zaman
+     * @param staleBefore Bu zamandan önce sahiplenilmiş PROCESSING kayıtlar yeniden sahiplenilebilir
+     * @param pageable    Batch boyutu
+     * @return Sahiplenilecek kayıtlar
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select o from EmailOutbox o
+            where (o.status = com.kalayciburak.authservice.model.enums.OutboxStatus.PENDING and o.nextAttemptAt <= :now)
+               or (o.status = com.kalayciburak.authservice.model.enums.OutboxStatus.PROCESSING and o.claimedAt < :staleBefore)
+            order by o.id
+            """)
+    List<EmailOutbox> findClaimable(@Param("now") LocalDateTime now,
+                                    @Param("staleBefore") LocalDateTime staleBefore,
+                                    Pageable pageable);
+
+    /**
+     * Kullanıcı kaydını yüklemeden, alıcı bilgilerini {@code users} tablosundan okuyarak tek bir {@code INSERT ... SELECT}
+     * ile outbox kaydı ekler.
+     *
+     * @param type   Email tipi
+     * @param userId Alıcı kullanıcı ID'si
+     * @param locale Şablon dili
+     * @param now    Oluşturulma ve ilk deneme zamanı
+     * @return Eklenen kayıt sayısı
+     */
+    @Modifying
+    @Query("""
+            insert into EmailOutbox (type, recipient, firstName, lastName, locale, status, attempts, nextAttemptAt, createdAt)
+            select :type, u.email, u.firstName, u.lastName, :locale,
+                   com.kalayciburak.authservice.model.enums.OutboxStatus.PENDING, 0, :now, :now
+            from User u where u.id = :userId
+            """)
+    int enqueueForUser(@Param("type") EmailType type,
+                       @Param("userId") Long userId,
+                       @Param("locale") String locale,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Alıcı için verilen tipte ve durumlardan birinde kayıt olup olmadığını kontrol eder.
+     *
+     * @param recipient Alıcı email adresi
+     * @param type      Email tipi
+     * @param statuses  Aranan durumlar
+     * @return Kayıt varsa {@code true}
+     */
+    boolean existsByRecipientAndTypeAndStatusIn(String recipient, EmailType type, Collection<OutboxStatus> statuses);
+
+    /**
+     * Belirtilen zamandan önce gönderilmiş kayıtları toplu olarak siler.
+     *
+     * @param before Silme sınırı
+     * @return Silinen kayıt sayısı
+     */
+    @Modifying
+    @Query("delete from EmailOutbox o where o.status = com.kalayciburak.authservice.model.enums.OutboxStatus.SENT and o.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,18 @@
+package com.kalayciburak.authservice.repository;
+
+import com.kalayciburak.authservice.model.entity.User;
+
+import java.util.Optional;
+
+/**
+ * Kullanıcıyı natural id (email) ile yükleyen repository parçası.
+ */
+public interface UserNaturalIdRepository {
+    /**
+     * Email adresine göre kullanıcıyı getirir.
+     *
+     * @param email Email adresi
+     * @return Bulunan kullanıcı
+     */
+    Optional<User> findByEmail(String email);
+}
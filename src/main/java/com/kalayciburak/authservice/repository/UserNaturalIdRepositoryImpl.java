@@ -0,0 +1,27 @@
+package com.kalayciburak.authservice.repository;
+
+import com.kalayciburak.authservice.model.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Kullanıcıyı Hibernate'in natural id API'si ile yükler.
+ * <p>
+ * Türetilmiş bir JPQL sorgusu natural id cache'ini kullanmaz; bu yüzden email ile arama
+ * {@code bySimpleNaturalId} üzerinden yapılır. L2 cache açıkken email → ID çözümlemesi {@code users.natural-id},
+ * entity {@code users} bölgesinden okunur; cache kapalıyken tek bir sorgu atılır.
+ */
+@Transactional(readOnly = true)
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(email);
+    }
+}
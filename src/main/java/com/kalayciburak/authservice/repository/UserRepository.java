@@ -2,13 +2,65 @@ package com.kalayciburak.authservice.repository;
 
 import com.kalayciburak.authservice.model.entity.User;
 import com.kalayciburak.commonjpa.repository.BaseRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-
-import java.util.Optional;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface UserRepository extends BaseRepository<User, Long> {
-    Optional<User> findByEmail(String email);
-
+public interface UserRepository extends BaseRepository<User, Long>, UserNaturalIdRepository {
     boolean existsByEmail(String email);
+
+    /**
+     * Silinecek kullanıcının email adresini {@code deleted.<id>.<email>} biçimine çevirerek eşsizlik kısıtından
+     * serbest bırakır; böylece aynı adresle yeniden kayıt olunabilir. Soft delete'ten önce, aynı transaction içinde
+     * çağrılmalıdır.
+     * <p>
+     * Email natural id olduğu için güncelleme entity üzerinden değil toplu sorgu ile yapılır; persistence context
+     * güncellemeden sonra temizlenir, ikinci seviye cache kayıtları {@code UserCacheEvictor} ile ayrıca silinmelidir.
+     *
+     * @param id Kullanıcı ID'si
+     * @return Güncellenen satır sayısı (0 veya 1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update User u set u.email = substring(concat('deleted.', cast(u.id as String), '.', u.email), 1, 255)
+            where u.id = :id
+            """)
+    int releaseEmail(@Param("id") Long id);
+
+    /**
+     * {@link #releaseEmail(Long)} gelmeden önce soft delete edilmiş, email adresi hâlâ eşsizlik kısıtını tutan
+     * kullanıcıların adreslerini aynı biçimde serbest bırakır. Daha önce serbest bırakılmış satırlara dokunmadığı için
+     * tekrar çalıştırıldığında etkisizdir.
+     * <p>
+     * Entity sorguları {@code is_active=true} kısıtıyla silinmiş satırları görmediği için native sorgu kullanılır.
+     *
+     * @return Güncellenen satır sayısı
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            update users set email = substring(concat('deleted.', id, '.', email), 1, 255)
+            where is_active = false and email not like concat('deleted.', id, '.%')
+            """)
+    int releaseDeletedEmails();
+
+    /**
+     * İmzalı doğrulama token'ı için kullanıcının email'ini tek bir koşullu güncelleme ile doğrular.
+     * <p>
+     * Güncelleme sadece token'daki nonce kullanıcının güncel nonce'ı ise ve email henüz doğrulanmamışsa yapılır; nonce
+     * silindiği için aynı token ikinci kez kullanılamaz.
+     *
+     * @param id    Kullanıcı ID'si
+     * @param nonce Token'daki nonce
+     * @return Güncellenen satır sayısı (0 veya 1)
+     */
+    @Modifying
+    @Query("""
+            update User u set u.emailVerified = true, u.verificationNonce = null
+            where u.id = :id and u.verificationNonce = :nonce and u.emailVerified = false
+            """)
+    int markEmailVerified(@Param("id") Long id, @Param("nonce") Long nonce);
 }
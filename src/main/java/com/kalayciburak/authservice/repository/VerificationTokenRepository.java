@@ -2,10 +2,15 @@ package com.kalayciburak.authservice.repository;
 
 import com.kalayciburak.authservice.model.entity.User;
 import com.kalayciburak.authservice.model.entity.VerificationToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,5 +19,23 @@ public interface VerificationTokenRepository extends JpaRepository<VerificationT
 
     Optional<VerificationToken> findByUser(User user);
 
-    void deleteByExpiryDateBefore(LocalDateTime now);
+    /**
+     * Süresi dolmuş token'ların ID'lerini {@code expiry_date} indeksi sırasıyla getirir.
+     *
+     * @param now      Bu zamandan önce süresi dolmuş token'lar
+     * @param pageable Parça boyutu
+     * @return Token ID'leri
+     */
+    @Query("select t.id from VerificationToken t where t.expiryDate < :now order by t.expiryDate")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Verilen ID'lere sahip token'ları tek bir {@code DELETE} ifadesiyle siler.
+     *
+     * @param ids Token ID'leri
+     * @return Silinen kayıt sayısı
+     */
+    @Modifying
+    @Query("delete from VerificationToken t where t.id in :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
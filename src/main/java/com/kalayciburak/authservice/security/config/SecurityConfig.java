@@ -1,15 +1,18 @@
 package com.kalayciburak.authservice.security.config;
 
 import com.kalayciburak.authservice.constant.PublicEndpoints;
+import com.kalayciburak.authservice.constant.ServiceEndpoints;
 import com.kalayciburak.authservice.security.filter.JwtAuthenticationFilter;
 import com.kalayciburak.authservice.security.handler.CustomAccessDeniedHandler;
 import com.kalayciburak.authservice.security.handler.JwtAuthenticationEntryPoint;
+import com.kalayciburak.authservice.security.password.TimedPasswordEncoder;
 import com.kalayciburak.authservice.security.token.RsaKeyService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.password.CompromisedPasswordChecker;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -22,7 +25,6 @@ import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.security.web.authentication.password.HaveIBeenPwnedRestApiPasswordChecker;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -47,7 +49,11 @@ public class SecurityConfig {
                 // Stateless oturum yönetimi
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Servis uç noktaları /api/auth/** altında olduğu için herkese açık kalıptan önce eşleştirilir
+                        .requestMatchers(ServiceEndpoints.ENDPOINTS).hasRole(ServiceEndpoints.ROLE)
                         .requestMatchers(PublicEndpoints.ENDPOINTS).permitAll()
+                        // Health ve Prometheus, ayrı yönetim portundan (app.management.port) kimlik doğrulamasız okunur
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                         .anyRequest().authenticated())
                 .exceptionHandling(exception -> {
                     exception.authenticationEntryPoint(authenticationEntryPoint);
@@ -105,23 +111,14 @@ public class SecurityConfig {
     }
 
     /**
-     * Parola şifreleme algoritması tanımı.
+     * Parola şifreleme algoritması tanımı. Hash ve karşılaştırma süreleri {@link TimedPasswordEncoder} ile ölçülür.
      *
+     * @param meterRegistry Sürelerin yazılacağı metrik kaydı
      * @return {@link PasswordEncoder} deafult olarak {@link BCryptPasswordEncoder} döner.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
-    }
-
-    /**
-     * Parola sızdırılmışlık kontrolü için HaveIBeenPwned API'sini kullanan bir bean tanımı.
-     *
-     * @return {@link HaveIBeenPwnedRestApiPasswordChecker}
-     */
-    @Bean
-    public CompromisedPasswordChecker compromisedPasswordChecker() {
-        return new HaveIBeenPwnedRestApiPasswordChecker();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder(), meterRegistry);
     }
 
     /**
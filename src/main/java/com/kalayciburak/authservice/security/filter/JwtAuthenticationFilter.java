@@ -1,16 +1,21 @@
 package com.kalayciburak.authservice.security.filter;
 
-import com.kalayciburak.authservice.advice.exception.InvalidJwtException;
-import com.kalayciburak.authservice.advice.exception.TokenTypeMismatchException;
+import com.kalayciburak.authservice.constant.PublicEndpoints;
+import com.kalayciburak.authservice.constant.ServiceEndpoints;
+import com.kalayciburak.authservice.security.handler.JwtRejectionHandler;
 import com.kalayciburak.authservice.security.token.JwtUtil;
 import com.kalayciburak.authservice.security.token.TokenBlacklistService;
 import com.kalayciburak.authservice.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -20,6 +25,22 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import static com.kalayciburak.authservice.constant.JwtConstants.ACCESS_TOKEN_TYPE;
 
+/**
+ * Bearer token ile gelen istekleri doğrulayıp kullanıcıyı SecurityContext'e ekleyen filtre.
+ * <p>
+ * Filtrenin kendi işi (token doğrulama, kara liste ve kullanıcı yükleme; zincirin geri kalanı hariç) sonuca göre
+ * {@code auth.filter.jwt} metriğine yazılır: {@code anonymous} (token yok), {@code authenticated} veya {@code rejected}.
+ * <p>
+ * Token, exception fırlatmayan {@link JwtUtil#verify} ile tek seferde doğrulanır. Geçersiz, süresi dolmuş, access
+ * olmayan veya kara listedeki token'lar için 401 yanıtı {@link JwtRejectionHandler} ile doğrudan yazılır ve zincir
+ * devam ettirilmez.
+ * <p>
+ * {@link PublicEndpoints} altındaki istekler filtreye hiç girmez; bu uç noktalara eski veya bozuk bir token ile gelinse
+ * de istek reddedilmez. Bu kalıba uyan {@link ServiceEndpoints} ise filtreden geçer; erişim için token gerekir.
+ * {@code app.security.claims-only-paths} ile verilen yollarda kullanıcı veritabanından yüklenmez ve
+ * kara liste sorgulanmaz; kimlik token'daki {@code sub} ve {@code roles} claim'lerinden oluşturulur. Bu yollarda rol
+ * değişiklikleri ve çıkış yapılmış token'lar, access token'ın süresi dolana kadar fark edilmez.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -29,13 +50,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final TokenBlacklistService tokenBlacklistService;
     private final CustomUserDetailsService customUserDetailsService;
+    private final MeterRegistry meterRegistry;
+    private final JwtRejectionHandler rejectionHandler;
+    private final RequestPaths publicPaths = new RequestPaths(PublicEndpoints.ENDPOINTS);
+    private final RequestPaths servicePaths = new RequestPaths(ServiceEndpoints.ENDPOINTS);
+
+    @Value("${app.security.claims-only-paths:}")
+    private String[] claimsOnlyPatterns = new String[0];
+
+    private RequestPaths claimsOnlyPaths = RequestPaths.NONE;
+
+    @PostConstruct
+    void init() {
+        claimsOnlyPaths = new RequestPaths(claimsOnlyPatterns);
+    }
+
+    /**
+     * Herkese açık uç noktalarda token işlenmez.
+     *
+     * @param request HTTP isteği
+     * @return İstek {@link PublicEndpoints} altındaysa ve bir {@link ServiceEndpoints} yolu değilse true
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicPaths.matches(request) && !servicePaths.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        var token = getBearerTokenFromRequest(request);
-        if (token != null) authenticateRequestWithToken(token, request, response);
+        var sample = Timer.start(meterRegistry);
+        var outcome = "anonymous";
+        try {
+            var token = getBearerTokenFromRequest(request);
+            if (token != null) {
+                outcome = "rejected";
+                if (authenticateRequestWithToken(token, request, response)) outcome = "authenticated";
+            }
+        } finally {
+            sample.stop(meterRegistry.timer("auth.filter.jwt", "outcome", outcome));
+        }
+        if ("rejected".equals(outcome)) return;
+
         filterChain.doFilter(request, response);
     }
 
@@ -55,51 +112,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * Verilen JWT token ile isteği doğrular ve kullanıcıyı SecurityContext'e ekler.
      *
-     * @param token   JWT token
-     * @param request HTTP isteği
-     */
-    private void authenticateRequestWithToken(String token, HttpServletRequest request, HttpServletResponse response) throws IOException {
-        validateAccessToken(token);
-        if (isTokenBlacklistedAndHandleError(token, response)) return;
-
-        var username = jwtUtil.extractUsername(token);
-        var userDetails = customUserDetailsService.loadUserByUsername(username);
-        var authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-        SecurityContextHolder.getContext().setAuthentication(authToken);
-    }
-
-    /**
-     * Verilen JWT token'in geçerli ve bir access token olup olmadığını kontrol eder.
-     * <p>
-     * <ul>
-     *     <li>Eğer token geçersizse {@link InvalidJwtException} fırlatır.</li>
-     *     <li>Eğer token bir access token değilse {@link TokenTypeMismatchException} fırlatır.</li>
-     * </ul>
-     *
-     * @param token JWT token
-     */
-    private void validateAccessToken(String token) {
-        jwtUtil.validateToken(token);
-        var tokenType = jwtUtil.getTokenType(token);
-        if (!ACCESS_TOKEN_TYPE.equals(tokenType)) throw new TokenTypeMismatchException(tokenType);
-    }
-
-    /**
-     * Token'in kara listede olup olmadığını kontrol eder ve gerekirse HTTP yanıtını 401 olarak döner.
-     *
      * @param token    JWT token
+     * @param request  HTTP isteği
      * @param response HTTP yanıtı
-     * @return Eğer token kara listede ise true, değilse false döner.
+     * @return Kullanıcı SecurityContext'e eklendiyse true; token reddedildiyse (401 yanıtı yazılmış olarak) false
      * @throws IOException Yanıt gönderirken hata oluşursa
      */
-    private boolean isTokenBlacklistedAndHandleError(String token, HttpServletResponse response) throws IOException {
-        if (tokenBlacklistService.isTokenBlacklisted(token)) {
-            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token kara listede.");
-
+    private boolean authenticateRequestWithToken(String token, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var verification = jwtUtil.verify(token, ACCESS_TOKEN_TYPE);
+        if (!verification.isValid()) {
+            rejectionHandler.reject(response, verification.status());
+            return false;
+        }
+        if (claimsOnlyPaths.matches(request)) {
+            var claims = verification.claims();
+            setAuthentication(new UsernamePasswordAuthenticationToken(claims.getSubject(), null, jwtUtil.getAuthorities(claims)), request);
             return true;
         }
+        if (tokenBlacklistService.isTokenBlacklisted(token)) {
+            rejectionHandler.rejectBlacklisted(response);
+            return false;
+        }
+
+        var userDetails = customUserDetailsService.loadUserByUsername(verification.claims().getSubject());
+        setAuthentication(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()), request);
 
-        return false;
+        return true;
+    }
+
+    private static void setAuthentication(UsernamePasswordAuthenticationToken authToken, HttpServletRequest request) {
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
     }
 }
@@ -0,0 +1,46 @@
+package com.kalayciburak.authservice.security.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Arrays;
+
+/**
+ * Açılışta bir kez derlenen Ant tarzı yol kalıpları ({@code /api/auth/**}).
+ * <p>
+ * Kalıplar Spring MVC ve Spring Security'nin kullandığı {@link PathPattern} sözdizimiyle yorumlanır; istek yolu context
+ * path hariç eşleştirilir.
+ */
+final class RequestPaths {
+    static final RequestPaths NONE = new RequestPaths();
+
+    private final PathPattern[] patterns;
+
+    RequestPaths(String... patterns) {
+        this.patterns = Arrays.stream(patterns)
+                .filter(pattern -> pattern != null && !pattern.isBlank())
+                .map(pattern -> PathPatternParser.defaultInstance.parse(pattern.strip()))
+                .toArray(PathPattern[]::new);
+    }
+
+    /**
+     * İsteğin yolunun kalıplardan birine uyup uymadığını döner.
+     *
+     * @param request HTTP isteği
+     * @return Kalıplardan biri eşleşirse true
+     */
+    boolean matches(HttpServletRequest request) {
+        if (patterns.length == 0) return false;
+
+        var uri = request.getRequestURI();
+        var contextPath = request.getContextPath();
+        var path = PathContainer.parsePath(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+        for (var pattern : patterns) {
+            if (pattern.matches(path)) return true;
+        }
+
+        return false;
+    }
+}
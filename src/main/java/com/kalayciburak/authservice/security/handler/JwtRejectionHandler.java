@@ -0,0 +1,83 @@
+package com.kalayciburak.authservice.security.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kalayciburak.authservice.security.token.TokenVerification;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT filtresinde reddedilen token'lar için 401 Unauthorized yanıtını doğrudan yazar.
+ * <p>
+ * Yanıt gövdeleri açılışta bir kez JSON'a çevrilip byte dizisi olarak saklanır; reddedilen isteklerde exception, stack
+ * trace veya JSON serileştirmesi yapılmaz. Gövde biçimi {@link JwtAuthenticationEntryPoint} ile aynıdır.
+ *
+ * <p>Örnek JSON yanıt:
+ * { "error": "Kimlik Doğrulama Başarısız", "message": "Token'ın süresi dolmuş." }
+ */
+@Component
+public class JwtRejectionHandler {
+    private static final String ERROR = "Kimlik Doğrulama Başarısız";
+    private static final String WWW_AUTHENTICATE = "Bearer error=\"invalid_token\"";
+
+    private final Map<TokenVerification.Status, byte[]> bodies = new EnumMap<>(TokenVerification.Status.class);
+    private final byte[] blacklistedBody;
+
+    public JwtRejectionHandler() throws JsonProcessingException {
+        var objectMapper = new ObjectMapper();
+        bodies.put(TokenVerification.Status.MALFORMED, body(objectMapper, "Token biçimi geçersiz."));
+        bodies.put(TokenVerification.Status.EXPIRED, body(objectMapper, "Token'ın süresi dolmuş."));
+        bodies.put(TokenVerification.Status.BAD_SIGNATURE, body(objectMapper, "Token imzası geçersiz."));
+        bodies.put(TokenVerification.Status.WRONG_TYPE, body(objectMapper, "Bu işlem için access token gereklidir."));
+        blacklistedBody = body(objectMapper, "Token kara listede.");
+    }
+
+    /**
+     * Doğrulamadan geçemeyen token için 401 yanıtı yazar.
+     *
+     * @param response HTTP yanıtı
+     * @param status   Doğrulama sonucu ({@link TokenVerification.Status#VALID} dışında)
+     * @throws IOException Yanıt yazımı sırasında hata oluşursa fırlatılır.
+     */
+    public void reject(HttpServletResponse response, TokenVerification.Status status) throws IOException {
+        var body = bodies.get(status);
+        if (body == null) throw new IllegalArgumentException("Geçerli token reddedilemez.");
+
+        write(response, body);
+    }
+
+    /**
+     * Kara listedeki token için 401 yanıtı yazar.
+     *
+     * @param response HTTP yanıtı
+     * @throws IOException Yanıt yazımı sırasında hata oluşursa fırlatılır.
+     */
+    public void rejectBlacklisted(HttpServletResponse response) throws IOException {
+        write(response, blacklistedBody);
+    }
+
+    private static void write(HttpServletResponse response, byte[] body) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, WWW_AUTHENTICATE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] body(ObjectMapper objectMapper, String message) throws JsonProcessingException {
+        Map<String, Object> errorDetails = new LinkedHashMap<>();
+        errorDetails.put("error", ERROR);
+        errorDetails.put("message", message);
+
+        return objectMapper.writeValueAsBytes(errorDetails);
+    }
+}
@@ -0,0 +1,44 @@
+package com.kalayciburak.authservice.security.password;
+
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Sızdırılmış parolaları ağa çıkmadan, yerel {@link PasswordBloomFilter} dosyası üzerinden kontrol eder.
+ * <p>
+ * Bir kontrol, parolanın SHA-1 özeti ve birkaç bellek okumasından ibarettir (mikrosaniyeler). Bloom filtresinin doğası
+ * gereği filtrenin oluşturulduğu hatalı pozitif oranında sızdırılmamış bir parola da sızdırılmış kabul edilebilir; tersi
+ * olmaz.
+ * </p>
+ */
+public class BloomFilterPasswordChecker implements CompromisedPasswordChecker, AutoCloseable {
+    private final PasswordBloomFilter filter;
+
+    public BloomFilterPasswordChecker(PasswordBloomFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public CompromisedPasswordDecision check(String password) {
+        if (password == null) return new CompromisedPasswordDecision(false);
+
+        return new CompromisedPasswordDecision(filter.mightContain(sha1(password)));
+    }
+
+    @Override
+    public void close() throws Exception {
+        filter.close();
+    }
+
+    static byte[] sha1(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
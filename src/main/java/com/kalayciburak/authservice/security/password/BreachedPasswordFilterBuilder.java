@@ -0,0 +1,89 @@
+package com.kalayciburak.authservice.security.password;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * HaveIBeenPwned SHA-1 parola listesinden {@link PasswordBloomFilter} dosyası oluşturan komut satırı aracı.
+ * <p>
+ * Girdi, her satırı {@code SHA1_HEX:SAYI} biçiminde olan düz metin dosyasıdır (ör. {@code haveibeenpwned-downloader}
+ * ile indirilen {@code pwnedpasswords.txt}). Dosya iki kez okunur: önce satırlar sayılarak filtre boyutu belirlenir,
+ * sonra özetler filtreye eklenir. Araç sadece JDK kullandığı için servisin jar'ı ile doğrudan çalıştırılabilir:
+ * </p>
+ * <pre>
+ * java -cp target/auth-service-0.0.1-SNAPSHOT.jar \
+ *     com.kalayciburak.authservice.security.password.BreachedPasswordFilterBuilder \
+ *     pwnedpasswords.txt pwned-passwords.bloom [hatalı-pozitif-oranı, varsayılan 0.001] [en-az-sayı, varsayılan 1]
+ * </pre>
+ */
+public final class BreachedPasswordFilterBuilder {
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+
+    private BreachedPasswordFilterBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Kullanım: BreachedPasswordFilterBuilder <girdi.txt> <çıktı.bloom> [hatalı-pozitif-oranı] [en-az-sayı]");
+            System.exit(2);
+        }
+
+        var input = Path.of(args[0]);
+        var output = Path.of(args[1]);
+        double falsePositiveRate = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_FALSE_POSITIVE_RATE;
+        long minCount = args.length > 3 ? Long.parseLong(args[3]) : 1;
+
+        long start = System.nanoTime();
+        long added = build(input, output, falsePositiveRate, minCount);
+        System.out.printf("%d özet %s dosyasına %d sn içinde eklendi (%d MB).%n", added, output,
+                (System.nanoTime() - start) / 1_000_000_000L, Files.size(output) >> 20);
+    }
+
+    /**
+     * Girdi dosyasından filtre dosyasını oluşturur.
+     *
+     * @param input             {@code SHA1_HEX:SAYI} satırlarından oluşan dosya
+     * @param output            Oluşturulacak filtre dosyası
+     * @param falsePositiveRate Hedef hatalı pozitif oranı
+     * @param minCount          Bu sayıdan daha az sızıntıda görülen parolalar filtreye eklenmez
+     * @return Filtreye eklenen özet sayısı
+     * @throws IOException Dosyalar okunamaz veya yazılamazsa
+     */
+    public static long build(Path input, Path output, double falsePositiveRate, long minCount) throws IOException {
+        long expected = 0;
+        try (var reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) if (accept(line, minCount)) expected++;
+        }
+
+        try (var filter = PasswordBloomFilter.create(output, Math.max(1, expected), falsePositiveRate);
+             BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII)) {
+            var sha1 = new byte[20];
+            long added = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!accept(line, minCount)) continue;
+                parseHex(line, sha1);
+                filter.add(sha1);
+                added++;
+            }
+            filter.finish(added);
+
+            return added;
+        }
+    }
+
+    private static boolean accept(String line, long minCount) {
+        if (line.length() < 41 || line.charAt(40) != ':') return false;
+
+        return minCount <= 1 || Long.parseLong(line.substring(41).strip()) >= minCount;
+    }
+
+    private static void parseHex(String line, byte[] target) {
+        for (int i = 0; i < target.length; i++)
+            target[i] = (byte) ((Character.digit(line.charAt(2 * i), 16) << 4) | Character.digit(line.charAt(2 * i + 1), 16));
+    }
+}
@@ -0,0 +1,105 @@
+package com.kalayciburak.authservice.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Sızdırılmış parolaları HaveIBeenPwned k-anonymity range API'si ile kontrol eder ve yanıtları önbellekte tutar.
+ * <p>
+ * API'ye sadece SHA-1 özetinin ilk 5 karakteri gönderilir; dönen sonek listesi önek başına sıralı dizi olarak sınırlı
+ * bir LRU önbellekte saklanır, böylece aynı öneke düşen parolalar için tekrar istek atılmaz. API'ye ulaşılamazsa kontrol
+ * kayıt/parola değişikliğini engellememek için "sızdırılmamış" olarak sonuçlanır.
+ * </p>
+ */
+@Slf4j
+public class CachedRangePasswordChecker implements CompromisedPasswordChecker {
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
+    private static final int PREFIX_LENGTH = 5;
+
+    private final RestClient restClient;
+    private final long ttlMs;
+    private final LongSupplier clock;
+    private final Map<String, CachedRange> cache;
+
+    public CachedRangePasswordChecker(RestClient restClient, int maxEntries, long ttlMs) {
+        this(restClient, maxEntries, ttlMs, System::currentTimeMillis);
+    }
+
+    CachedRangePasswordChecker(RestClient restClient, int maxEntries, long ttlMs, LongSupplier clock) {
+        this.restClient = restClient;
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRange> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public CompromisedPasswordDecision check(String password) {
+        if (password == null) return new CompromisedPasswordDecision(false);
+
+        var hash = HEX.formatHex(BloomFilterPasswordChecker.sha1(password));
+        var prefix = hash.substring(0, PREFIX_LENGTH);
+        var suffixes = suffixes(prefix);
+
+        return new CompromisedPasswordDecision(suffixes != null && Arrays.binarySearch(suffixes, hash.substring(PREFIX_LENGTH)) >= 0);
+    }
+
+    private String[] suffixes(String prefix) {
+        var now = clock.getAsLong();
+        synchronized (cache) {
+            var cached = cache.get(prefix);
+            if (cached != null && cached.expiresAt() > now) return cached.suffixes();
+        }
+
+        String body;
+        try {
+            body = restClient.get().uri("/range/{prefix}", prefix).header("Add-Padding", "true").retrieve().body(String.class);
+        } catch (RestClientException e) {
+            log.warn("Parola sızıntı kontrolü yapılamadı, parola sızdırılmamış kabul edildi: {}", e.getMessage());
+            return null;
+        }
+
+        var suffixes = parse(body);
+        synchronized (cache) {
+            cache.put(prefix, new CachedRange(suffixes, now + ttlMs));
+        }
+
+        return suffixes;
+    }
+
+    /**
+     * {@code SONEK:SAYI} satırlarından sayısı sıfırdan büyük olanların (dolgu satırları hariç) sıralı soneklerini çıkarır.
+     */
+    private static String[] parse(String body) {
+        if (body == null) return new String[0];
+
+        return body.lines()
+                .map(String::strip)
+                .filter(line -> line.indexOf(':') > 0 && !line.endsWith(":0"))
+                .map(line -> line.substring(0, line.indexOf(':')).toUpperCase())
+                .sorted()
+                .toArray(String[]::new);
+    }
+
+    int cacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private record CachedRange(String[] suffixes, long expiresAt) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.kalayciburak.authservice.security.password;
+
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sızdırılmış parolaları ağa ve dosyaya gitmeden, bellekteki küçük bir yaygın parola listesiyle kontrol eder.
+ * <p>
+ * Gerçek bir sızıntı listesinin yerini tutmaz; HaveIBeenPwned'e veya parola filtresi dosyasına erişimin olmadığı yerel
+ * yük testleri ve geliştirme ortamı içindir. Kontrol maliyeti, diğer yerel kontrolcülerde olduğu gibi bir SHA-1
+ * özetidir.
+ */
+public class CommonPasswordChecker implements CompromisedPasswordChecker {
+    private static final List<String> COMMON_PASSWORDS = List.of(
+            "123456", "123456789", "12345678", "password", "qwerty", "qwerty123", "1q2w3e4r", "111111", "12345",
+            "abc123", "password1", "Password1!", "Password123!", "P@ssw0rd", "Passw0rd!", "Qwerty123!", "Admin123!",
+            "Welcome1!", "Welcome123!", "iloveyou", "sunshine", "letmein", "football", "monkey", "dragon");
+
+    private final Set<ByteBuffer> digests;
+
+    public CommonPasswordChecker() {
+        this(COMMON_PASSWORDS);
+    }
+
+    public CommonPasswordChecker(List<String> passwords) {
+        this.digests = passwords.stream()
+                .map(password -> ByteBuffer.wrap(BloomFilterPasswordChecker.sha1(password)))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public CompromisedPasswordDecision check(String password) {
+        if (password == null) return new CompromisedPasswordDecision(false);
+
+        return new CompromisedPasswordDecision(digests.contains(ByteBuffer.wrap(BloomFilterPasswordChecker.sha1(password))));
+    }
+}
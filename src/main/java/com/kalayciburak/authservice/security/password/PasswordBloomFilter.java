@@ -0,0 +1,179 @@
+package com.kalayciburak.authservice.security.password;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Sızdırılmış parola SHA-1 özetlerini tutan, dosyaya bellek eşlemeli (memory-mapped) Bloom filtresi.
+ * <p>
+ * Dosya biçimi: 32 baytlık başlık ({@code PWBLOOM1} sihirli değeri, hash fonksiyonu sayısı, bit sayısı, eleman sayısı)
+ * ve ardından bit dizisi. SHA-1 özetleri zaten düzgün dağıldığı için ayrıca hash hesaplanmaz; özetin ilk 16 baytından
+ * iki değer alınıp {@code h1 + i * h2} ile {@code k} bit konumu üretilir. Dosya 1 GB'lık parçalar halinde eşlendiği için
+ * 2 GB'tan büyük filtreler de desteklenir; sorgu sırasında dosya okunmaz, sayfalar işletim sistemi tarafından
+ * önbelleğe alınır.
+ * </p>
+ */
+public final class PasswordBloomFilter implements AutoCloseable {
+    static final int HEADER_SIZE = 32;
+    private static final byte[] MAGIC = "PWBLOOM1".getBytes(StandardCharsets.US_ASCII);
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final int hashFunctions;
+    private final long bits;
+    private final long count;
+
+    private PasswordBloomFilter(FileChannel channel, FileChannel.MapMode mode, int hashFunctions, long bits, long count) throws IOException {
+        this.channel = channel;
+        this.hashFunctions = hashFunctions;
+        this.bits = bits;
+        this.count = count;
+
+        long bytes = bits >>> 3;
+        segments = new MappedByteBuffer[(int) ((bytes + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+        for (int i = 0; i < segments.length; i++) {
+            long offset = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(mode, HEADER_SIZE + offset, Math.min(1L << SEGMENT_SHIFT, bytes - offset));
+        }
+    }
+
+    /**
+     * Beklenen eleman sayısı ve hatalı pozitif oranına göre yeni ve boş bir filtre dosyası oluşturur.
+     *
+     * @param path              Dosya yolu (varsa üzerine yazılır)
+     * @param expectedCount     Beklenen eleman sayısı
+     * @param falsePositiveRate Hedef hatalı pozitif oranı (ör. {@code 0.001})
+     * @return Yazılabilir filtre
+     * @throws IOException Dosya oluşturulamazsa
+     */
+    public static PasswordBloomFilter create(Path path, long expectedCount, double falsePositiveRate) throws IOException {
+        if (expectedCount <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1)
+            throw new IllegalArgumentException("Eleman sayısı pozitif, hatalı pozitif oranı 0 ile 1 arasında olmalıdır.");
+
+        long bits = (long) Math.ceil(-expectedCount * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        bits = (bits + 63) & ~63L;
+        int hashFunctions = (int) Math.max(1, Math.min(30, Math.round((double) bits / expectedCount * Math.log(2))));
+
+        var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            var header = ByteBuffer.allocate(HEADER_SIZE).put(MAGIC).putInt(hashFunctions).putLong(bits).putLong(0);
+            channel.write(header.flip(), 0);
+            return new PasswordBloomFilter(channel, FileChannel.MapMode.READ_WRITE, hashFunctions, bits, 0);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Var olan bir filtre dosyasını salt okunur olarak açar.
+     *
+     * @param path Dosya yolu
+     * @return Salt okunur filtre
+     * @throws IOException Dosya okunamazsa veya geçerli bir filtre dosyası değilse
+     */
+    public static PasswordBloomFilter open(Path path) throws IOException {
+        var channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            var header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) throw new IOException("Geçersiz parola filtresi dosyası: " + path);
+            }
+            header.flip();
+
+            var magic = new byte[MAGIC.length];
+            header.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) throw new IOException("Geçersiz parola filtresi dosyası: " + path);
+
+            int hashFunctions = header.getInt();
+            long bits = header.getLong();
+            long count = header.getLong();
+            if (hashFunctions <= 0 || bits <= 0 || (bits & 63) != 0 || channel.size() < HEADER_SIZE + (bits >>> 3))
+                throw new IOException("Parola filtresi dosyası eksik veya bozuk: " + path);
+
+            return new PasswordBloomFilter(channel, FileChannel.MapMode.READ_ONLY, hashFunctions, bits, count);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Bir SHA-1 özetini filtreye ekler. Tek bir thread tarafından çağrılmalıdır.
+     *
+     * @param sha1 20 baytlık SHA-1 özeti
+     */
+    public void add(byte[] sha1) {
+        long h1 = readLong(sha1, 0);
+        long h2 = readLong(sha1, 8) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+            var segment = segments[(int) (bit >>> (3 + SEGMENT_SHIFT))];
+            int index = (int) ((bit >>> 3) & SEGMENT_MASK);
+            segment.put(index, (byte) (segment.get(index) | (1 << (bit & 7))));
+        }
+    }
+
+    /**
+     * SHA-1 özetinin filtrede olup olmadığını kontrol eder. Thread-safe'tir.
+     *
+     * @param sha1 20 baytlık SHA-1 özeti
+     * @return Filtrede yoksa kesin olarak {@code false}; varsa {@code true} (hatalı pozitif olabilir)
+     */
+    public boolean mightContain(byte[] sha1) {
+        long h1 = readLong(sha1, 0);
+        long h2 = readLong(sha1, 8) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+            var segment = segments[(int) (bit >>> (3 + SEGMENT_SHIFT))];
+            if ((segment.get((int) ((bit >>> 3) & SEGMENT_MASK)) & (1 << (bit & 7))) == 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Eleman sayısını başlığa yazar ve değişiklikleri diske aktarır.
+     *
+     * @param elementCount Eklenen eleman sayısı
+     * @throws IOException Yazılamazsa
+     */
+    public void finish(long elementCount) throws IOException {
+        channel.write(ByteBuffer.allocate(Long.BYTES).putLong(elementCount).flip(), MAGIC.length + Integer.BYTES + Long.BYTES);
+        for (var segment : segments) segment.force();
+        channel.force(true);
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    public long bits() {
+        return bits;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + Long.BYTES; i++) value = (value << 8) | (bytes[i] & 0xFF);
+
+        return value;
+    }
+}
@@ -0,0 +1,44 @@
+package com.kalayciburak.authservice.security.password;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+
+/**
+ * Sızdırılmış parola kontrolünün süresini ölçen {@link CompromisedPasswordChecker} sarmalayıcısı.
+ * <p>
+ * Süre, kullanılan kontrolcünün sınıf adı ({@code checker}) ve sonuç ({@code result=compromised|clean|error}) ile
+ * {@code auth.password.breach-check} metriğine yazılır; böylece HaveIBeenPwned API'si, önbellekli range ve yerel filtre
+ * modları karşılaştırılabilir.
+ */
+public class TimedCompromisedPasswordChecker implements CompromisedPasswordChecker, AutoCloseable {
+    private final CompromisedPasswordChecker delegate;
+    private final MeterRegistry meterRegistry;
+    private final String checkerName;
+
+    public TimedCompromisedPasswordChecker(CompromisedPasswordChecker delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.checkerName = delegate.getClass().getSimpleName();
+    }
+
+    @Override
+    public CompromisedPasswordDecision check(String password) {
+        var sample = Timer.start(meterRegistry);
+        var result = "error";
+        try {
+            var decision = delegate.check(password);
+            result = decision.isCompromised() ? "compromised" : "clean";
+
+            return decision;
+        } finally {
+            sample.stop(meterRegistry.timer("auth.password.breach-check", "checker", checkerName, "result", result));
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) closeable.close();
+    }
+}
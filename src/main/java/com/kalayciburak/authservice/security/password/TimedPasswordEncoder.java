@@ -0,0 +1,51 @@
+package com.kalayciburak.authservice.security.password;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Parola hash'leme ve karşılaştırma sürelerini ölçen {@link PasswordEncoder} sarmalayıcısı.
+ * <p>
+ * Kayıtta hash üretimi {@code auth.password.encode}, girişte karşılaştırma {@code auth.password.matches}
+ * ({@code outcome=match|mismatch}) metriğine yazılır. BCrypt maliyeti her iki işlemde de aynı olduğundan bu metrikler,
+ * isteklerin ne kadarının parola hash'inde geçtiğini doğrudan gösterir.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final MeterRegistry meterRegistry;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        var sample = Timer.start(meterRegistry);
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            sample.stop(meterRegistry.timer("auth.password.encode"));
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        var sample = Timer.start(meterRegistry);
+        var outcome = "error";
+        try {
+            boolean matches = delegate.matches(rawPassword, encodedPassword);
+            outcome = matches ? "match" : "mismatch";
+
+            return matches;
+        } finally {
+            sample.stop(meterRegistry.timer("auth.password.matches", "outcome", outcome));
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
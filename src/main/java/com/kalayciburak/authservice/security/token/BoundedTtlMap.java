@@ -0,0 +1,86 @@
+package com.kalayciburak.authservice.security.token;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Kayıtları belirli bir zamana kadar tutan, boyutu sınırlı map.
+ * <p>
+ * Süresi dolan kayıt okunduğunda silinir. Sınıra ulaşıldığında önce süresi dolanlar, yine yer yoksa tüm kayıtlar silinir;
+ * kayıt başına sıra veya erişim bilgisi tutulmaz. Token başına kısa süreli sonuç saklayan önbellekler
+ * ({@link RejectedTokenCache}, {@code GatewayAuthorizationService}) tarafından kullanılır.
+ *
+ * @param <K> Anahtar tipi
+ * @param <V> Değer tipi
+ */
+public class BoundedTtlMap<K, V> {
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    /**
+     * @param clock Epoch ms cinsinden güncel zaman
+     */
+    public BoundedTtlMap(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return Map'in kullandığı saate göre güncel zaman (epoch ms)
+     */
+    public long now() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Anahtarın değerini döner; kaydın süresi dolmuşsa kaydı siler.
+     *
+     * @param key Anahtar
+     * @return Süresi dolmamış değer, yoksa null
+     */
+    public V get(K key) {
+        var entry = entries.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAt() > now()) return entry.value();
+
+        entries.remove(key, entry);
+        return null;
+    }
+
+    /**
+     * Değeri verilen zamana kadar saklar. Map sınırdaysa önce yer açılır.
+     *
+     * @param key        Anahtar
+     * @param value      Değer
+     * @param expiresAt  Kaydın düşeceği zaman (epoch ms)
+     * @param maxEntries Kayıt sınırı; {@code 0} veya altı hiçbir şey saklamaz
+     * @return Yer açmak için silinen kayıt sayısı
+     */
+    public int put(K key, V value, long expiresAt, int maxEntries) {
+        if (maxEntries <= 0) return 0;
+
+        int evicted = entries.size() >= maxEntries ? evict(maxEntries) : 0;
+        entries.put(key, new Entry<>(value, expiresAt));
+
+        return evicted;
+    }
+
+    /**
+     * @return Süresi dolmuş ama henüz silinmemiş olanlar dahil kayıt sayısı
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private int evict(int maxEntries) {
+        int before = entries.size();
+        var now = now();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (entries.size() >= maxEntries) entries.clear();
+
+        return Math.max(0, before - entries.size());
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.kalayciburak.authservice.security.token;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * JWT'yi imza doğrulamasından (RSA açık anahtar işlemi) önce, ucuz yapısal kontrollerle eleyen ön doğrulama.
+ * <p>
+ * Kontroller ucuzdan pahalıya sırayla yapılır ve ilk başarısız aşamada durulur:
+ * <ol>
+ *     <li>{@link Result#SIZE}: Uzunluk sınırları.</li>
+ *     <li>{@link Result#SHAPE}: Üç parça, sadece Base64URL karakterleri ve imzanın anahtar boyutuyla uyumlu uzunluğu.</li>
+ *     <li>{@link Result#HEADER}: Header JSON'ında {@code alg} değerinin {@code RS256}, {@code kid} değerinin güncel
+ *     anahtar olması. Geçiş döneminde {@code kid}'i olmayan veya RFC 7638 thumbprint biçiminde olmayan (eski sürümlerin
+ *     açılışta ürettiği UUID) token'lar bu aşamada reddedilmez, imza doğrulamasına bırakılır.</li>
+ *     <li>{@link Result#EXPIRED}, {@link Result#NOT_YET_VALID}, {@link Result#CLAIMS}: İmzası henüz doğrulanmamış
+ *     payload'daki {@code exp}/{@code nbf} değerleri.</li>
+ * </ol>
+ * Bu kontrollerden geçmek token'ın geçerli olduğu anlamına gelmez; sadece imza doğrulamasına değer olduğunu gösterir.
+ * Ön kontrol, servisin ürettiği token'lardan hiçbirini reddetmez.
+ */
+public final class JwtPrecheck {
+    /**
+     * Kabul edilen en uzun token. Servisin ürettiği token'lar 1 KB civarındadır; Tomcat'in varsayılan header sınırı da
+     * 8 KB'tır.
+     */
+    public static final int MAX_LENGTH = 8192;
+    private static final int MIN_LENGTH = 16;
+    private static final String ALGORITHM = "RS256";
+    private static final int THUMBPRINT_LENGTH = 43;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private JwtPrecheck() {
+    }
+
+    /**
+     * Token'ı yapısal olarak kontrol eder.
+     *
+     * @param token          Token
+     * @param keyId          Kabul edilen anahtar ID'si ({@code kid})
+     * @param signatureBytes İmzanın byte uzunluğu (RSA modulus uzunluğu)
+     * @param nowMillis      Şu anki zaman (epoch ms)
+     * @return {@link Result#PASSED} veya reddedildiği aşama
+     */
+    public static Result check(String token, String keyId, int signatureBytes, long nowMillis) {
+        return check(token, keyId, false, signatureBytes, nowMillis);
+    }
+
+    /**
+     * Token'ı yapısal olarak kontrol eder.
+     *
+     * @param token           Token
+     * @param keyId           Kabul edilen anahtar ID'si ({@code kid})
+     * @param acceptLegacyKid {@code kid}'i olmayan veya thumbprint biçiminde olmayan token'lar imza doğrulamasına
+     *                        bırakılsın mı
+     * @param signatureBytes  İmzanın byte uzunluğu (RSA modulus uzunluğu)
+     * @param nowMillis       Şu anki zaman (epoch ms)
+     * @return {@link Result#PASSED} veya reddedildiği aşama
+     */
+    public static Result check(String token, String keyId, boolean acceptLegacyKid, int signatureBytes, long nowMillis) {
+        if (token == null || token.length() < MIN_LENGTH || token.length() > MAX_LENGTH) return Result.SIZE;
+
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot <= firstDot + 1 || secondDot == token.length() - 1) return Result.SHAPE;
+        if (!isBase64Url(token, 0, firstDot) || !isBase64Url(token, firstDot + 1, secondDot)
+                || !isBase64Url(token, secondDot + 1, token.length())) return Result.SHAPE;
+        if (token.length() - secondDot - 1 != base64UrlLength(signatureBytes)) return Result.SHAPE;
+
+        var header = decodeObject(token.substring(0, firstDot));
+        if (header == null || !ALGORITHM.equals(header.path("alg").textValue()) || keyId == null) return Result.HEADER;
+        var kid = header.path("kid").textValue();
+        boolean legacyKid = kid == null || kid.length() != THUMBPRINT_LENGTH || !isBase64Url(kid, 0, kid.length());
+        if (!keyId.equals(kid) && !(acceptLegacyKid && legacyKid)) return Result.HEADER;
+
+        var payload = decodeObject(token.substring(firstDot + 1, secondDot));
+        if (payload == null) return Result.CLAIMS;
+        var exp = payload.get("exp");
+        var nbf = payload.get("nbf");
+        if (exp == null || !exp.canConvertToLong() || (nbf != null && !nbf.canConvertToLong())) return Result.CLAIMS;
+        if (exp.longValue() * 1000 < nowMillis) return Result.EXPIRED;
+        if (nbf != null && nbf.longValue() * 1000 > nowMillis) return Result.NOT_YET_VALID;
+
+        return Result.PASSED;
+    }
+
+    private static boolean isBase64Url(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            boolean valid = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+            if (!valid) return false;
+        }
+
+        return true;
+    }
+
+    private static int base64UrlLength(int bytes) {
+        return (bytes * 4 + 2) / 3;
+    }
+
+    private static JsonNode decodeObject(String segment) {
+        try {
+            var node = MAPPER.readTree(DECODER.decode(segment));
+            return node != null && node.isObject() ? node : null;
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Ön kontrol sonucu. {@link #tag()} metrik etiketi olarak kullanılır.
+     */
+    public enum Result {
+        PASSED("passed", null),
+        SIZE("size", "Token uzunluğu geçersiz."),
+        SHAPE("shape", "Token biçimi geçersiz."),
+        HEADER("header", "Token algoritması veya anahtarı desteklenmiyor."),
+        CLAIMS("claims", "Token içeriği geçersiz."),
+        EXPIRED("expired", "Token'ın süresi dolmuş."),
+        NOT_YET_VALID("not_yet_valid", "Token henüz geçerli değil.");
+
+        private final String tag;
+        private final String message;
+
+        Result(String tag, String message) {
+            this.tag = tag;
+            this.message = message;
+        }
+
+        public String tag() {
+            return tag;
+        }
+
+        public String message() {
+            return message;
+        }
+    }
+}
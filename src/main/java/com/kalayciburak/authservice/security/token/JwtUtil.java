@@ -1,9 +1,17 @@
 package com.kalayciburak.authservice.security.token;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kalayciburak.authservice.advice.exception.InvalidJwtException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -15,10 +23,33 @@ import org.springframework.stereotype.Component;
 import static com.kalayciburak.authservice.constant.JwtConstants.*;
 import static java.lang.System.currentTimeMillis;
 
+/**
+ * JWT token'larını üretir, doğrular ve içeriğini okur.
+ * <p>
+ * İmzalama süresi {@code auth.jwt.sign} (token tipine göre), imza doğrulama ve ayrıştırma süresi {@code auth.jwt.verify}
+ * (sonuca göre) metriklerine yazılır. Claim okuyan her metot token'ı yeniden doğruladığı için bir istekte birden fazla
+ * {@code auth.jwt.verify} ölçümü görülür.
+ * <p>
+ * {@link #validateToken} imzayı doğrulamadan önce token'ı {@link JwtPrecheck} ile yapısal olarak kontrol eder; bozuk,
+ * süresi dolmuş veya başka bir anahtar/algoritma ile üretilmiş token'lar açık anahtar işlemi yapılmadan reddedilir. Ön
+ * kontrol sonuçları aşamaya göre {@code auth.jwt.precheck} sayacına yazılır.
+ * <p>
+ * İstek başına çalışan yollar için {@link #verify} exception fırlatmadan bir {@link TokenVerification} döner: imza JCA
+ * ile doğrudan doğrulanır ve claim'ler tek seferde okunur. İmzası geçersiz çıkan token'lar {@link RejectedTokenCache}'e
+ * eklenir ve tekrar geldiklerinde imza doğrulanmadan reddedilir. Exception fırlatan metotlar diğer çağıranlar için
+ * korunur.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
+    private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {
+    };
+
     private final RsaKeyService rsaKeyService;
+    private final MeterRegistry meterRegistry;
+    private final RejectedTokenCache rejectedTokenCache;
 
     @Value("${app.jwt.expiration-ms}")
     private long jwtExpirationInMs;
@@ -26,6 +57,13 @@ public class JwtUtil {
     @Value("${app.jwt.refresh-expiration-ms}")
     private long refreshExpirationDateInMs;
 
+    /**
+     * Key ID'nin RFC 7638 thumbprint'ine geçişinden önce (UUID {@code kid} ile) verilmiş token'lar ön kontrolde
+     * reddedilmez, imzaları doğrulanır. Eski refresh token'ların süresi dolduktan sonra kapatılabilir.
+     */
+    @Value("${app.jwt.accept-legacy-kid:true}")
+    private boolean acceptLegacyKid = true;
+
     /**
      * Kullanıcının yetkilerine göre access token oluşturur.
      *
@@ -49,7 +87,7 @@ public class JwtUtil {
         realmAccess.put(ROLES_CLAIM, roles);
         claims.put(REALM_ACCESS_CLAIM, realmAccess);
 
-        return buildToken(username, claims, jwtExpirationInMs);
+        return buildToken(username, claims, jwtExpirationInMs, ACCESS_TOKEN_TYPE);
     }
 
     /**
@@ -62,7 +100,7 @@ public class JwtUtil {
         Map<String, Object> claims = new HashMap<>();
         claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
 
-        return buildToken(username, claims, refreshExpirationDateInMs);
+        return buildToken(username, claims, refreshExpirationDateInMs, REFRESH_TOKEN_TYPE);
     }
 
     /**
@@ -72,13 +110,44 @@ public class JwtUtil {
      * @throws InvalidJwtException Geçersiz veya süresi dolmuş token durumunda fırlatılır.
      */
     public void validateToken(String token) {
+        var precheck = precheck(token);
+        if (precheck != JwtPrecheck.Result.PASSED) throw new InvalidJwtException(precheck.message(), null);
+
         try {
-            Jwts.parser().verifyWith(rsaKeyService.getPublicKey()).build().parseSignedClaims(token);
+            getClaims(token);
         } catch (JwtException | IllegalArgumentException ex) {
             throw new InvalidJwtException(ex);
         }
     }
 
+    /**
+     * Token'ı exception fırlatmadan doğrular ve beklenen tipte olup olmadığını kontrol eder.
+     * <p>
+     * Reddedilen token'lar için sabit {@link TokenVerification} nesneleri döner; geçerli token'ın claim'leri sonuçla
+     * birlikte döndüğü için aynı istekte token'ın yeniden ayrıştırılmasına gerek kalmaz.
+     *
+     * @param token        JWT token
+     * @param expectedType Beklenen token tipi (access veya refresh)
+     * @return Doğrulama sonucu
+     */
+    public TokenVerification verify(String token, String expectedType) {
+        var precheck = precheck(token);
+        if (precheck == JwtPrecheck.Result.EXPIRED) return TokenVerification.EXPIRED;
+        if (precheck != JwtPrecheck.Result.PASSED) return TokenVerification.MALFORMED;
+        if (rejectedTokenCache.contains(token)) return TokenVerification.BAD_SIGNATURE;
+
+        var sample = Timer.start(meterRegistry);
+        var claims = verifySignature(token);
+        sample.stop(meterRegistry.timer("auth.jwt.verify", "outcome", claims != null ? "valid" : "invalid"));
+        if (claims == null) {
+            rejectedTokenCache.add(token);
+            return TokenVerification.BAD_SIGNATURE;
+        }
+        if (!expectedType.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) return TokenVerification.WRONG_TYPE;
+
+        return TokenVerification.valid(claims);
+    }
+
     /**
      * Token içerisinden kullanıcı adını çıkarır.
      *
@@ -106,7 +175,27 @@ public class JwtUtil {
      * @return Kullanıcının yetkileri
      */
     public Collection<SimpleGrantedAuthority> getAuthorities(String token) {
-        return extractRoles(token).stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList());
+        return getAuthorities(getClaims(token));
+    }
+
+    /**
+     * İmzası doğrulanmış claim'lerdeki "roles" claim'ini GrantedAuthority koleksiyonuna dönüştürür.
+     *
+     * @param claims {@link #verify} ile doğrulanmış claim'ler
+     * @return Token'daki yetkiler
+     */
+    public Collection<SimpleGrantedAuthority> getAuthorities(Claims claims) {
+        return extractRoles(claims).stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Token'ın ID'sini ({@code jti} claim'i) döner. İptal akışında token'lar bu ID ile yayınlanır.
+     *
+     * @param token JWT token
+     * @return Token ID'si, ID'siz üretilmiş eski token'lar için {@code null}
+     */
+    public String getTokenId(String token) {
+        return getClaims(token).getId();
     }
 
     public Date getExpirationDate(String token) {
@@ -119,17 +208,20 @@ public class JwtUtil {
      * @param username           Kullanıcı adı
      * @param claims             Ek claim'ler
      * @param expirationTimeInMs Token'in geçerlilik süresi (ms cinsinden)
+     * @param tokenType          Metrik etiketi olarak kullanılan token tipi
      * @return Oluşturulan token
      */
-    private String buildToken(String username, Map<String, Object> claims, long expirationTimeInMs) {
+    private String buildToken(String username, Map<String, Object> claims, long expirationTimeInMs, String tokenType) {
         var issuedAt = new Date();
         var expiration = new Date(currentTimeMillis() + expirationTimeInMs);
+        var sample = Timer.start(meterRegistry);
 
-        return Jwts.builder()
+        var token = Jwts.builder()
                 .header()
                 .keyId(rsaKeyService.getKeyId())
                 .and()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuer(ISSUER)
                 .audience().add(AUDIENCE).and()
@@ -137,21 +229,62 @@ public class JwtUtil {
                 .expiration(expiration)
                 .signWith(rsaKeyService.getPrivateKey())
                 .compact();
+        sample.stop(meterRegistry.timer("auth.jwt.sign", "type", tokenType));
+
+        return token;
     }
 
     /**
      * Token içerisinden "roles" claim'ini ayıklar ve String listesi olarak döner.
      *
-     * @param token JWT token
+     * @param claims Token claim'leri
      * @return Roller listesi
      */
-    private List<String> extractRoles(String token) {
-        List<?> rolesClaim = getClaims(token).get(ROLES_CLAIM, List.class);
+    private List<String> extractRoles(Claims claims) {
+        List<?> rolesClaim = claims.get(ROLES_CLAIM, List.class);
         if (rolesClaim == null) return List.of();
 
         return rolesClaim.stream().map(Object::toString).collect(Collectors.toList());
     }
 
+    /**
+     * Token'ı imza doğrulamasından önce yapısal olarak kontrol eder ve sonucu metriğe yazar.
+     *
+     * @param token JWT token
+     * @return Ön kontrol sonucu
+     */
+    private JwtPrecheck.Result precheck(String token) {
+        int signatureBytes = (rsaKeyService.getPublicKey().getModulus().bitLength() + 7) / 8;
+        var result = JwtPrecheck.check(token, rsaKeyService.getKeyId(), acceptLegacyKid, signatureBytes,
+                currentTimeMillis());
+        meterRegistry.counter("auth.jwt.precheck", "result", result.tag()).increment();
+
+        return result;
+    }
+
+    /**
+     * Ön kontrolden geçmiş token'ın RS256 imzasını doğrular ve payload'ı okur.
+     *
+     * @param token Ön kontrolden geçmiş JWT token
+     * @return İmza geçerliyse claim'ler, değilse null
+     */
+    private Claims verifySignature(String token) {
+        int payloadStart = token.indexOf('.') + 1;
+        int signatureStart = token.lastIndexOf('.');
+        var decoder = Base64.getUrlDecoder();
+        try {
+            var signature = Signature.getInstance(SIGNATURE_ALGORITHM);
+            signature.initVerify(rsaKeyService.getPublicKey());
+            signature.update(token.substring(0, signatureStart).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(decoder.decode(token.substring(signatureStart + 1)))) return null;
+
+            var payload = OBJECT_MAPPER.readValue(decoder.decode(token.substring(payloadStart, signatureStart)), CLAIMS_TYPE);
+            return Jwts.claims().add(payload).build();
+        } catch (GeneralSecurityException | IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * Token içerisindeki tüm claim'leri döner.
      *
@@ -159,10 +292,19 @@ public class JwtUtil {
      * @return Claim'lerin bulunduğu nesne
      */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(rsaKeyService.getPublicKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        var sample = Timer.start(meterRegistry);
+        var outcome = "invalid";
+        try {
+            var claims = Jwts.parser()
+                    .verifyWith(rsaKeyService.getPublicKey())
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            outcome = "valid";
+
+            return claims;
+        } finally {
+            sample.stop(meterRegistry.timer("auth.jwt.verify", "outcome", outcome));
+        }
     }
 }
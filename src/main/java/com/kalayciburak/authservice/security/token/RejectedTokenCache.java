@@ -0,0 +1,75 @@
+package com.kalayciburak.authservice.security.token;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * İmza doğrulamasından geçemeyen token'ların özetlerini kısa süreliğine tutan sınırlı önbellek.
+ * <p>
+ * Eski veya değiştirilmiş token'ı döngü içinde tekrar gönderen istemciler için aynı token ikinci kez geldiğinde RSA
+ * doğrulaması yapılmadan tek bir özet sorgusu ile reddedilir.
+ * <ul>
+ *     <li>Sadece imzası geçersiz token'lar eklenir. Geçerli token'lardan (tipi yanlış olanlar dahil) türeyen hiçbir şey
+ *     saklanmaz; ön kontrolde reddedilen token'lar zaten ucuz olduğu için eklenmez.</li>
+ *     <li>Anahtar, token'ın SHA-256 özetinin ilk 128 bitidir ({@link TokenDigest}); token'ın kendisi bellekte
+ *     tutulmaz.</li>
+ *     <li>Kayıtlar {@code app.jwt.rejected-cache.ttl-ms} sonra düşer; anahtar değişse bile eski sonuç bu süreden uzun
+ *     kullanılmaz. Kayıt sayısı {@code app.jwt.rejected-cache.max-entries} ile sınırlıdır ({@link BoundedTtlMap}).</li>
+ *     <li>Sorgular {@code auth.jwt.rejected-cache.lookup} ({@code hit}, {@code miss}), silinen kayıtlar
+ *     {@code auth.jwt.rejected-cache.evictions}, güncel boyut {@code auth.jwt.rejected-cache.size} metriğine yazılır.</li>
+ * </ul>
+ */
+@Component
+public class RejectedTokenCache {
+    private final BoundedTtlMap<TokenDigest, Boolean> rejected;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.jwt.rejected-cache.max-entries:10000}")
+    private int maxEntries = 10_000;
+
+    @Value("${app.jwt.rejected-cache.ttl-ms:60000}")
+    private long ttlMs = 60_000;
+
+    @Autowired
+    public RejectedTokenCache(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::currentTimeMillis);
+    }
+
+    RejectedTokenCache(MeterRegistry meterRegistry, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.rejected = new BoundedTtlMap<>(clock);
+        Gauge.builder("auth.jwt.rejected-cache.size", rejected, BoundedTtlMap::size).register(meterRegistry);
+    }
+
+    /**
+     * Token'ın kısa süre önce imza doğrulamasından geçemeyenler arasında olup olmadığını döner.
+     *
+     * @param token JWT token
+     * @return Token önbellekte ve süresi dolmamışsa true
+     */
+    public boolean contains(String token) {
+        boolean hit = rejected.get(TokenDigest.of(token)) != null;
+        meterRegistry.counter("auth.jwt.rejected-cache.lookup", "result", hit ? "hit" : "miss").increment();
+
+        return hit;
+    }
+
+    /**
+     * İmzası geçersiz token'ı önbelleğe ekler. Geçerli token'lar için çağrılmamalıdır.
+     *
+     * @param token İmza doğrulamasından geçemeyen JWT token
+     */
+    public void add(String token) {
+        int evicted = rejected.put(TokenDigest.of(token), Boolean.TRUE, rejected.now() + ttlMs, maxEntries);
+        if (evicted > 0) meterRegistry.counter("auth.jwt.rejected-cache.evictions").increment(evicted);
+    }
+
+    int size() {
+        return rejected.size();
+    }
+}
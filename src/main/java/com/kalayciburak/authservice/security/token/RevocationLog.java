@@ -0,0 +1,295 @@
+package com.kalayciburak.authservice.security.token;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token ve kullanıcı iptallerini, diğer servislere yayınlanmak üzere Redis'te tutan olay günlüğü.
+ * <p>
+ * <ul>
+ *     <li>Her iptal bir Redis Stream'e ({@code REVOCATIONS:LOG}) eklenir. Stream yaklaşık
+ *     {@code app.revocation.replay-size} olayla sınırlıdır ve kaçırılan olayların tekrarı (replay) için kullanılır; olay
+ *     ID'leri bütün instance'larda aynıdır.</li>
+ *     <li>Güncel iptal kümesi, anlık görüntü için ayrıca sorted set'lerde tutulur: token'lar {@code jti} → {@code exp},
+ *     kullanıcılar özet → epoch. Token'lar süreleri dolunca, kullanıcılar bir access token ömrü sonra silinir.</li>
+ *     <li>Kullanıcılar email yerine {@link #subjectDigest} ile yayınlanır. Akışa sadece {@code ROLE_SERVICE} rolüne
+ *     sahip servis hesapları abone olabilir; özet, email adreslerinin abone servislerin belleğine ve loglarına açık
+ *     metin olarak düşmesini önler. Tuzsuz olduğu için bilinen bir adresin özeti hesaplanabilir, asıl koruma akışın
+ *     yetkilendirmesidir.</li>
+ * </ul>
+ * Bütün zamanlar epoch saniyesidir. Kayıtlar önce sorted set'e, sonra stream'e yazılır; böylece stream'de görülen bir
+ * olay anlık görüntüde de bulunur.
+ */
+@Slf4j
+@Component
+public class RevocationLog {
+    static final String STREAM_KEY = "REVOCATIONS:LOG";
+    static final String TOKENS_KEY = "REVOCATIONS:TOKENS";
+    static final String USERS_KEY = "REVOCATIONS:USERS";
+    public static final String START_ID = "0-0";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${app.revocation.replay-size:10000}")
+    protected long replaySize = 10_000;
+
+    @Value("${app.jwt.expiration-ms}")
+    private long accessTokenTtlMs;
+
+    @Autowired
+    public RevocationLog(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Token iptalini kaydeder.
+     *
+     * @param tokenId   Token'ın {@code jti} claim'i
+     * @param expiresAt Token'ın son geçerlilik zamanı
+     */
+    public void revokeToken(String tokenId, long expiresAt) {
+        redisTemplate.opsForZSet().add(TOKENS_KEY, tokenId, expiresAt);
+        append(Event.token(null, tokenId, expiresAt));
+    }
+
+    /**
+     * Kullanıcının şu ana kadar üretilmiş bütün token'larının iptalini kaydeder. Aktif bir transaction varsa kayıt commit
+     * sonrasına ertelenir; transaction geri alınırsa iptal yayınlanmaz.
+     *
+     * @param subject Kullanıcı ({@code sub} claim'i)
+     */
+    public void revokeUser(String subject) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokeUserNow(subject);
+                }
+            });
+
+            return;
+        }
+
+        revokeUserNow(subject);
+    }
+
+    /**
+     * Stream'deki son olayın ID'sini döner.
+     *
+     * @return Son olay ID'si, stream boşsa {@link #START_ID}
+     */
+    public String lastId() {
+        var last = redisTemplate.opsForStream().reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+
+        return last == null || last.isEmpty() ? START_ID : last.getFirst().getId().getValue();
+    }
+
+    /**
+     * Verilen ID'den sonraki olayları döner.
+     *
+     * @param afterId Bu ID'den sonraki olaylar okunur
+     * @param limit   En fazla okunacak olay sayısı
+     * @return Olaylar, eskiden yeniye
+     */
+    public List<Event> readAfter(String afterId, int limit) {
+        var records = redisTemplate.opsForStream().range(STREAM_KEY,
+                Range.rightUnbounded(Range.Bound.inclusive(afterId)), Limit.limit().count(limit + 1));
+        if (records == null) return List.of();
+
+        var events = new ArrayList<Event>(records.size());
+        for (var record : records) {
+            if (record.getId().getValue().equals(afterId)) continue;
+            if (events.size() == limit) break;
+            events.add(toEvent(record));
+        }
+
+        return events;
+    }
+
+    /**
+     * İstemcinin kaçırdığı olayların stream'de hâlâ bulunup bulunmadığını döner. Stream kırpıldıysa veya ID bu
+     * stream'e ait değilse istemciye anlık görüntü gönderilmelidir.
+     *
+     * @param lastEventId İstemcinin aldığı son olay ID'si
+     * @return Kaçırılan olayların tamamı tekrar edilebiliyorsa {@code true}
+     */
+    public boolean canReplayFrom(String lastEventId) {
+        if (!isValidId(lastEventId)) return false;
+
+        var first = redisTemplate.opsForStream().range(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        if (first == null || first.isEmpty()) return false;
+
+        return compareIds(first.getFirst().getId().getValue(), lastEventId) <= 0 && compareIds(lastEventId, lastId()) <= 0;
+    }
+
+    /**
+     * Güncel iptal kümesini döner; süresi dolmuş kayıtlar önce silinir.
+     *
+     * @return Anlık görüntü
+     */
+    public Snapshot snapshot() {
+        long now = System.currentTimeMillis() / 1000;
+        long userCutoff = now - accessTokenTtlSeconds();
+        var zSet = redisTemplate.opsForZSet();
+        zSet.removeRangeByScore(TOKENS_KEY, Double.NEGATIVE_INFINITY, now - 1);
+        zSet.removeRangeByScore(USERS_KEY, Double.NEGATIVE_INFINITY, userCutoff - 1);
+
+        var tokens = new ArrayList<TokenRevocation>();
+        var tokenEntries = zSet.rangeByScoreWithScores(TOKENS_KEY, now, Double.POSITIVE_INFINITY);
+        if (tokenEntries != null) {
+            for (var entry : tokenEntries) tokens.add(new TokenRevocation(entry.getValue(), entry.getScore().longValue()));
+        }
+
+        var users = new ArrayList<UserRevocation>();
+        var userEntries = zSet.rangeByScoreWithScores(USERS_KEY, userCutoff, Double.POSITIVE_INFINITY);
+        if (userEntries != null) {
+            for (var entry : userEntries) users.add(userRevocation(entry.getValue(), entry.getScore().longValue()));
+        }
+
+        return new Snapshot(tokens, users);
+    }
+
+    /**
+     * Kullanıcıyı akışta temsil eden özet: {@code sub} claim'inin SHA-256 özeti (Base64URL, padding'siz).
+     *
+     * @param subject Kullanıcı ({@code sub} claim'i)
+     * @return Özet
+     */
+    public static String subjectDigest(String subject) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(subject.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * İki olay ID'sini ({@code <ms>-<sıra>}) karşılaştırır.
+     *
+     * @return {@code a} daha eskiyse negatif, aynıysa 0, daha yeniyse pozitif
+     */
+    public static int compareIds(String a, String b) {
+        int aDash = a.indexOf('-');
+        int bDash = b.indexOf('-');
+        int result = Long.compareUnsigned(Long.parseUnsignedLong(a.substring(0, aDash)), Long.parseUnsignedLong(b.substring(0, bDash)));
+
+        return result != 0 ? result
+                : Long.compareUnsigned(Long.parseUnsignedLong(a.substring(aDash + 1)), Long.parseUnsignedLong(b.substring(bDash + 1)));
+    }
+
+    /**
+     * ID'nin {@code <ms>-<sıra>} biçiminde olup olmadığını döner.
+     */
+    public static boolean isValidId(String id) {
+        return id != null && id.matches("\\d{1,20}-\\d{1,20}");
+    }
+
+    protected void revokeUserNow(String subject) {
+        var digest = subjectDigest(subject);
+        long epoch = System.currentTimeMillis() / 1000;
+        try {
+            redisTemplate.opsForZSet().add(USERS_KEY, digest, epoch);
+            append(Event.user(null, userRevocation(digest, epoch)));
+        } catch (Exception e) {
+            log.error("Kullanıcı iptali yayınlanamadı: {}", digest, e);
+        }
+    }
+
+    protected UserRevocation userRevocation(String subjectDigest, long epoch) {
+        return new UserRevocation(subjectDigest, epoch, epoch + accessTokenTtlSeconds());
+    }
+
+    private long accessTokenTtlSeconds() {
+        return (accessTokenTtlMs + 999) / 1000;
+    }
+
+    private void append(Event event) {
+        var fields = event.user() != null
+                ? Map.of("type", "user", "key", event.user().subHash(), "epoch", Long.toString(event.user().epoch()))
+                : Map.of("type", "token", "key", event.token().jti(), "exp", Long.toString(event.token().exp()));
+        var ops = redisTemplate.opsForStream();
+        ops.add(StreamRecords.string(fields).withStreamKey(STREAM_KEY));
+        ops.trim(STREAM_KEY, replaySize, true);
+    }
+
+    private Event toEvent(MapRecord<String, Object, Object> record) {
+        var fields = record.getValue();
+        var id = record.getId().getValue();
+        var key = String.valueOf(fields.get("key"));
+        if ("user".equals(fields.get("type")))
+            return Event.user(id, userRevocation(key, Long.parseLong(String.valueOf(fields.get("epoch")))));
+
+        return Event.token(id, key, Long.parseLong(String.valueOf(fields.get("exp"))));
+    }
+
+    /**
+     * Tek bir iptal olayı; {@code token} veya {@code user} alanlarından sadece biri doludur.
+     *
+     * @param id    Olay ID'si
+     * @param token Token iptali
+     * @param user  Kullanıcı iptali
+     */
+    public record Event(String id, TokenRevocation token, UserRevocation user) {
+        public static Event token(String id, String tokenId, long expiresAt) {
+            return new Event(id, new TokenRevocation(tokenId, expiresAt), null);
+        }
+
+        public static Event user(String id, UserRevocation user) {
+            return new Event(id, null, user);
+        }
+
+        /**
+         * @return SSE olay adı
+         */
+        public String name() {
+            return user != null ? "user" : "token";
+        }
+
+        /**
+         * @return SSE olay verisi
+         */
+        public Object data() {
+            return user != null ? user : token;
+        }
+    }
+
+    /**
+     * @param jti Token ID'si
+     * @param exp Token'ın son geçerlilik zamanı
+     */
+    public record TokenRevocation(String jti, long exp) {
+    }
+
+    /**
+     * @param subHash Kullanıcı özeti ({@link #subjectDigest})
+     * @param epoch   Bu zamana kadar üretilmiş token'lar iptal edilir
+     * @param exp     Kaydın tutulacağı son zaman
+     */
+    public record UserRevocation(String subHash, long epoch, long exp) {
+    }
+
+    /**
+     * @param tokens İptal edilmiş token'lar
+     * @param users  İptal edilmiş kullanıcılar
+     */
+    public record Snapshot(List<TokenRevocation> tokens, List<UserRevocation> users) {
+    }
+}
@@ -1,16 +1,19 @@
 package com.kalayciburak.authservice.security.token;
 
 import jakarta.annotation.PostConstruct;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
 import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
 import java.util.Base64;
-import java.util.UUID;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -21,6 +24,9 @@ import org.springframework.util.StringUtils;
  * <p>
  * Bu sınıf JWT token'ları RS256 algoritması ile imzalamak ve doğrulamak için gerekli RSA public ve private key'leri yönetir.
  * Key'ler Vault'tan secrets/auth-service/jwt/ altında rsa-private-key ve rsa-public-key olarak okunur.
+ * <p>
+ * Key ID ({@code kid}), public key'in RFC 7638 thumbprint'idir. Aynı key'i kullanan bütün instance'lar aynı {@code kid}
+ * değerini üretir ve yayınlar; key değiştiğinde {@code kid} de değişir.
  */
 @Service
 @Getter
@@ -48,7 +54,7 @@ public class RsaKeyService {
         try {
             if (areKeysAvailable()) loadKeysFromStrings();
             else generateKeyPair();
-            this.keyId = UUID.randomUUID().toString();
+            this.keyId = thumbprint(publicKey);
         } catch (Exception ex) {
             throw new IllegalStateException("RSA key çifti yüklenemedi", ex);
         }
@@ -102,4 +108,26 @@ public class RsaKeyService {
         this.publicKey = (RSAPublicKey) keyPair.getPublic();
         this.privateKey = (RSAPrivateKey) keyPair.getPrivate();
     }
-}
\ No newline at end of file
+
+    /**
+     * Public key'in RFC 7638 JWK thumbprint'ini (SHA-256, Base64URL) hesaplar.
+     *
+     * @param publicKey RSA public key
+     * @return Thumbprint
+     * @throws NoSuchAlgorithmException Algorithm hatası
+     */
+    static String thumbprint(RSAPublicKey publicKey) throws NoSuchAlgorithmException {
+        var jwk = "{\"e\":\"" + encodeBase64URL(publicKey.getPublicExponent())
+                + "\",\"kty\":\"RSA\",\"n\":\"" + encodeBase64URL(publicKey.getModulus()) + "\"}";
+        var digest = MessageDigest.getInstance("SHA-256").digest(jwk.getBytes(StandardCharsets.UTF_8));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private static String encodeBase64URL(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        int offset = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOfRange(bytes, offset, bytes.length));
+    }
+}
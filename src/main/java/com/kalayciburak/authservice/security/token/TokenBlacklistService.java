@@ -1,36 +1,88 @@
 package com.kalayciburak.authservice.security.token;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.Date;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenBlacklistService {
     private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RevocationLog revocationLog;
 
     /**
-     * Verilen token'ı kara listeye ekler.
+     * Verilen token'ı kara listeye ekler ve ID'si varsa iptali {@link RevocationLog} üzerinden diğer servislere yayınlar.
+     * Yayın başarısız olursa hata loglanır; token bu servis için kara listede olduğundan çıkış işlemi başarısız olmaz.
      *
      * @param token          Kara listeye alınacak token
+     * @param tokenId        Token'ın {@code jti} claim'i, ID'siz eski token'lar için {@code null}
      * @param expirationTime Token'in geçerlilik bitiş zamanı
      */
-    public void addTokenToBlacklist(String token, Date expirationTime) {
+    public void addTokenToBlacklist(String token, String tokenId, Date expirationTime) {
         long timeout = expirationTime.getTime() - System.currentTimeMillis();
-        if (timeout > 0) redisTemplate.opsForValue().set(getBlacklistKey(token), "blacklisted", timeout, MILLISECONDS);
+        if (timeout <= 0) return;
+
+        redisTemplate.opsForValue().set(getBlacklistKey(token), "blacklisted", timeout, MILLISECONDS);
+        if (tokenId == null) return;
+
+        try {
+            revocationLog.revokeToken(tokenId, expirationTime.getTime() / 1000);
+        } catch (Exception e) {
+            log.error("Token iptali yayınlanamadı: {}", tokenId, e);
+        }
     }
 
     /**
-     * Token'ın kara listede olup olmadığını kontrol eder.
+     * Token'ın kara listede olup olmadığını kontrol eder. Sorgu süresi, sonuca göre {@code auth.blacklist.lookup}
+     * metriğine yazılır.
      *
      * @param token Kontrol edilecek token
      * @return Token kara listede ise true, değilse false
      */
     public boolean isTokenBlacklisted(String token) {
-        return redisTemplate.hasKey(getBlacklistKey(token));
+        var sample = Timer.start(meterRegistry);
+        var result = "error";
+        try {
+            boolean blacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(getBlacklistKey(token)));
+            result = blacklisted ? "hit" : "miss";
+
+            return blacklisted;
+        } finally {
+            sample.stop(meterRegistry.timer("auth.blacklist.lookup", "result", result));
+        }
+    }
+
+    /**
+     * Birden fazla token'ın kara listede olup olmadığını tek bir Redis {@code MGET} komutuyla kontrol eder. Sorgu süresi
+     * {@code auth.blacklist.batch-lookup} metriğine yazılır.
+     *
+     * @param tokens Kontrol edilecek token'lar
+     * @return Token'larla aynı sırada; kara listede olanlar için true
+     */
+    public boolean[] areTokensBlacklisted(List<String> tokens) {
+        var blacklisted = new boolean[tokens.size()];
+        if (tokens.isEmpty()) return blacklisted;
+
+        var sample = Timer.start(meterRegistry);
+        var result = "error";
+        try {
+            var values = redisTemplate.opsForValue().multiGet(tokens.stream().map(TokenBlacklistService::getBlacklistKey).toList());
+            for (int i = 0; i < blacklisted.length; i++) blacklisted[i] = values != null && values.get(i) != null;
+            result = "success";
+
+            return blacklisted;
+        } finally {
+            sample.stop(meterRegistry.timer("auth.blacklist.batch-lookup", "result", result));
+        }
     }
 
     /**
@@ -0,0 +1,30 @@
+package com.kalayciburak.authservice.security.token;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Token'ın SHA-256 özetinin ilk 128 biti. Token başına sonuç saklayan önbelleklerde anahtar olarak kullanılır; böylece
+ * token'ın kendisi bellekte tutulmaz ve kayıt boyutu token uzunluğundan bağımsız olur.
+ *
+ * @param high Özetin ilk 64 biti
+ * @param low  Özetin ikinci 64 biti
+ */
+public record TokenDigest(long high, long low) {
+    /**
+     * @param token JWT token
+     * @return Token'ın özeti
+     */
+    public static TokenDigest of(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            var buffer = ByteBuffer.wrap(digest);
+
+            return new TokenDigest(buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.kalayciburak.authservice.security.token;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Exception fırlatmadan yapılan token doğrulamasının sonucu.
+ * <p>
+ * Reddedilen sonuçlar sabit nesnelerdir; geçersiz token'lar için doğrulama yolunda nesne veya exception üretilmez.
+ *
+ * @param status Doğrulama sonucu
+ * @param claims İmzası doğrulanmış claim'ler; sadece {@link Status#VALID} durumunda dolu
+ */
+public record TokenVerification(Status status, Claims claims) {
+    static final TokenVerification MALFORMED = new TokenVerification(Status.MALFORMED, null);
+    static final TokenVerification EXPIRED = new TokenVerification(Status.EXPIRED, null);
+    static final TokenVerification BAD_SIGNATURE = new TokenVerification(Status.BAD_SIGNATURE, null);
+    static final TokenVerification WRONG_TYPE = new TokenVerification(Status.WRONG_TYPE, null);
+
+    static TokenVerification valid(Claims claims) {
+        return new TokenVerification(Status.VALID, claims);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    /**
+     * Doğrulama sonucu. {@link #tag()} metrik etiketi olarak kullanılır.
+     */
+    public enum Status {
+        VALID("valid"),
+        MALFORMED("malformed"),
+        EXPIRED("expired"),
+        BAD_SIGNATURE("bad_signature"),
+        WRONG_TYPE("wrong_type");
+
+        private final String tag;
+
+        Status(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+}
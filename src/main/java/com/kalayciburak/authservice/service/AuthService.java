@@ -8,10 +8,12 @@ import com.kalayciburak.authservice.model.dto.response.AuthResponse;
 import com.kalayciburak.authservice.repository.UserRepository;
 import com.kalayciburak.authservice.security.token.JwtUtil;
 import com.kalayciburak.authservice.security.token.TokenBlacklistService;
+import com.kalayciburak.authservice.service.ratelimit.LoginThrottle;
 import com.kalayciburak.commonpackage.core.response.success.SuccessResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,21 +33,39 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final TokenBlacklistService tokenBlacklistService;
     private final CustomUserDetailsService customUserDetailsService;
+    private final LoginThrottle loginThrottle;
 
     /**
      * Kullanıcıyı doğrular ve access token üretir. Email doğrulamasını kontrol eder.
+     * <p>
+     * Bekleme süresi kontrolü ({@link LoginThrottle#check}) transaction açılmadan, controller'da yapılır; burada sadece
+     * başarılı ve başarısız denemeler kaydedilir.
+     * <p>
+     * Kullanıcı, email doğrulamasından hemen sonra giriş yapabildiği için okuma primary'den yapılır; giriş isteğinde
+     * kimlik olmadığından read-your-writes takibi bu akışı kapsamaz.
      *
-     * @param request Kullanıcı giriş bilgileri
+     * @param request  Kullanıcı giriş bilgileri
+     * @param clientIp İstemci IP adresi
      * @return AuthResponse DTO'su içinde token bilgileri
      */
-    public SuccessResponse<AuthResponse> login(LoginRequest request) {
+    @Transactional
+    public SuccessResponse<AuthResponse> login(LoginRequest request, String clientIp) {
         // Email'e göre kullanıcıyı bul ve email doğrulamasını kontrol et
-        var user = userRepository.findByEmail(request.email()).orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+        var user = userRepository.findByEmail(request.email()).orElseThrow(() -> {
+            loginThrottle.recordFailure(request.email(), clientIp);
+            return new RuntimeException("Kullanıcı bulunamadı");
+        });
 
         if (!user.isEmailVerified()) throw new EmailNotVerifiedException();
 
         // Email ile authentication yap
-        authenticateUser(request.email(), request.password());
+        try {
+            authenticateUser(request.email(), request.password());
+        } catch (AuthenticationException e) {
+            loginThrottle.recordFailure(request.email(), clientIp);
+            throw e;
+        }
+        loginThrottle.recordSuccess(request.email());
         var response = generateAuthTokens(request.email());
 
         return createSuccessResponse(response, LOGIN_SUCCESS);
@@ -60,7 +80,7 @@ public class AuthService {
      */
     public SuccessResponse<AuthResponse> logout(String token) {
         if (tokenBlacklistService.isTokenBlacklisted(token)) throw new TokenBlacklistedException();
-        tokenBlacklistService.addTokenToBlacklist(token, jwtUtil.getExpirationDate(token));
+        tokenBlacklistService.addTokenToBlacklist(token, jwtUtil.getTokenId(token), jwtUtil.getExpirationDate(token));
 
         return createSuccessResponse(LOGOUT_SUCCESS);
     }
@@ -2,8 +2,11 @@ package com.kalayciburak.authservice.service;
 
 import com.kalayciburak.authservice.model.entity.User;
 import com.kalayciburak.authservice.repository.UserRepository;
+import com.kalayciburak.authservice.service.helper.RoleCatalog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,10 +17,13 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
+    private final RoleCatalog roleCatalog;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * Veritabanından kullanıcıyı email adresine göre bulur.
+     * Veritabanından kullanıcıyı email adresine göre bulur. Yükleme süresi, sonuca göre {@code auth.user.load}
+     * metriğine yazılır.
      *
      * @param email Email adresi
      * @return Spring Security için UserDetails nesnesi
@@ -25,10 +31,20 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        var message = String.format("Kullanıcı bulunamadı: %s", email);
-        var user = userRepository.findByEmail(email).orElseThrow(() -> new UsernameNotFoundException(message));
+        var sample = Timer.start(meterRegistry);
+        var outcome = "error";
+        try {
+            var user = userRepository.findByEmail(email).orElse(null);
+            if (user == null) {
+                outcome = "not_found";
+                throw new UsernameNotFoundException(String.format("Kullanıcı bulunamadı: %s", email));
+            }
+            outcome = "found";
 
-        return buildUserDetails(user);
+            return buildUserDetails(user);
+        } finally {
+            sample.stop(meterRegistry.timer("auth.user.load", "outcome", outcome));
+        }
     }
 
     /**
@@ -48,11 +64,9 @@ public class CustomUserDetailsService implements UserDetailsService {
      * Kullanıcının rollerini, Spring Security tarafından kullanılabilir yetkilere dönüştürür.
      *
      * @param user Kullanıcı entity'si
-     * @return Rol listesinin SimpleGrantedAuthority nesnelerine dönüşümü
+     * @return Rol kataloğunda önceden hesaplanmış, paylaşılan yetki listesi
      */
-    private List<SimpleGrantedAuthority> mapRolesToAuthorities(User user) {
-        return user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority(role.getName().name()))
-                .toList();
+    private List<GrantedAuthority> mapRolesToAuthorities(User user) {
+        return roleCatalog.authoritiesOf(user.getRoles());
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.kalayciburak.authservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Email outbox kayıtlarını arka planda gönderen dispatcher.
+ * <p>
+ * Her çalışmada bir batch kayıt sahiplenilir (kısa bir transaction ile), batch'teki emailler transaction dışında tek bir
+ * SMTP oturumu üzerinden gönderilir ve her kaydın sonucu ayrı ayrı işaretlenir. Batch dolu geldiyse bekleyen kayıtlar bitene kadar döngü devam eder.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxDispatcher {
+    private final EmailService emailService;
+    private final EmailOutboxService outboxService;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.sent-retention-days:7}")
+    private int sentRetentionDays;
+
+    /**
+     * Bekleyen emailleri gönderir.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        int claimedCount;
+        do {
+            var batch = outboxService.claimBatch();
+            claimedCount = batch.size();
+            if (batch.isEmpty()) return;
+
+            var failures = emailService.deliverAll(batch);
+            for (var entry : batch) {
+                var failure = failures.get(entry.getId());
+                if (failure == null) outboxService.markSent(entry.getId());
+                else outboxService.markFailed(entry.getId(), failure);
+            }
+        } while (claimedCount == batchSize);
+    }
+
+    /**
+     * Saklama süresi dolmuş gönderilmiş kayıtları temizler. Her gün 01:00'de çalışır.
+     */
+    @Scheduled(cron = "0 0 1 * * *")
+    public void purgeSent() {
+        var deletedCount = outboxService.purgeSent(Duration.ofDays(sentRetentionDays));
+        log.info("Gönderilmiş {} adet email outbox kaydı temizlendi.", deletedCount);
+    }
+}
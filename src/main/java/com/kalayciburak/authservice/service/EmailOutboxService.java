@@ -0,0 +1,204 @@
+package com.kalayciburak.authservice.service;
+
+import com.kalayciburak.authservice.model.entity.EmailOutbox;
+import com.kalayciburak.authservice.model.entity.User;
+import com.kalayciburak.authservice.model.enums.EmailType;
+import com.kalayciburak.authservice.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.kalayciburak.authservice.model.enums.OutboxStatus.*;
+
+/**
+ * Email outbox kayıtlarını yöneten servis.
+ * <p>
+ * Emailler, onları tetikleyen iş işlemiyle (kayıt, doğrulama) aynı transaction içinde outbox tablosuna yazılır; böylece
+ * SMTP gecikmesi veya hatası bu işlemleri yavaşlatmaz ve geri almaz. Gönderim {@link EmailOutboxDispatcher} tarafından
+ * arka planda yapılır.
+ * </p>
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class EmailOutboxService {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository repository;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff-ms:5000}")
+    private long initialBackoffMs;
+
+    @Value("${app.mail.outbox.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+
+    @Value("${app.mail.outbox.lease-ms:300000}")
+    private long leaseMs;
+
+    /**
+     * Doğrulama emailini gönderim kuyruğuna ekler.
+     *
+     * @param user  Alıcı kullanıcı
+     * @param token Doğrulama token'ı
+     * @return Oluşturulan outbox kaydı
+     */
+    public EmailOutbox enqueueVerificationEmail(User user, String token) {
+        return enqueue(EmailType.VERIFICATION, user, token);
+    }
+
+    /**
+     * Hoş geldiniz emailini gönderim kuyruğuna ekler.
+     *
+     * @param user Alıcı kullanıcı
+     * @return Oluşturulan outbox kaydı
+     */
+    public EmailOutbox enqueueWelcomeEmail(User user) {
+        return enqueue(EmailType.WELCOME, user, null);
+    }
+
+    /**
+     * Hoş geldiniz emailini kullanıcı kaydını yüklemeden gönderim kuyruğuna ekler.
+     *
+     * @param userId Alıcı kullanıcı ID'si
+     */
+    public void enqueueWelcomeEmail(Long userId) {
+        repository.enqueueForUser(EmailType.WELCOME, userId, currentLocale(), LocalDateTime.now());
+    }
+
+    /**
+     * Alıcı için henüz gönderilmemiş (bekleyen veya gönderilmekte olan) bir doğrulama emaili olup olmadığını kontrol eder.
+     *
+     * @param recipient Alıcı email adresi
+     * @return Bekleyen doğrulama emaili varsa {@code true}
+     */
+    @Transactional(readOnly = true)
+    public boolean hasPendingVerificationEmail(String recipient) {
+        return repository.existsByRecipientAndTypeAndStatusIn(recipient, EmailType.VERIFICATION, List.of(PENDING, PROCESSING));
+    }
+
+    /**
+     * Gönderim zamanı gelmiş kayıtlardan bir batch sahiplenir ve PROCESSING olarak işaretler.
+     *
+     * @return Sahiplenilen kayıtlar
+     */
+    public List<EmailOutbox> claimBatch() {
+        var now = LocalDateTime.now();
+        var claimed = repository.findClaimable(now, now.minus(Duration.ofMillis(leaseMs)), PageRequest.of(0, batchSize));
+        claimed.forEach(entry -> {
+            entry.setStatus(PROCESSING);
+            entry.setClaimedAt(now);
+        });
+
+        return claimed;
+    }
+
+    /**
+     * Kaydı başarıyla gönderildi olarak işaretler.
+     *
+     * @param id Outbox kayıt ID'si
+     */
+    public void markSent(Long id) {
+        repository.findById(id).ifPresent(entry -> {
+            entry.setStatus(SENT);
+            entry.setSentAt(LocalDateTime.now());
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setLastError(null);
+        });
+    }
+
+    /**
+     * Başarısız gönderimi kaydeder. Deneme hakkı kaldıysa üstel geri çekilme ile yeniden planlar, kalmadıysa DEAD olarak
+     * işaretler.
+     *
+     * @param id    Outbox kayıt ID'si
+     * @param error Hata
+     */
+    public void markFailed(Long id, Exception error) {
+        repository.findById(id).ifPresent(entry -> {
+            int attempts = entry.getAttempts() + 1;
+            entry.setAttempts(attempts);
+            entry.setLastError(truncate(error.getMessage()));
+
+            if (attempts >= maxAttempts) {
+                entry.setStatus(DEAD);
+                log.error("Email {} denemede gönderilemedi, DEAD olarak işaretlendi. outboxId={}", attempts, id, error);
+                return;
+            }
+
+            entry.setStatus(PENDING);
+            entry.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMs(attempts))));
+            log.warn("Email gönderimi başarısız, yeniden denenecek. outboxId={}, deneme={}", id, attempts);
+        });
+    }
+
+    /**
+     * Belirtilen süreden daha önce gönderilmiş kayıtları siler.
+     *
+     * @param retention Saklama süresi
+     * @return Silinen kayıt sayısı
+     */
+    public int purgeSent(Duration retention) {
+        return repository.deleteSentBefore(LocalDateTime.now().minus(retention));
+    }
+
+    /**
+     * Deneme sayısına göre üstel geri çekilme süresini hesaplar.
+     *
+     * @param attempts Yapılmış deneme sayısı
+     * @return Bir sonraki denemeye kadar beklenecek süre (ms)
+     */
+    protected long backoffMs(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+
+        return Math.min(maxBackoffMs, initialBackoffMs << shift);
+    }
+
+    private EmailOutbox enqueue(EmailType type, User user, String token) {
+        var now = LocalDateTime.now();
+        var entry = EmailOutbox.builder()
+                .type(type)
+                .recipient(user.getEmail())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .token(token)
+                .locale(currentLocale())
+                .status(PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+
+        return repository.save(entry);
+    }
+
+    /**
+     * İsteğin dilini bölgesiyle birlikte dil etiketi olarak döner (örn. {@code en-US}). İstek dışında çağrıldığında JVM'in
+     * varsayılan dili yerine {@code null} döner; şablon motoru bu durumda varsayılan dili kullanır.
+     */
+    private static String currentLocale() {
+        var context = LocaleContextHolder.getLocaleContext();
+        var locale = context == null ? null : context.getLocale();
+
+        return locale == null ? null : locale.toLanguageTag();
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) return message;
+
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
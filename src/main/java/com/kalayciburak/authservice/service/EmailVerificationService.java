@@ -5,13 +5,16 @@ import com.kalayciburak.authservice.model.entity.User;
 import com.kalayciburak.authservice.model.entity.VerificationToken;
 import com.kalayciburak.authservice.repository.UserRepository;
 import com.kalayciburak.authservice.repository.VerificationTokenRepository;
+import com.kalayciburak.authservice.service.helper.VerificationTokenSigner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -20,42 +23,56 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class EmailVerificationService {
     private static final int TOKEN_VALIDITY_HOURS = 24;
-    private final EmailService emailService;
+    private static final int MIN_REMAINING_VALIDITY_HOURS = 1;
     private final UserRepository userRepository;
+    private final EmailOutboxService outboxService;
     private final VerificationTokenRepository tokenRepository;
+    private final Optional<VerificationTokenSigner> signer;
 
     /**
-     * Kullanıcı için email doğrulama token'ı oluşturur ve email gönderir.
+     * Kullanıcı için email doğrulama token'ı oluşturur ve doğrulama emailini aynı transaction içinde gönderim kuyruğuna
+     * (outbox) ekler.
+     * <p>
+     * İmzalı token modunda token saklanmaz; kullanıcının nonce'ı yenilenir ve önceki linkler geçersiz olur.
      *
      * @param user Token oluşturulacak kullanıcı
      */
     public void createVerificationToken(User user) {
-        // Eğer varsa eski token'ı sil
-        tokenRepository.findByUser(user).ifPresent(tokenRepository::delete);
-
-        // Yeni token oluştur
-        var tokenValue = UUID.randomUUID().toString();
-        var token = VerificationToken.builder()
-                .token(tokenValue)
-                .user(user)
-                .expiryDate(LocalDateTime.now().plusHours(TOKEN_VALIDITY_HOURS))
-                .used(false)
-                .build();
-
-        tokenRepository.save(token);
+        var tokenValue = signer.isPresent() ? createSignedToken(user, signer.get()) : createStoredToken(user);
 
-        // Email gönder
-        emailService.sendVerificationEmail(user.getEmail(), user.getFirstName(), user.getLastName(), tokenValue);
-        log.info("Doğrulama token'ı oluşturuldu: {} için {}", user.getEmail(), tokenValue);
+        // Email'i gönderim kuyruğuna ekle
+        outboxService.enqueueVerificationEmail(user, tokenValue);
+        log.info("Doğrulama token'ı oluşturuldu: {}", user.getEmail());
     }
 
     /**
      * Email doğrulama token'ını kontrol eder ve kullanıcının email'ini doğrular.
+     * <p>
+     * Mod değiştirildiğinde gönderilmiş linkler çalışmaya devam etsin diye token biçimine göre doğrulama yöntemi seçilir.
      *
      * @param tokenValue Doğrulama token'ı
-     * @return Doğrulanan kullanıcı
      */
-    public User verifyEmail(String tokenValue) {
+    public void verifyEmail(String tokenValue) {
+        if (VerificationTokenSigner.isSigned(tokenValue)) verifySignedToken(tokenValue);
+        else verifyStoredToken(tokenValue);
+    }
+
+    /**
+     * İmzalı token'ı doğrular. Kullanıcı kaydı yüklenmez: doğrulama tek bir koşullu {@code UPDATE} ile yapılır, hoş
+     * geldiniz emaili de {@code INSERT ... SELECT} ile kuyruğa eklenir.
+     */
+    private void verifySignedToken(String tokenValue) {
+        var tokenSigner = signer.orElseThrow(() -> new InvalidVerificationTokenException("Geçersiz doğrulama kodu."));
+        var claims = tokenSigner.verify(tokenValue, Instant.now());
+
+        int updated = userRepository.markEmailVerified(claims.userId(), claims.nonce());
+        if (updated == 0) throw new InvalidVerificationTokenException("Bu doğrulama kodu daha önce kullanılmış.");
+
+        outboxService.enqueueWelcomeEmail(claims.userId());
+        log.info("Email doğrulandı: userId={}", claims.userId());
+    }
+
+    private void verifyStoredToken(String tokenValue) {
         var token = tokenRepository.findByToken(tokenValue).orElseThrow(() -> new InvalidVerificationTokenException("Geçersiz doğrulama kodu."));
 
         // Token kullanılmış mı?
@@ -74,36 +91,76 @@ public class EmailVerificationService {
         token.setUsed(true);
         tokenRepository.save(token);
 
-        // Hoş geldiniz emaili gönder
-        emailService.sendWelcomeEmail(user.getEmail(), user.getFirstName(), user.getLastName());
+        // Hoş geldiniz emailini gönderim kuyruğuna ekle
+        outboxService.enqueueWelcomeEmail(user);
         log.info("Email doğrulandı: {}", user.getEmail());
+    }
+
+    private String createStoredToken(User user) {
+        // Eğer varsa eski token'ı sil
+        tokenRepository.findByUser(user).ifPresent(tokenRepository::delete);
 
-        return user;
+        return saveNewStoredToken(user);
+    }
+
+    private String saveNewStoredToken(User user) {
+        var tokenValue = UUID.randomUUID().toString();
+        var token = VerificationToken.builder()
+                .token(tokenValue)
+                .user(user)
+                .expiryDate(LocalDateTime.now().plusHours(TOKEN_VALIDITY_HOURS))
+                .used(false)
+                .build();
+        tokenRepository.save(token);
+
+        return tokenValue;
+    }
+
+    private String createSignedToken(User user, VerificationTokenSigner tokenSigner) {
+        var nonce = tokenSigner.newNonce();
+        user.setVerificationNonce(nonce);
+
+        return tokenSigner.sign(user.getId(), nonce, Instant.now().plus(TOKEN_VALIDITY_HOURS, ChronoUnit.HOURS));
     }
 
     /**
      * Yeni doğrulama emaili gönderir.
+     * <p>
+     * Kullanıcı için henüz gönderilmemiş bir doğrulama emaili varsa yenisi kuyruğa eklenmez. Aksi halde geçerli bir token
+     * varsa (saklanan token veya imzalı modda mevcut nonce) yeniden kullanılır; yeni token sadece gerektiğinde üretilir.
      *
      * @param email Kullanıcı email adresi
      */
-    @Transactional(readOnly = true)
     public void resendVerificationEmail(String email) {
         var user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı."));
         if (user.isEmailVerified()) throw new RuntimeException("Email zaten doğrulanmış.");
-        createVerificationToken(user);
-    }
 
-    /**
-     * Süresi dolmuş token'ları temizler. Her gün gece yarısı çalışır.
-     */
-    @Scheduled(cron = "0 0 0 * * *")
-    public void cleanupExpiredTokens() {
-        int deletedCount = 0;
-        try {
-            tokenRepository.deleteByExpiryDateBefore(LocalDateTime.now());
-            log.info("Süresi dolmuş {} adet doğrulama token'ı temizlendi.", deletedCount);
-        } catch (Exception e) {
-            log.error("Token temizleme işlemi başarısız.", e);
+        if (outboxService.hasPendingVerificationEmail(user.getEmail())) {
+            log.info("Bekleyen doğrulama emaili mevcut, yenisi oluşturulmadı: {}", user.getEmail());
+            return;
         }
+
+        var tokenValue = signer.isPresent() ? reuseOrCreateSignedToken(user, signer.get()) : reuseOrCreateStoredToken(user);
+        outboxService.enqueueVerificationEmail(user, tokenValue);
+        log.info("Doğrulama emaili tekrar kuyruğa eklendi: {}", user.getEmail());
+    }
+
+    private String reuseOrCreateStoredToken(User user) {
+        var existing = tokenRepository.findByUser(user);
+        var reusable = existing
+                .filter(token -> !token.isUsed())
+                .filter(token -> token.getExpiryDate().isAfter(LocalDateTime.now().plusHours(MIN_REMAINING_VALIDITY_HOURS)));
+        if (reusable.isPresent()) return reusable.get().getToken();
+
+        existing.ifPresent(tokenRepository::delete);
+        return saveNewStoredToken(user);
+    }
+
+    private String reuseOrCreateSignedToken(User user, VerificationTokenSigner tokenSigner) {
+        // Mevcut nonce ile imzalanan token, daha önce gönderilmiş linklerle birlikte geçerli kalır
+        if (user.getVerificationNonce() == null) return createSignedToken(user, tokenSigner);
+
+        return tokenSigner.sign(user.getId(), user.getVerificationNonce(),
+                Instant.now().plus(TOKEN_VALIDITY_HOURS, ChronoUnit.HOURS));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,144 @@
+package com.kalayciburak.authservice.service;
+
+import com.kalayciburak.authservice.security.token.BoundedTtlMap;
+import com.kalayciburak.authservice.security.token.JwtPrecheck;
+import com.kalayciburak.authservice.security.token.JwtUtil;
+import com.kalayciburak.authservice.security.token.TokenBlacklistService;
+import com.kalayciburak.authservice.security.token.TokenDigest;
+import com.kalayciburak.authservice.security.token.TokenVerification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import static com.kalayciburak.authservice.constant.JwtConstants.ACCESS_TOKEN_TYPE;
+
+/**
+ * API gateway'in (NGINX {@code auth_request}, Envoy {@code ext_authz}) her istekte sorduğu "bu bearer token geçerli mi,
+ * kime ait" sorusunu cevaplar.
+ * <p>
+ * <ul>
+ *     <li>Token exception fırlatmayan {@link JwtUtil#verify} ile doğrulanır ve kara liste sorgulanır; kullanıcı
+ *     veritabanından yüklenmez, kimlik ve roller token claim'lerinden okunur.</li>
+ *     <li>Karar, token başına {@code app.gateway.cache.ttl-ms} süreyle (geçerli token'larda en fazla token'ın süresi
+ *     dolana kadar) önbellekte tutulur. Aynı token ile art arda gelen alt istekler tek bir map sorgusu ile cevaplanır;
+ *     çıkış yapılan token bu süre kadar geç reddedilir. Anahtar token'ın özetidir ({@link TokenDigest}); token'ın
+ *     kendisi bellekte tutulmaz.</li>
+ *     <li>{@link JwtPrecheck}'te reddedilen (bozuk veya süresi dolmuş) token'ların kararı önbelleğe alınmaz; bu kararlar
+ *     zaten ucuzdur ve rastgele token gönderen bir istemcinin önbelleği doldurup geçerli kararları silmesi engellenir.
+ *     {@link JwtPrecheck#MAX_LENGTH}'ten uzun token'lar özetlenmeden reddedilir.</li>
+ *     <li>Önbellek {@code app.gateway.cache.max-entries} ile sınırlıdır ({@link BoundedTtlMap}). Kara liste sorgusu hata
+ *     verirse karar önbelleğe alınmaz.</li>
+ *     <li>Kararlar {@code auth.gateway.authorize} ({@code result}: {@code allowed}/{@code denied}, {@code cache}:
+ *     {@code hit}/{@code miss}), önbellek boyutu {@code auth.gateway.cache.size} metriğine yazılır.</li>
+ * </ul>
+ */
+@Service
+public class GatewayAuthorizationService {
+    private final JwtUtil jwtUtil;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final Counter allowedHit;
+    private final Counter allowedMiss;
+    private final Counter deniedHit;
+    private final Counter deniedMiss;
+    private final BoundedTtlMap<TokenDigest, Decision> cache;
+
+    @Value("${app.gateway.cache.ttl-ms:1000}")
+    private long ttlMs = 1000;
+
+    @Value("${app.gateway.cache.max-entries:10000}")
+    private int maxEntries = 10_000;
+
+    @Autowired
+    public GatewayAuthorizationService(JwtUtil jwtUtil, TokenBlacklistService tokenBlacklistService, MeterRegistry meterRegistry) {
+        this(jwtUtil, tokenBlacklistService, meterRegistry, System::currentTimeMillis);
+    }
+
+    GatewayAuthorizationService(JwtUtil jwtUtil, TokenBlacklistService tokenBlacklistService, MeterRegistry meterRegistry,
+                                LongSupplier clock) {
+        this.jwtUtil = jwtUtil;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.cache = new BoundedTtlMap<>(clock);
+        allowedHit = counter(meterRegistry, "allowed", "hit");
+        allowedMiss = counter(meterRegistry, "allowed", "miss");
+        deniedHit = counter(meterRegistry, "denied", "hit");
+        deniedMiss = counter(meterRegistry, "denied", "miss");
+        Gauge.builder("auth.gateway.cache.size", cache, BoundedTtlMap::size).register(meterRegistry);
+    }
+
+    /**
+     * Bearer token için erişim kararını döner.
+     *
+     * @param token Bearer token; başlık yoksa null
+     * @return Erişim kararı
+     */
+    public Decision authorize(String token) {
+        if (token == null || token.length() > JwtPrecheck.MAX_LENGTH) return record(Decision.DENIED, false);
+
+        var key = TokenDigest.of(token);
+        var cached = cache.get(key);
+        if (cached != null) return record(cached, true);
+
+        var verification = jwtUtil.verify(token, ACCESS_TOKEN_TYPE);
+        if (isPrecheckRejection(verification)) return record(Decision.DENIED, false);
+
+        var decision = evaluate(token, verification);
+        if (ttlMs > 0) {
+            var now = cache.now();
+            var expiresAt = decision.allowed() ? Math.min(now + ttlMs, decision.expiresAt()) : now + ttlMs;
+            cache.put(key, decision, expiresAt, maxEntries);
+        }
+
+        return record(decision, false);
+    }
+
+    private Decision evaluate(String token, TokenVerification verification) {
+        if (!verification.isValid() || tokenBlacklistService.isTokenBlacklisted(token)) return Decision.DENIED;
+
+        var claims = verification.claims();
+        var roles = jwtUtil.getAuthorities(claims).stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        return new Decision(true, claims.getSubject(), roles, claims.getExpiration().getTime());
+    }
+
+    private static boolean isPrecheckRejection(TokenVerification verification) {
+        var status = verification.status();
+
+        return status == TokenVerification.Status.MALFORMED || status == TokenVerification.Status.EXPIRED;
+    }
+
+    private Decision record(Decision decision, boolean cacheHit) {
+        if (decision.allowed()) (cacheHit ? allowedHit : allowedMiss).increment();
+        else (cacheHit ? deniedHit : deniedMiss).increment();
+
+        return decision;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result, String cacheResult) {
+        return meterRegistry.counter("auth.gateway.authorize", "result", result, "cache", cacheResult);
+    }
+
+    int cacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Gateway'e dönen erişim kararı.
+     *
+     * @param allowed   Token geçerli, access tipinde ve kara listede değilse true
+     * @param subject   Token sahibinin email adresi
+     * @param roles     Virgülle ayrılmış roller (ör. {@code ROLE_FREE,ROLE_ADMIN})
+     * @param expiresAt Token'ın son geçerlilik zamanı (epoch ms)
+     */
+    public record Decision(boolean allowed, String subject, String roles, long expiresAt) {
+        static final Decision DENIED = new Decision(false, null, null, 0);
+    }
+}
@@ -0,0 +1,232 @@
+package com.kalayciburak.authservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kalayciburak.authservice.security.token.RevocationLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token ve kullanıcı iptallerini abone servislere Server-Sent Events ile yayınlar.
+ * <p>
+ * <ul>
+ *     <li>Bağlanan istemciye, {@code Last-Event-ID} ile gönderdiği olaydan sonrakiler {@link RevocationLog}'da hâlâ
+ *     duruyorsa bu olaylar tekrar edilir; aksi halde iptal kümesinin tamamı tek bir {@code snapshot} olayı olarak
+ *     gönderilir. Olay ID'leri bütün instance'larda aynı olduğu için istemci başka bir instance'a da bağlanabilir.</li>
+ *     <li>Her instance, en az bir abonesi varken günlüğü {@code app.revocation.poll-interval-ms} aralıklarla okur ve
+ *     yeni olayları kendi abonelerine dağıtır; olay verisi abone sayısından bağımsız olarak bir kez serileştirilir.</li>
+ *     <li>Ara sunucuların ve istemcinin boşta kalan bağlantıyı kapatmaması için {@code app.revocation.heartbeat-ms}
+ *     aralıklarla yorum satırı gönderilir. Bağlantılar {@code app.revocation.stream-timeout-ms} sonra kapatılır;
+ *     istemci son olay ID'si ile yeniden bağlanır.</li>
+ * </ul>
+ * Okuma ve dağıtım, diğer zamanlanmış işlerle aynı thread'i paylaşmamak için ayrı bir thread'de yapılır. Abone sayısı
+ * {@code auth.revocation.subscribers}, bağlantılar {@code auth.revocation.connect}, dağıtılan olaylar
+ * {@code auth.revocation.events} metriğine yazılır.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevocationFeedService {
+    private static final int BATCH_SIZE = 1000;
+
+    private final RevocationLog revocationLog;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final Object lock = new Object();
+
+    @Value("${app.revocation.poll-interval-ms:500}")
+    private long pollIntervalMs = 500;
+
+    @Value("${app.revocation.heartbeat-ms:15000}")
+    private long heartbeatMs = 15_000;
+
+    @Value("${app.revocation.stream-timeout-ms:1800000}")
+    private long streamTimeoutMs = 1_800_000;
+
+    private String cursor;
+    private ScheduledExecutorService scheduler;
+    private Counter snapshotConnects;
+    private Counter replayConnects;
+    private Counter dispatchedEvents;
+
+    @PostConstruct
+    void init() {
+        snapshotConnects = meterRegistry.counter("auth.revocation.connect", "mode", "snapshot");
+        replayConnects = meterRegistry.counter("auth.revocation.connect", "mode", "replay");
+        dispatchedEvents = meterRegistry.counter("auth.revocation.events");
+        Gauge.builder("auth.revocation.subscribers", subscribers, List::size).register(meterRegistry);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "revocation-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+    }
+
+    /**
+     * Yeni bir abone kaydeder ve kaçırdığı olayları veya anlık görüntüyü gönderir.
+     * <p>
+     * İlk olaylar kilit dışında okunur ve emitter isteğe bağlanmadan önce bellekte biriktirilir. Kilit sadece aboneye
+     * gönderilen son olay ID'sini dağıtım imleciyle karşılaştırmak ve aboneyi listeye eklemek için alınır; bu arada
+     * dağıtım ilerlediyse aradaki olaylar yine kilit dışında gönderilir. Böylece olaylar istemciye sırayla ve boşluksuz
+     * ulaşır. Anlık görüntüde zaten bulunan bir iptal ayrıca olay olarak da gelebilir; iptaller tekrar uygulandığında
+     * sonuç değişmez.
+     *
+     * @param lastEventId İstemcinin aldığı son olay ID'si ({@code Last-Event-ID} header'ı), yoksa {@code null}
+     * @return SSE bağlantısı
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        var emitter = new SseEmitter(streamTimeoutMs);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(emitter));
+
+        try {
+            var sent = sendInitial(emitter, lastEventId);
+            while (true) {
+                String target;
+                synchronized (lock) {
+                    if (cursor == null) cursor = sent;
+                    if (RevocationLog.compareIds(sent, cursor) >= 0) {
+                        subscribers.add(emitter);
+                        return emitter;
+                    }
+                    target = cursor;
+                }
+                sent = replay(emitter, sent, target);
+            }
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+    }
+
+    /**
+     * Günlükteki yeni olayları okur ve abonelere dağıtır. Abone yoksa günlük okunmaz.
+     */
+    void poll() {
+        List<RevocationLog.Event> events;
+        List<SseEmitter> targets;
+        synchronized (lock) {
+            if (subscribers.isEmpty()) {
+                cursor = null;
+                return;
+            }
+            try {
+                if (cursor == null) cursor = revocationLog.lastId();
+                events = revocationLog.readAfter(cursor, BATCH_SIZE);
+            } catch (Exception e) {
+                log.warn("İptal günlüğü okunamadı: {}", e.getMessage());
+                return;
+            }
+            if (events.isEmpty()) return;
+            cursor = events.getLast().id();
+            targets = List.copyOf(subscribers);
+        }
+
+        var messages = new ArrayList<String>(events.size());
+        try {
+            for (var event : events) messages.add(toJson(event.data()));
+        } catch (IOException e) {
+            log.error("İptal olayı serileştirilemedi.", e);
+            return;
+        }
+        for (var emitter : targets) {
+            try {
+                for (int i = 0; i < events.size(); i++) {
+                    var event = events.get(i);
+                    emitter.send(SseEmitter.event().id(event.id()).name(event.name()).data(messages.get(i)));
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(emitter);
+            }
+        }
+        dispatchedEvents.increment(events.size());
+    }
+
+    /**
+     * Bütün abonelere yorum satırı gönderir.
+     */
+    void heartbeat() {
+        for (var emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(emitter);
+            }
+        }
+    }
+
+    /**
+     * @return Bu instance'a bağlı abone sayısı
+     */
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Aboneye, günlükte tekrar edilebiliyorsa son olay ID'sinden sonraki olayları, aksi halde anlık görüntüyü gönderir.
+     *
+     * @return Aboneye bu ID'ye kadarki bütün olaylar (veya bu ID'den sonra alınan anlık görüntü) gönderildi
+     */
+    private String sendInitial(SseEmitter emitter, String lastEventId) throws IOException {
+        var lastId = revocationLog.lastId();
+        if (lastEventId != null && revocationLog.canReplayFrom(lastEventId)) {
+            var sent = replay(emitter, lastEventId, lastId);
+            replayConnects.increment();
+            return sent;
+        }
+
+        emitter.send(SseEmitter.event().id(lastId).name("snapshot").data(toJson(revocationLog.snapshot())));
+        snapshotConnects.increment();
+        return lastId;
+    }
+
+    /**
+     * {@code from}'dan sonraki olayları, {@code until} dahil olmak üzere aboneye gönderir.
+     *
+     * @return Aboneye bu ID'ye kadarki bütün olaylar gönderildi
+     */
+    private String replay(SseEmitter emitter, String from, String until) throws IOException {
+        while (RevocationLog.compareIds(from, until) < 0) {
+            var events = revocationLog.readAfter(from, BATCH_SIZE);
+            for (var event : events) {
+                if (RevocationLog.compareIds(event.id(), until) > 0) return until;
+                emitter.send(SseEmitter.event().id(event.id()).name(event.name()).data(toJson(event.data())));
+            }
+            if (events.size() < BATCH_SIZE) return until;
+            from = events.getLast().id();
+        }
+
+        return from;
+    }
+
+    private String toJson(Object data) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(data);
+    }
+}
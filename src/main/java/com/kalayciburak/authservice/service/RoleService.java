@@ -3,8 +3,10 @@ package com.kalayciburak.authservice.service;
 import com.kalayciburak.authservice.advice.exception.InvalidRoleIdsException;
 import com.kalayciburak.authservice.advice.exception.RoleNotFoundException;
 import com.kalayciburak.authservice.model.entity.Role;
+import com.kalayciburak.authservice.model.entity.User;
 import com.kalayciburak.authservice.model.enums.RoleType;
 import com.kalayciburak.authservice.repository.RoleRepository;
+import com.kalayciburak.authservice.service.helper.RoleCatalog;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -24,24 +26,38 @@ import static com.kalayciburak.authservice.model.enums.RoleType.ROLE_FREE;
 @RequiredArgsConstructor
 public class RoleService {
     private static final Logger log = LoggerFactory.getLogger(RoleService.class);
+    private final RoleCatalog catalog;
     private final RoleRepository repository;
 
     /**
-     * Uygulama başladığında sistemde herhangi bir rol yoksa, varsayılan rollerin eklenmesini sağlar.
+     * Uygulama başladığında {@link RoleType}'taki rollerden veritabanında olmayanları (ilk açılışta hepsini, sonradan
+     * eklenen bir rol tipinde sadece onu) ekler ve rol kataloğunu belleğe yükler.
      */
     @PostConstruct
     protected void seedRoles() {
-        if (repository.count() == 0) {
-            var roles = Arrays.stream(RoleType.values()).map(Role::new).toList();
-            repository.saveAll(roles);
-            log.info("Roller başarıyla eklendi.");
+        var existing = repository.findAll().stream().map(Role::getName).collect(Collectors.toSet());
+        var missing = Arrays.stream(RoleType.values()).filter(type -> !existing.contains(type)).map(Role::new).toList();
+        if (!missing.isEmpty()) {
+            repository.saveAll(missing);
+            log.info("Roller başarıyla eklendi: {}", missing.stream().map(Role::getName).toList());
         }
+        refreshCatalog();
     }
 
     /**
-     * Verilen ID'lere karşılık gelen rollerin listesini döndürür.
+     * Bellek içi rol kataloğunu veritabanındaki güncel rollerle yeniler.
      * <p>
-     * Eğer herhangi bir ID'ye sahip rol veritabanında bulunamazsa, hata fırlatır.
+     * Roller değiştiğinde (ekleme/silme) çağrılmalıdır.
+     */
+    public void refreshCatalog() {
+        catalog.refresh(repository.findAll());
+        log.info("Rol kataloğu yüklendi.");
+    }
+
+    /**
+     * Verilen ID'lere karşılık gelen rollerin listesini rol kataloğundan döndürür.
+     * <p>
+     * Eğer herhangi bir ID'ye sahip rol bulunamazsa, hata fırlatır.
      *
      * @param roleIds Roller için ID listesi
      * @return Bulunan rollerin kümesi
@@ -62,17 +78,33 @@ public class RoleService {
      * @return Kullanıcı rollerini içeren Set<Role>.
      */
     protected Set<Role> assignDefaultRoles() {
-        return Set.of(repository.findByName(ROLE_FREE).orElseThrow(() -> new RoleNotFoundException(ROLE_FREE)));
+        return Set.of(catalog.findByName(ROLE_FREE).orElseThrow(() -> new RoleNotFoundException(ROLE_FREE)));
+    }
+
+    /**
+     * Kullanıcının ADMIN rolüne sahip olup olmadığını kontrol eder.
+     *
+     * @param user Kontrol edilecek kullanıcı
+     * @return Kullanıcı ADMIN ise true, değilse false
+     */
+    protected boolean hasAdminRole(User user) {
+        return catalog.containsAdmin(user.getRoles());
     }
 
     /**
-     * Veritabanından verilen ID listesine karşılık gelen rollerin listesini çeker.
+     * Rol kataloğundan verilen ID listesine karşılık gelen rollerin listesini çeker.
+     * <p>
+     * Katalogda bulunmayan bir ID istenirse, katalog bir kez veritabanından yenilenir ve tekrar denenir.
      *
      * @param roleIds Roller için ID listesi
      * @return Bulunan rollerin kümesi
      */
     private Set<Role> fetchRolesByIds(Set<Long> roleIds) {
-        return new HashSet<>(repository.findAllById(roleIds));
+        var roles = catalog.findAllById(roleIds);
+        if (roles.size() == roleIds.size()) return roles;
+        refreshCatalog();
+
+        return catalog.findAllById(roleIds);
     }
 
     /**
@@ -0,0 +1,164 @@
+package com.kalayciburak.authservice.service;
+
+import com.kalayciburak.authservice.model.dto.response.IntrospectionResponse;
+import com.kalayciburak.authservice.model.dto.response.TokenIntrospectionResponse;
+import com.kalayciburak.authservice.security.token.JwtUtil;
+import com.kalayciburak.authservice.security.token.TokenBlacklistService;
+import com.kalayciburak.authservice.security.token.TokenVerification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.kalayciburak.authservice.constant.JwtConstants.*;
+
+/**
+ * Token'ları yerelde doğrulayamayan servisler için toplu token introspection (RFC 7662 alanlarıyla).
+ * <p>
+ * <ul>
+ *     <li>Token'lar exception fırlatmayan {@link JwtUtil#verify} ile, {@code app.introspection.threads} thread'li
+ *     (varsayılan: işlemci sayısı) sınırlı bir havuzda paralel doğrulanır. Havuz kuyruğu
+ *     ({@code app.introspection.queue-capacity}) doluysa iş çağıran thread'de çalışır; böylece yük altında bekleyen iş
+ *     sayısı sınırlı kalır.</li>
+ *     <li>İmzası geçerli token'ların kara liste durumu tek bir Redis {@code MGET} ile sorgulanır.</li>
+ *     <li>Sadece access token'lar aktif sayılır. İstek süresi {@code auth.introspection}, aktif/pasif token sayıları
+ *     {@code auth.introspection.tokens} metriğine yazılır.</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenIntrospectionService {
+    private final JwtUtil jwtUtil;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.introspection.threads:0}")
+    private int threads;
+
+    @Value("${app.introspection.queue-capacity:256}")
+    private int queueCapacity = 256;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        if (threads <= 0) threads = Runtime.getRuntime().availableProcessors();
+        var threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    var thread = new Thread(runnable, "introspection-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Token'ları doğrular ve kara liste durumlarını kontrol eder.
+     *
+     * @param tokens Sorgulanacak token'lar
+     * @return İstekteki sırayla token başına sonuç
+     */
+    public IntrospectionResponse introspect(List<String> tokens) {
+        var sample = Timer.start(meterRegistry);
+        try {
+            var verifications = verifyAll(tokens);
+
+            var validTokens = new ArrayList<String>();
+            for (int i = 0; i < tokens.size(); i++) {
+                if (verifications[i].isValid()) validTokens.add(tokens.get(i));
+            }
+            var blacklisted = tokenBlacklistService.areTokensBlacklisted(validTokens);
+
+            var results = new ArrayList<TokenIntrospectionResponse>(tokens.size());
+            int active = 0;
+            int validIndex = 0;
+            for (var verification : verifications) {
+                if (verification.isValid() && !blacklisted[validIndex++]) {
+                    results.add(toResponse(verification));
+                    active++;
+                } else {
+                    results.add(TokenIntrospectionResponse.INACTIVE);
+                }
+            }
+            meterRegistry.counter("auth.introspection.tokens", "active", "true").increment(active);
+            meterRegistry.counter("auth.introspection.tokens", "active", "false").increment(tokens.size() - active);
+
+            return new IntrospectionResponse(results);
+        } finally {
+            sample.stop(meterRegistry.timer("auth.introspection"));
+        }
+    }
+
+    /**
+     * Token'ları havuz thread'leri ve çağıran thread arasında eşit parçalara bölerek doğrular.
+     */
+    private TokenVerification[] verifyAll(List<String> tokens) {
+        var verifications = new TokenVerification[tokens.size()];
+        int parts = Math.min(Math.max(threads, 1), tokens.size());
+        if (parts <= 1) {
+            verifyPart(tokens, verifications, 0, 1);
+            return verifications;
+        }
+
+        var futures = new ArrayList<Future<?>>(parts - 1);
+        for (int part = 1; part < parts; part++) {
+            int offset = part;
+            futures.add(executor.submit(() -> verifyPart(tokens, verifications, offset, parts)));
+        }
+        verifyPart(tokens, verifications, 0, parts);
+        for (var future : futures) await(future);
+
+        return verifications;
+    }
+
+    private void verifyPart(List<String> tokens, TokenVerification[] verifications, int offset, int step) {
+        for (int i = offset; i < verifications.length; i += step) {
+            verifications[i] = jwtUtil.verify(tokens.get(i), ACCESS_TOKEN_TYPE);
+        }
+    }
+
+    private TokenIntrospectionResponse toResponse(TokenVerification verification) {
+        var claims = verification.claims();
+
+        return TokenIntrospectionResponse.builder()
+                .active(true)
+                .subject(claims.getSubject())
+                .scope(claims.get(SCOPE_CLAIM, String.class))
+                .tokenType(claims.get(TOKEN_TYPE_CLAIM, String.class))
+                .expiresAt(claims.getExpiration() != null ? claims.getExpiration().getTime() / 1000 : null)
+                .issuedAt(claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() / 1000 : null)
+                .issuer(claims.getIssuer())
+                .audience(claims.getAudience())
+                .roles(jwtUtil.getAuthorities(claims).stream().map(GrantedAuthority::getAuthority).toList())
+                .build();
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Token introspection işlemi kesildi.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
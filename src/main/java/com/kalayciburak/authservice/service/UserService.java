@@ -1,6 +1,7 @@
 package com.kalayciburak.authservice.service;
 
 import com.kalayciburak.authservice.advice.exception.AdminCannotBeDeletedException;
+import com.kalayciburak.authservice.advice.exception.EmailAlreadyExistsException;
 import com.kalayciburak.authservice.advice.exception.InvalidRoleIdsException;
 import com.kalayciburak.authservice.advice.exception.UserNotFoundException;
 import com.kalayciburak.authservice.model.dto.request.ChangePasswordRequest;
@@ -10,10 +11,17 @@ import com.kalayciburak.authservice.model.dto.response.UserResponse;
 import com.kalayciburak.authservice.model.entity.User;
 import com.kalayciburak.authservice.repository.UserRepository;
 import com.kalayciburak.authservice.security.audit.SecurityAuditorProvider;
+import com.kalayciburak.authservice.security.token.RevocationLog;
+import com.kalayciburak.authservice.service.helper.RegistrationPreparer;
+import com.kalayciburak.authservice.service.helper.UniqueViolations;
+import com.kalayciburak.authservice.service.helper.UserCacheEvictor;
 import com.kalayciburak.authservice.service.helper.UserHelper;
 import com.kalayciburak.authservice.service.validator.UserValidator;
 import com.kalayciburak.commonpackage.core.response.success.SuccessResponse;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,11 +29,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Set;
 
-import static com.kalayciburak.authservice.service.helper.UserHelper.hasAdminRole;
 import static com.kalayciburak.commonpackage.core.constant.Messages.User.*;
 import static com.kalayciburak.commonpackage.core.response.builder.ResponseBuilder.createNotFoundResponse;
 import static com.kalayciburak.commonpackage.core.response.builder.ResponseBuilder.createSuccessResponse;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -34,8 +42,21 @@ public class UserService {
     private final UserValidator validator;
     private final RoleService roleService;
     private final UserRepository repository;
+    private final UserCacheEvictor cacheEvictor;
     private final SecurityAuditorProvider auditorProvider;
     private final EmailVerificationService verificationService;
+    private final RegistrationPreparer registrationPreparer;
+    private final RevocationLog revocationLog;
+
+    /**
+     * Uygulama başladığında, silinen kullanıcının email adresini serbest bırakma adımı eklenmeden önce soft delete edilmiş
+     * kullanıcıların adreslerini serbest bırakır. Tekrar çalıştırıldığında etkisizdir.
+     */
+    @PostConstruct
+    protected void releaseDeletedEmails() {
+        int released = repository.releaseDeletedEmails();
+        if (released > 0) log.info("Silinmiş {} kullanıcının email adresi yeniden kayıt için serbest bırakıldı.", released);
+    }
 
     /**
      * Tüm kullanıcıları getirir.
@@ -105,25 +126,33 @@ public class UserService {
      * Kullanıcı kaydı oluşturur.
      * <p>
      * <ol>
-     * <li>Email adresinin eşsiz olup olmadığını kontrol eder.</li>
-     * <li>Parolanın veri ihlallerine karşı durumunu kontrol eder.</li>
+     * <li>Email zaten kayıtlıysa, parola hash'lenmeden reddeder. Bu sorgu her kayda bir veritabanı gidiş-dönüşü ekler;
+     * bilinen bir adresle gelen isteklerin BCrypt ve veri ihlali kontrolü maliyetini tetiklememesi için bilerek
+     * tutulur.</li>
+     * <li>Parolanın veri ihlallerine karşı durumunu kontrol eder ve parolayı hash'ler. Bu adımlar birbirinden bağımsız
+     * olduğu için eşzamanlı çalıştırılır ({@link RegistrationPreparer}).</li>
      * <li>Varsayılan rolleri kullanıcıya atar.</li>
-     * <li>Yeni kullanıcıyı kaydeder.</li>
-     * <li>Email doğrulama linki gönderir.</li>
+     * <li>Yeni kullanıcıyı kaydeder. İlk adımdaki sorgu eşsizliği garanti etmez; eşsizliği {@code users.email}
+     * üzerindeki kısıt sağlar ve ihlal {@link #insertUser(User)} içinde {@link EmailAlreadyExistsException}'a çevrilir.
+     * Aynı anda gelen kayıtlarda sadece biri başarılı olur.</li>
+     * <li>Email doğrulama linkini aynı transaction içinde gönderim kuyruğuna (outbox) ekler.</li>
      * <li>Kaydedilen kullanıcı bilgilerini döndürür.</li>
      * </ol>
      *
      * @param request Kullanıcı bilgileri
      * @return Kaydedilen kullanıcı bilgileri
+     * @throws EmailAlreadyExistsException Email adresi kullanılıyorsa
      */
     public SuccessResponse<UserResponse> registerUser(RegisterRequest request) {
-        validator.validateUniqueEmail(request.email());
-        validator.validatePasswordDataBreachStatus(request.password());
+        var email = UserHelper.normalizeEmail(request.email());
+        if (repository.existsByEmail(email)) throw new EmailAlreadyExistsException(email);
+
+        var encodedPassword = registrationPreparer.validateAndEncodePassword(request);
         var roles = roleService.assignDefaultRoles();
-        var user = helper.buildUser(request, roles);
-        var newUser = repository.save(user);
+        var user = helper.buildUser(request, roles, encodedPassword);
+        var newUser = insertUser(user);
 
-        // Email doğrulama token'ı oluştur ve email gönder
+        // Email doğrulama token'ı oluştur ve email'i gönderim kuyruğuna ekle
         verificationService.createVerificationToken(newUser);
 
         var response = UserResponse.from(newUser);
@@ -214,7 +243,10 @@ public class UserService {
      * <li>Kullanıcının ADMIN rolüne sahip olup olmadığını kontrol eder.</li>
      * <li>Eğer kullanıcı ADMIN rolüne sahipse,
      * {@link AdminCannotBeDeletedException} fırlatılır.</li>
-     * <li>Eğer kullanıcı ADMIN değilse, (soft) silme işlemi gerçekleştirilir.</li>
+     * <li>Eğer kullanıcı ADMIN değilse, email adresi yeniden kayıt için serbest bırakılır ve (soft) silme işlemi
+     * gerçekleştirilir.</li>
+     * <li>Kullanıcının entity ve eski email adresine ait natural id cache kayıtları commit sonrası temizlenir.</li>
+     * <li>Kullanıcının mevcut token'larının iptali commit sonrası iptal akışına yayınlanır.</li>
      * </ol>
      *
      * @param id Silinecek kullanıcının ID'si
@@ -222,8 +254,30 @@ public class UserService {
      */
     public void deleteUser(Long id) {
         var user = findUserById(id);
-        if (hasAdminRole(user)) throw new AdminCannotBeDeletedException();
+        if (roleService.hasAdminRole(user)) throw new AdminCannotBeDeletedException();
+        var email = user.getEmail();
+        repository.releaseEmail(id);
         repository.softDeleteById(auditorProvider.getCurrentAuditor(), id);
+        cacheEvictor.evict(id, email);
+        revocationLog.revokeUser(email);
+    }
+
+    /**
+     * Yeni kullanıcıyı ekler ve email eşsizlik ihlalini {@link EmailAlreadyExistsException}'a çevirir.
+     * <p>
+     * Ekleme hemen veritabanına gönderilir ({@code saveAndFlush}); böylece ihlal commit sırasında değil burada yakalanır.
+     *
+     * @param user Eklenecek kullanıcı
+     * @return Kaydedilen kullanıcı
+     * @throws EmailAlreadyExistsException Email adresi kullanılıyorsa
+     */
+    private User insertUser(User user) {
+        try {
+            return repository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueViolations.isUniqueViolation(e)) throw new EmailAlreadyExistsException(user.getEmail());
+            throw e;
+        }
     }
 
     /**
@@ -0,0 +1,118 @@
+package com.kalayciburak.authservice.service;
+
+import com.kalayciburak.authservice.repository.VerificationTokenRepository;
+import com.kalayciburak.authservice.service.helper.RedisLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Süresi dolmuş email doğrulama token'larını temizleyen zamanlanmış iş.
+ * <p>
+ * <ul>
+ *     <li>Silme, {@code expiry_date} indeksi üzerinden sabit boyutlu parçalar halinde ve her parça ayrı kısa bir
+ *     transaction içinde yapılır; parçalar arasında beklenerek tablo uzun süre kilitli tutulmaz.</li>
+ *     <li>İş, Redis kilidi ile sadece bir instance üzerinde çalışır. Kilit süresi dolarsa kalan kayıtlar bir sonraki
+ *     çalışmaya bırakılır.</li>
+ *     <li>Silinen kayıt sayısı ({@code auth.verification.cleanup.deleted}) ve süre
+ *     ({@code auth.verification.cleanup.duration}) metrik olarak yayınlanır.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationTokenCleaner {
+    private static final String LOCK_NAME = "verification-token-cleanup";
+
+    private final VerificationTokenRepository tokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLock lock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.verification.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.verification.cleanup.pause-ms:100}")
+    private long pauseMs;
+
+    @Value("${app.verification.cleanup.lock-ttl-ms:600000}")
+    private long lockTtlMs;
+
+    /**
+     * Süresi dolmuş token'ları temizler. Varsayılan olarak her gün gece yarısı çalışır.
+     */
+    @Scheduled(cron = "${app.verification.cleanup.cron:0 0 0 * * *}")
+    public void cleanupExpiredTokens() {
+        String owner;
+        try {
+            owner = lock.tryAcquire(LOCK_NAME, Duration.ofMillis(lockTtlMs)).orElse(null);
+        } catch (Exception e) {
+            log.error("Token temizleme kilidi alınamadı, temizlik atlandı.", e);
+            return;
+        }
+        if (owner == null) {
+            log.info("Token temizleme başka bir instance tarafından yürütülüyor.");
+            return;
+        }
+
+        var sample = Timer.start(meterRegistry);
+        try {
+            int deletedCount = deleteExpired(LocalDateTime.now(), System.nanoTime() + Duration.ofMillis(lockTtlMs).toNanos());
+            log.info("Süresi dolmuş {} adet doğrulama token'ı temizlendi.", deletedCount);
+        } catch (Exception e) {
+            log.error("Token temizleme işlemi başarısız.", e);
+        } finally {
+            sample.stop(meterRegistry.timer("auth.verification.cleanup.duration"));
+            lock.release(LOCK_NAME, owner);
+        }
+    }
+
+    /**
+     * Süresi dolmuş token'ları parçalar halinde siler.
+     *
+     * @param now           Bu zamandan önce süresi dolmuş token'lar silinir
+     * @param deadlineNanos Bu zamandan sonra yeni parça başlatılmaz ({@link System#nanoTime()} cinsinden)
+     * @return Toplam silinen kayıt sayısı
+     */
+    int deleteExpired(LocalDateTime now, long deadlineNanos) {
+        var deletedCounter = meterRegistry.counter("auth.verification.cleanup.deleted");
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                var ids = tokenRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+                return ids.isEmpty() ? 0 : tokenRepository.deleteAllByIdIn(ids);
+            });
+            int count = deleted == null ? 0 : deleted;
+            total += count;
+            deletedCounter.increment(count);
+
+            if (count < batchSize) return total;
+            if (System.nanoTime() - deadlineNanos > 0) {
+                log.warn("Token temizleme süresi doldu, kalan kayıtlar bir sonraki çalışmada silinecek.");
+                return total;
+            }
+            if (!pause()) return total;
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) return true;
+
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.kalayciburak.authservice.service.helper;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Zamanlanmış işlerin birden fazla instance arasında tek bir yerde çalışmasını sağlayan basit Redis kilidi.
+ * <p>
+ * Kilit {@code SET NX PX} ile alınır ve süre sonunda kendiliğinden düşer; böylece kilidi tutan instance çökerse iş bir
+ * sonraki çalışmada başka bir instance tarafından alınabilir. Kilit, sadece onu alan sahip tarafından (Lua betiği ile
+ * atomik olarak) bırakılabilir.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+    private static final String KEY_PREFIX = "LOCK:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * Kilidi almayı dener, beklemez.
+     *
+     * @param name Kilit adı
+     * @param ttl  Kilidin en uzun tutulma süresi
+     * @return Kilit alındıysa sahip değeri ({@link #release} için), başka bir instance tutuyorsa boş
+     */
+    public Optional<String> tryAcquire(String name, Duration ttl) {
+        var owner = UUID.randomUUID().toString();
+        var acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, owner, ttl);
+
+        return Boolean.TRUE.equals(acquired) ? Optional.of(owner) : Optional.empty();
+    }
+
+    /**
+     * Kilidi, hâlâ bu sahipteyse bırakır.
+     *
+     * @param name  Kilit adı
+     * @param owner {@link #tryAcquire} tarafından dönen sahip değeri
+     */
+    public void release(String name, String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + name), owner);
+    }
+}
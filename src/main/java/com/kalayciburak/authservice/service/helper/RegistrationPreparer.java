@@ -0,0 +1,83 @@
+package com.kalayciburak.authservice.service.helper;
+
+import com.kalayciburak.authservice.advice.exception.BreachedPasswordException;
+import com.kalayciburak.authservice.model.dto.request.RegisterRequest;
+import com.kalayciburak.authservice.service.validator.UserValidator;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Kayıt isteğinin birbirinden bağımsız yavaş adımlarını (parola sızıntı kontrolü ve parola hash'leme) eşzamanlı olarak
+ * çalıştırır.
+ * <p>
+ * <ul>
+ *     <li>Hash'leme, CPU çekirdek sayısı kadar platform thread'i olan bir havuzda başlatılır; sızıntı kontrolü çağıran
+ *     thread'de yapılır. BCrypt CPU'ya bağlı olduğu için havuz, eşzamanlı kayıt sayısı ne olursa olsun aynı anda
+ *     çekirdek sayısından fazla hash hesaplanmasını engeller.</li>
+ *     <li>Parola sızdırılmışsa bekleyen hash iptal edilir ve sonucu beklenmez. Kuyrukta bekleyen hash hiç çalışmaz;
+ *     başlamış bir BCrypt hesabı kesintiye uğratılamaz, arka planda tamamlanır ve sonucu atılır.</li>
+ *     <li>Toplam süre, adımların toplamı yerine en yavaş adıma (genellikle sızıntı kontrolü veya BCrypt) iner.</li>
+ *     <li>Email eşsizliği burada kontrol edilmez; kayıtlı email'ler {@code UserService} tarafından bu adımlardan önce
+ *     reddedilir.</li>
+ * </ul>
+ * {@code app.registration.concurrent-validation=false} ile adımlar sırayla, tek thread'de çalıştırılır.
+ */
+@Component
+@RequiredArgsConstructor
+public class RegistrationPreparer {
+    private final UserValidator validator;
+    private final UserHelper helper;
+    private final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+            Thread.ofPlatform().name("register-", 0).daemon().factory());
+
+    @Value("${app.registration.concurrent-validation:true}")
+    private boolean concurrent = true;
+
+    /**
+     * Kayıt isteğinin parolasını doğrular ve hash'ler.
+     *
+     * @param request Kayıt isteği
+     * @return Encode edilmiş parola
+     * @throws BreachedPasswordException Parola veri ihlallerinde tespit edildiyse
+     */
+    public String validateAndEncodePassword(RegisterRequest request) {
+        if (!concurrent) {
+            validator.validatePasswordDataBreachStatus(request.password());
+            return helper.encodePassword(request.password());
+        }
+
+        var encoding = executor.submit(() -> helper.encodePassword(request.password()));
+        try {
+            validator.validatePasswordDataBreachStatus(request.password());
+            return await(encoding);
+        } catch (RuntimeException | Error e) {
+            encoding.cancel(true);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Kayıt işlemi kesildi.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.kalayciburak.authservice.service.helper;
+
+import com.kalayciburak.authservice.model.entity.Role;
+import com.kalayciburak.authservice.model.enums.RoleType;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Sistemdeki rollerin bellek içi, değiştirilemez kataloğunu tutan sınıf.
+ * <p>
+ * Roller sabit {@link RoleType} enum'undan gelir ve uygulama başlangıcında bir kez yüklenir. Varsayılan rol ataması, ID ile
+ * rol çözümleme ve yetki (authority) üretimi veritabanına gitmeden bu katalog üzerinden yapılır. Roller değiştiğinde
+ * {@link #refresh(Collection)} ile katalog tek adımda (atomik olarak) yenilenir.
+ * </p>
+ */
+@Component
+public class RoleCatalog {
+    private static final RoleType[] ROLE_TYPES = RoleType.values();
+    private static final List<GrantedAuthority>[] AUTHORITIES_BY_MASK = buildAuthorityTable();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Kataloğu verilen rollerle yeniler.
+     *
+     * @param roles Veritabanındaki güncel roller
+     */
+    public void refresh(Collection<Role> roles) {
+        this.snapshot = Snapshot.of(roles);
+    }
+
+    /**
+     * Rol tipine karşılık gelen rolü döner.
+     *
+     * @param name Rol tipi
+     * @return Bulunan rol
+     */
+    public Optional<Role> findByName(RoleType name) {
+        return Optional.ofNullable(snapshot.byName().get(name));
+    }
+
+    /**
+     * Verilen ID'lere karşılık gelen ve katalogda bulunan rolleri döner.
+     *
+     * @param roleIds Rol ID'leri
+     * @return Katalogda bulunan rollerin kümesi
+     */
+    public Set<Role> findAllById(Set<Long> roleIds) {
+        var byId = snapshot.byId();
+        var roles = new HashSet<Role>(roleIds.size());
+        for (var id : roleIds) {
+            var role = byId.get(id);
+            if (role != null) roles.add(role);
+        }
+
+        return roles;
+    }
+
+    /**
+     * Rol kümesine karşılık gelen, önceden hesaplanmış ve paylaşılan yetki listesini döner.
+     * <p>
+     * Aynı rol kümesine sahip tüm kullanıcılar aynı (değiştirilemez) liste örneğini paylaşır.
+     *
+     * @param roles Kullanıcının rolleri
+     * @return Değiştirilemez yetki listesi
+     */
+    public List<GrantedAuthority> authoritiesOf(Collection<Role> roles) {
+        return AUTHORITIES_BY_MASK[maskOf(roles)];
+    }
+
+    /**
+     * Rol kümesinin ADMIN rolünü içerip içermediğini kontrol eder.
+     *
+     * @param roles Kontrol edilecek roller
+     * @return ADMIN rolü varsa true
+     */
+    public boolean containsAdmin(Collection<Role> roles) {
+        return (maskOf(roles) & bit(RoleType.ROLE_ADMIN)) != 0;
+    }
+
+    /**
+     * Rol kümesini, her bitin bir {@link RoleType} değerini temsil ettiği bir maskeye dönüştürür.
+     *
+     * @param roles Roller
+     * @return Rol maskesi
+     */
+    private static int maskOf(Collection<Role> roles) {
+        int mask = 0;
+        for (var role : roles) mask |= bit(role.getName());
+
+        return mask;
+    }
+
+    private static int bit(RoleType roleType) {
+        return 1 << roleType.ordinal();
+    }
+
+    /**
+     * Tüm olası rol kombinasyonları için yetki listelerini uygulama başlarken bir kez oluşturur.
+     *
+     * @return Maskeye göre indekslenmiş yetki listeleri
+     */
+    @SuppressWarnings("unchecked")
+    private static List<GrantedAuthority>[] buildAuthorityTable() {
+        var authorities = new GrantedAuthority[ROLE_TYPES.length];
+        for (var roleType : ROLE_TYPES) authorities[roleType.ordinal()] = new SimpleGrantedAuthority(roleType.name());
+
+        var table = (List<GrantedAuthority>[]) new List[1 << ROLE_TYPES.length];
+        for (int mask = 0; mask < table.length; mask++) {
+            var list = new ArrayList<GrantedAuthority>(Integer.bitCount(mask));
+            for (int ordinal = 0; ordinal < ROLE_TYPES.length; ordinal++) {
+                if ((mask & (1 << ordinal)) != 0) list.add(authorities[ordinal]);
+            }
+            table[mask] = List.copyOf(list);
+        }
+
+        return table;
+    }
+
+    /**
+     * Katalogun belirli bir andaki değiştirilemez görüntüsü.
+     *
+     * @param byId   ID'ye göre roller
+     * @param byName Rol tipine göre roller
+     */
+    private record Snapshot(Map<Long, Role> byId, Map<RoleType, Role> byName) {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+
+        private static Snapshot of(Collection<Role> roles) {
+            var byId = new HashMap<Long, Role>();
+            var byName = new EnumMap<RoleType, Role>(RoleType.class);
+            for (var role : roles) {
+                byId.put(role.getId(), role);
+                byName.put(role.getName(), role);
+            }
+
+            return new Snapshot(Map.copyOf(byId), Collections.unmodifiableMap(byName));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.kalayciburak.authservice.service.helper;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+/**
+ * Veritabanı kısıt ihlallerinden eşsizlik (unique) ihlallerini ayırt eden yardımcı sınıf.
+ * <p>
+ * Eşsizlik kontrolünü ayrı bir sorgu yerine doğrudan {@code INSERT} ile yapan akışlar, dönen
+ * {@link DataIntegrityViolationException}'ın bir eşsizlik ihlali olup olmadığını bu sınıfla kontrol eder. MySQL
+ * ({@code 1062 ER_DUP_ENTRY}) ve standart SQLState ({@code 23505}, H2/PostgreSQL) kodları tanınır.
+ * </p>
+ */
+public final class UniqueViolations {
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
+    private UniqueViolations() {
+    }
+
+    /**
+     * İstisnanın bir eşsizlik ihlalinden kaynaklanıp kaynaklanmadığını döner.
+     *
+     * @param exception Kısıt ihlali istisnası
+     * @return Eşsizlik ihlali ise {@code true}
+     */
+    public static boolean isUniqueViolation(DataIntegrityViolationException exception) {
+        if (exception instanceof DuplicateKeyException) return true;
+
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && (UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())
+                    || sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY)) return true;
+            if (cause.getCause() == cause) break;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,64 @@
+package com.kalayciburak.authservice.service.helper;
+
+import com.kalayciburak.authservice.model.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Kullanıcıya ait Hibernate ikinci seviye cache kayıtlarını temizleyen yardımcı sınıf.
+ * <p>
+ * Soft delete gibi entity'yi session dışından (toplu sorgu ile) güncelleyen işlemlerden sonra, cache'teki eski kopyanın
+ * okunmasını engellemek için kullanılır. Aktif bir transaction varsa temizlik commit sonrasına ertelenir. L2 cache kapalıyken
+ * çağrılar etkisizdir.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictor {
+    private static final String ROLES_COLLECTION_ROLE = User.class.getName() + ".roles";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Kullanıcının entity, rol koleksiyonu ve verilen email'e ait natural id cache kayıtlarını temizler. Diğer
+     * kullanıcıların kayıtlarına dokunulmaz.
+     *
+     * @param userId Kullanıcı ID'si
+     * @param email  Kullanıcının cache'te tutulmuş olabilecek (güncelleme öncesi) email adresi
+     */
+    public void evict(Long userId, String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId, email);
+                }
+            });
+
+            return;
+        }
+
+        evictNow(userId, email);
+    }
+
+    private void evictNow(Long userId, String email) {
+        var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        var cache = sessionFactory.getCache();
+        cache.evictEntityData(User.class, userId);
+        cache.evictCollectionData(ROLES_COLLECTION_ROLE, userId);
+
+        // Cache API'si natural id bölgesini sadece tümüyle temizleyebildiği için tek anahtar erişim stratejisiyle silinir
+        var persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(User.class);
+        var naturalIdAccess = persister.getNaturalIdCacheAccessStrategy();
+        if (naturalIdAccess == null) return;
+        try (var session = sessionFactory.openSession()) {
+            var key = naturalIdAccess.generateCacheKey(email, persister, session.unwrap(SharedSessionContractImplementor.class));
+            naturalIdAccess.evict(key);
+        }
+    }
+}
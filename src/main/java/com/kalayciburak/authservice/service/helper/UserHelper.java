@@ -3,11 +3,11 @@ package com.kalayciburak.authservice.service.helper;
 import com.kalayciburak.authservice.model.dto.request.RegisterRequest;
 import com.kalayciburak.authservice.model.entity.Role;
 import com.kalayciburak.authservice.model.entity.User;
-import com.kalayciburak.authservice.model.enums.RoleType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
 import java.util.Set;
 
 /**
@@ -29,33 +29,46 @@ public class UserHelper {
     }
 
     /**
-     * Kullanıcının ADMIN rolüne sahip olup olmadığını kontrol eder.
+     * RegisterRequest ile yeni bir User varlığı oluşturur.
      *
-     * @param user Kontrol edilecek kullanıcı
-     * @return Kullanıcı ADMIN ise true, değilse false
+     * @param request Kullanıcı bilgileri.
+     * @param roles   Kullanıcıya atanacak roller.
+     * @return Oluşturulan User nesnesi.
      */
-    public static boolean hasAdminRole(User user) {
-        return user.getRoles().stream().anyMatch(role -> role.getName().equals(RoleType.ROLE_ADMIN));
+    public User buildUser(RegisterRequest request, Set<Role> roles) {
+        return buildUser(request, roles, passwordEncoder.encode(request.password()));
     }
 
     /**
-     * RegisterRequest ile yeni bir User varlığı oluşturur.
+     * RegisterRequest ve önceden encode edilmiş parola ile yeni bir User varlığı oluşturur.
      *
-     * @param request Kullanıcı bilgileri.
-     * @param roles   Kullanıcıya atanacak roller.
+     * @param request         Kullanıcı bilgileri.
+     * @param roles           Kullanıcıya atanacak roller.
+     * @param encodedPassword Encode edilmiş parola.
      * @return Oluşturulan User nesnesi.
      */
-    public User buildUser(RegisterRequest request, Set<Role> roles) {
+    public User buildUser(RegisterRequest request, Set<Role> roles, String encodedPassword) {
         return User.builder()
                 .firstName(normalizeNameCase(request.firstName()))
                 .lastName(normalizeNameCase(request.lastName()))
-                .email(request.email().toLowerCase())
-                .password(passwordEncoder.encode(request.password()))
+                .email(normalizeEmail(request.email()))
+                .password(encodedPassword)
                 .emailVerified(false)
                 .roles(roles)
                 .build();
     }
 
+    /**
+     * Email adresini kayıtta saklandığı biçime (boşluksuz, küçük harf) getirir. Dil ayarından bağımsız olması için
+     * {@link Locale#ROOT} kullanılır; örneğin Türkçe dil ayarında {@code I} harfi {@code ı} olmaz.
+     *
+     * @param email Email adresi
+     * @return Normalize edilmiş email adresi
+     */
+    public static String normalizeEmail(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Ad ve soyad için baş harfi büyük, diğerleri küçük yapan normalizasyon.
      *
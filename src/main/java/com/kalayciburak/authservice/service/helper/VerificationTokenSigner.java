@@ -0,0 +1,134 @@
+package com.kalayciburak.authservice.service.helper;
+
+import com.kalayciburak.authservice.advice.exception.InvalidVerificationTokenException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Veritabanında saklanmayan, HMAC-SHA256 ile imzalı email doğrulama token'ları üretir ve doğrular.
+ * <p>
+ * Token biçimi: {@code v1.<userId>.<expiresAtEpochSecond>.<nonce>.<imza>}. İmza, yalnızca email doğrulama amacıyla
+ * kullanılabilmesi için sabit bir amaç önekiyle birlikte hesaplanır. {@code nonce} kullanıcı kaydında tutulur; doğrulama
+ * nonce'ı sildiği için token tek kullanımlıktır. Tekrar gönderilen linkler mevcut nonce ile imzalanır; önceki linkler de
+ * doğrulama yapılana veya süreleri dolana kadar geçerli kalır.
+ */
+public class VerificationTokenSigner {
+    public static final String PREFIX = "v1.";
+    private static final String PURPOSE = "email-verification:";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecureRandom random = new SecureRandom();
+    private final Mac prototype;
+
+    public VerificationTokenSigner(String secret) {
+        if (secret == null || secret.length() < 32)
+            throw new IllegalStateException("Doğrulama token'ı imza anahtarı en az 32 karakter olmalıdır.");
+
+        try {
+            prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC anahtarı oluşturulamadı.", e);
+        }
+    }
+
+    /**
+     * Yeni bir kullanıcı nonce'ı üretir.
+     *
+     * @return Pozitif rastgele sayı
+     */
+    public long newNonce() {
+        return random.nextLong() & Long.MAX_VALUE;
+    }
+
+    /**
+     * İmzalı doğrulama token'ı üretir.
+     *
+     * @param userId    Kullanıcı ID'si
+     * @param nonce     Kullanıcının güncel nonce'ı
+     * @param expiresAt Son geçerlilik zamanı
+     * @return Token
+     */
+    public String sign(Long userId, long nonce, Instant expiresAt) {
+        var payload = PREFIX + userId + "." + expiresAt.getEpochSecond() + "." + Long.toHexString(nonce);
+
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(mac(payload));
+    }
+
+    /**
+     * Token'ın biçimini, imzasını ve süresini doğrular. Nonce'ın güncel olup olmadığı veritabanındaki koşullu güncelleme
+     * ile kontrol edilir.
+     *
+     * @param token Token
+     * @param now   Şu anki zaman
+     * @return Token içeriği
+     * @throws InvalidVerificationTokenException Token geçersiz veya süresi dolmuşsa
+     */
+    public Claims verify(String token, Instant now) {
+        int signatureStart = token.lastIndexOf('.');
+        if (!token.startsWith(PREFIX) || signatureStart < 0) throw invalid();
+
+        var payload = token.substring(0, signatureStart);
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(token.substring(signatureStart + 1));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        if (!MessageDigest.isEqual(mac(payload), signature)) throw invalid();
+
+        var parts = payload.substring(PREFIX.length()).split("\\.");
+        if (parts.length != 3) throw invalid();
+
+        Claims claims;
+        try {
+            claims = new Claims(Long.parseLong(parts[0]), Instant.ofEpochSecond(Long.parseLong(parts[1])),
+                    Long.parseUnsignedLong(parts[2], 16));
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+        if (claims.expiresAt().isBefore(now)) throw new InvalidVerificationTokenException("Doğrulama kodunun süresi dolmuş.");
+
+        return claims;
+    }
+
+    /**
+     * Token'ın bu sınıfın ürettiği imzalı biçimde olup olmadığını döner.
+     *
+     * @param token Token
+     * @return İmzalı token ise {@code true}
+     */
+    public static boolean isSigned(String token) {
+        return token.startsWith(PREFIX);
+    }
+
+    private byte[] mac(String payload) {
+        try {
+            var mac = (Mac) prototype.clone();
+            return mac.doFinal((PURPOSE + payload).getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static InvalidVerificationTokenException invalid() {
+        return new InvalidVerificationTokenException("Geçersiz doğrulama kodu.");
+    }
+
+    /**
+     * İmzası doğrulanmış token içeriği.
+     *
+     * @param userId    Kullanıcı ID'si
+     * @param expiresAt Son geçerlilik zamanı
+     * @param nonce     Token üretilirken kullanıcının nonce'ı
+     */
+    public record Claims(Long userId, Instant expiresAt, long nonce) {
+    }
+}
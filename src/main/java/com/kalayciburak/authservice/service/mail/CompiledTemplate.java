@@ -0,0 +1,101 @@
+package com.kalayciburak.authservice.service.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Başlangıçta bir kez ayrıştırılmış şablon.
+ * <p>
+ * Şablon metni {@code {{parametre}}} yer tutucularından bölünerek sabit metin parçalarına ve parametre indekslerine
+ * ayrılır. Render sırasında metin taranmaz; parçalar ve (gerekirse HTML kaçışlı) parametre değerleri sırayla verilen
+ * buffer'a eklenir.
+ */
+public final class CompiledTemplate {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final int[] slots;
+    private final boolean escapeHtml;
+
+    private CompiledTemplate(String[] literals, int[] slots, boolean escapeHtml) {
+        this.literals = literals;
+        this.slots = slots;
+        this.escapeHtml = escapeHtml;
+    }
+
+    /**
+     * Şablon metnini ayrıştırır.
+     *
+     * @param source     Şablon metni
+     * @param parameters Şablonun kabul ettiği parametre adları; render sırasında değerler bu sırayla verilir
+     * @param escapeHtml Parametre değerleri HTML kaçışı uygulanarak mı yazılacak
+     * @return Ayrıştırılmış şablon
+     * @throws IllegalArgumentException Tanımsız bir parametre veya kapanmamış yer tutucu varsa
+     */
+    public static CompiledTemplate compile(String source, List<String> parameters, boolean escapeHtml) {
+        var literals = new ArrayList<String>();
+        var slots = new ArrayList<Integer>();
+
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) throw new IllegalArgumentException("Kapanmamış şablon parametresi, konum: " + open);
+
+            var name = source.substring(open + OPEN.length(), close).strip();
+            int index = parameters.indexOf(name);
+            if (index < 0) throw new IllegalArgumentException("Tanımsız şablon parametresi: " + name);
+
+            literals.add(source.substring(position, open));
+            slots.add(index);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+
+        return new CompiledTemplate(
+                literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                escapeHtml);
+    }
+
+    /**
+     * Şablonu verilen buffer'a yazar.
+     *
+     * @param out    Hedef buffer
+     * @param values Parametre değerleri ({@link #compile} sırasında verilen parametre sırasıyla)
+     */
+    public void renderTo(StringBuilder out, String[] values) {
+        out.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            var value = values[slots[i]];
+            if (value != null) {
+                if (escapeHtml) appendEscaped(out, value);
+                else out.append(value);
+            }
+            out.append(literals[i + 1]);
+        }
+    }
+
+    /**
+     * Değeri HTML kaçışı uygulayarak yazar. Kaçış gerektiren karakter içermeyen aralıklar tek seferde eklenir.
+     */
+    static void appendEscaped(StringBuilder out, String value) {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            var replacement = switch (value.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement == null) continue;
+
+            out.append(value, start, i).append(replacement);
+            start = i + 1;
+        }
+        out.append(value, start, value.length());
+    }
+}
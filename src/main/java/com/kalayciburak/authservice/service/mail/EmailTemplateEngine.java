@@ -0,0 +1,147 @@
+package com.kalayciburak.authservice.service.mail;
+
+import com.kalayciburak.authservice.model.enums.EmailType;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Email şablonlarını başlangıçta bir kez ayrıştırıp render eden motor.
+ * <p>
+ * Her {@link EmailType} ve dil için şablonlar classpath'ten okunur:
+ * <ul>
+ *     <li>{@code templates/email/{dil}/{şablon}.html} - HTML gövde (parametreler HTML kaçışlı yazılır)</li>
+ *     <li>{@code templates/email/{dil}/{şablon}.txt} - Düz metin alternatif gövde</li>
+ *     <li>{@code templates/email/{dil}/subjects.properties} - Konu satırları ({@code şablon=konu})</li>
+ * </ul>
+ * Varsayılan dilin tüm şablonları zorunludur; diğer dillerde eksik olan şablonlar için varsayılan dil kullanılır. Render
+ * sırasında thread başına yeniden kullanılan bir buffer kullanılır.
+ */
+public final class EmailTemplateEngine {
+    private static final String BASE_PATH = "templates/email/";
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    private final String defaultLocale;
+    private final Map<String, Map<EmailType, LocalizedTemplate>> templates;
+
+    private EmailTemplateEngine(String defaultLocale, Map<String, Map<EmailType, LocalizedTemplate>> templates) {
+        this.defaultLocale = defaultLocale;
+        this.templates = templates;
+    }
+
+    /**
+     * Şablonları classpath'ten yükler ve ayrıştırır.
+     *
+     * @param classLoader   Şablonların okunacağı class loader
+     * @param defaultLocale Varsayılan dil (örn. {@code tr})
+     * @param locales       Desteklenen diğer diller
+     * @return Şablon motoru
+     * @throws IllegalStateException Varsayılan dilin bir şablonu eksik veya hatalıysa
+     */
+    public static EmailTemplateEngine load(ClassLoader classLoader, String defaultLocale, Collection<String> locales) {
+        var templates = new HashMap<String, Map<EmailType, LocalizedTemplate>>();
+        var allLocales = new LinkedHashSet<String>();
+        allLocales.add(defaultLocale);
+        allLocales.addAll(locales);
+
+        for (var locale : allLocales) {
+            var subjects = loadSubjects(classLoader, locale);
+            var localized = new EnumMap<EmailType, LocalizedTemplate>(EmailType.class);
+            for (var type : EmailType.values()) {
+                var html = read(classLoader, locale, type.getTemplateName() + ".html");
+                var text = read(classLoader, locale, type.getTemplateName() + ".txt");
+                var subject = subjects.getProperty(type.getTemplateName());
+                if (html == null || text == null || subject == null) {
+                    if (locale.equals(defaultLocale))
+                        throw new IllegalStateException("Varsayılan dilde eksik email şablonu: " + locale + "/" + type.getTemplateName());
+                    continue;
+                }
+
+                try {
+                    localized.put(type, new LocalizedTemplate(
+                            CompiledTemplate.compile(subject, type.getParameters(), false),
+                            CompiledTemplate.compile(html, type.getParameters(), true),
+                            CompiledTemplate.compile(text, type.getParameters(), false)));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalStateException("Email şablonu ayrıştırılamadı: " + locale + "/" + type.getTemplateName(), e);
+                }
+            }
+            templates.put(locale, localized);
+        }
+
+        return new EmailTemplateEngine(defaultLocale, Map.copyOf(templates));
+    }
+
+    /**
+     * Email'i istenen dilde render eder. Dil desteklenmiyorsa veya bu tip için şablonu yoksa varsayılan dil kullanılır.
+     *
+     * @param type   Email tipi
+     * @param locale Dil etiketi (örn. {@code tr}, {@code en-US}); {@code null} ise varsayılan dil
+     * @param values Parametre değerleri ({@link EmailType#getParameters()} sırasıyla)
+     * @return Render edilmiş konu, HTML ve düz metin
+     */
+    public RenderedEmail render(EmailType type, String locale, String... values) {
+        var template = resolve(type, locale);
+        var buffer = BUFFER.get();
+        try {
+            return new RenderedEmail(
+                    render(buffer, template.subject(), values),
+                    render(buffer, template.html(), values),
+                    render(buffer, template.text(), values));
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) BUFFER.remove();
+        }
+    }
+
+    private LocalizedTemplate resolve(EmailType type, String locale) {
+        if (locale != null) {
+            var template = find(type, locale);
+            if (template != null) return template;
+
+            // en-US -> en
+            int separator = locale.indexOf('-');
+            if (separator > 0 && (template = find(type, locale.substring(0, separator))) != null) return template;
+        }
+
+        return templates.get(defaultLocale).get(type);
+    }
+
+    private LocalizedTemplate find(EmailType type, String locale) {
+        var localized = templates.get(locale.toLowerCase(Locale.ROOT));
+
+        return localized == null ? null : localized.get(type);
+    }
+
+    private static String render(StringBuilder buffer, CompiledTemplate template, String[] values) {
+        buffer.setLength(0);
+        template.renderTo(buffer, values);
+
+        return buffer.toString();
+    }
+
+    private static Properties loadSubjects(ClassLoader classLoader, String locale) {
+        var properties = new Properties();
+        try (var stream = classLoader.getResourceAsStream(BASE_PATH + locale + "/subjects.properties")) {
+            if (stream != null) properties.load(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return properties;
+    }
+
+    private static String read(ClassLoader classLoader, String locale, String fileName) {
+        try (var stream = classLoader.getResourceAsStream(BASE_PATH + locale + "/" + fileName)) {
+            return stream == null ? null : new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record LocalizedTemplate(CompiledTemplate subject, CompiledTemplate html, CompiledTemplate text) {
+    }
+}
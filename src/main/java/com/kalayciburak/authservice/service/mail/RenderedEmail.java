@@ -0,0 +1,11 @@
+package com.kalayciburak.authservice.service.mail;
+
+/**
+ * Render edilmiş email içeriği.
+ *
+ * @param subject Konu
+ * @param html    HTML gövde
+ * @param text    Düz metin alternatif gövde
+ */
+public record RenderedEmail(String subject, String html, String text) {
+}
@@ -0,0 +1,248 @@
+package com.kalayciburak.authservice.service.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Kimliği doğrulanmış SMTP oturumlarını yeniden kullanan küçük bir bağlantı havuzu.
+ * <p>
+ * Varsayılan {@code JavaMailSenderImpl} her gönderimde yeni bir SMTP bağlantısı açar (TCP + STARTTLS + AUTH). Bu sınıf
+ * bağlantıları açık tutar ve bir mesaj listesini tek oturum üzerinden gönderir.
+ * <ul>
+ *     <li>Aynı anda en fazla {@code maxSessions} oturum açılır.</li>
+ *     <li>Uzun süre boşta kalan veya sunucu tarafından kapatılan oturumlar atılır ve yenisi açılır.</li>
+ *     <li>Gönderim sırasında bağlantı koparsa bir kez yeniden bağlanılır ve mesaj tekrar denenir.</li>
+ *     <li>Sunucuya saniyede en fazla {@code maxMessagesPerSecond} mesaj gönderilir.</li>
+ *     <li>Jakarta Mail'in SMTP transport'u {@code synchronized} metotlar içinde ağ I/O'su yaptığı için sanal thread'den
+ *     yapılan gönderimler, carrier thread'i sabitlememek (pinning) için {@code maxSessions} adet platform thread'ine
+ *     devredilir; sanal thread sonucu beklerken carrier'ı serbest bırakır.</li>
+ * </ul>
+ */
+@Slf4j
+public class SmtpSessionPool implements AutoCloseable {
+    private final Session session;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final long maxIdleNanos;
+    private final long sendIntervalNanos;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicLong nextSendSlot = new AtomicLong(System.nanoTime());
+    private final ExecutorService platformThreads;
+
+    public SmtpSessionPool(Session session, String protocol, String host, int port, String username, String password,
+                           int maxSessions, long maxIdleMs, double maxMessagesPerSecond) {
+        this.session = session;
+        this.protocol = protocol;
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.maxIdleNanos = TimeUnit.MILLISECONDS.toNanos(maxIdleMs);
+        this.sendIntervalNanos = maxMessagesPerSecond > 0 ? (long) (1_000_000_000L / maxMessagesPerSecond) : 0;
+        this.permits = new Semaphore(maxSessions, true);
+        this.platformThreads = Executors.newFixedThreadPool(maxSessions, Thread.ofPlatform().name("smtp-", 0).daemon().factory());
+    }
+
+    /**
+     * Havuzun SMTP oturumuna bağlı yeni bir mesaj oluşturur.
+     *
+     * @return Boş {@link MimeMessage}
+     */
+    public MimeMessage createMimeMessage() {
+        return new MimeMessage(session);
+    }
+
+    /**
+     * Mesajları tek bir SMTP oturumu üzerinden sırayla gönderir.
+     * <p>
+     * Bir mesajın başarısız olması diğerlerinin gönderimini durdurmaz; başarısız mesajlar indeksleriyle birlikte döner.
+     *
+     * @param messages Gönderilecek mesajlar
+     * @return Başarısız gönderimler (hepsi başarılıysa boş liste)
+     */
+    public List<SendFailure> send(List<MimeMessage> messages) {
+        if (messages.isEmpty()) return new ArrayList<>();
+        if (!Thread.currentThread().isVirtual()) return sendOnSession(messages);
+
+        try {
+            return platformThreads.submit(() -> sendOnSession(messages)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failAll(messages, 0, new MessagingException("SMTP gönderimi beklenirken kesildi", e), new ArrayList<>());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private List<SendFailure> sendOnSession(List<MimeMessage> messages) {
+        var failures = new ArrayList<SendFailure>();
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failAll(messages, 0, new MessagingException("SMTP oturumu beklenirken kesildi", e), failures);
+        }
+
+        PooledTransport transport = null;
+        int i = 0;
+        try {
+            transport = borrow();
+            for (; i < messages.size(); i++) {
+                var message = messages.get(i);
+                throttle();
+                try {
+                    transport.send(message);
+                } catch (MessagingException e) {
+                    if (transport.isConnected()) {
+                        failures.add(new SendFailure(i, e));
+                        continue;
+                    }
+
+                    // Bağlantı kopmuş: yeniden bağlan ve mesajı bir kez daha dene
+                    log.warn("SMTP bağlantısı koptu, yeniden bağlanılıyor: {}:{}", host, port);
+                    transport.close();
+                    transport = null;
+                    transport = connect();
+                    try {
+                        transport.send(message);
+                    } catch (MessagingException retryError) {
+                        failures.add(new SendFailure(i, retryError));
+                    }
+                }
+            }
+            release(transport);
+        } catch (MessagingException e) {
+            // Bağlantı kurulamadı: henüz gönderilmemiş tüm mesajlar başarısız sayılır
+            if (transport != null) transport.close();
+            failAll(messages, i, e, failures);
+        } finally {
+            permits.release();
+        }
+
+        return failures;
+    }
+
+    /**
+     * Boştaki tüm oturumları kapatır.
+     */
+    @Override
+    public void close() {
+        platformThreads.shutdown();
+        PooledTransport transport;
+        while ((transport = idle.poll()) != null) transport.close();
+    }
+
+    /**
+     * Boştaki bir oturumu döner; yoksa veya oturumlar kullanılamaz durumdaysa yeni bir oturum açar.
+     */
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport transport;
+        while ((transport = idle.pollFirst()) != null) {
+            if (transport.idleNanos() < maxIdleNanos && transport.isConnected()) return transport;
+            transport.close();
+        }
+
+        return connect();
+    }
+
+    private void release(PooledTransport transport) {
+        transport.touch();
+        idle.offerFirst(transport);
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        var transport = session.getTransport(protocol);
+        transport.connect(host, port, username, password);
+
+        return new PooledTransport(transport);
+    }
+
+    /**
+     * Sunucu başına hız sınırını uygular. Her gönderim bir sonraki boş zaman dilimini atomik olarak ayırır ve o ana kadar
+     * bekler; kilit kullanılmaz.
+     */
+    private void throttle() {
+        if (sendIntervalNanos == 0) return;
+
+        var now = System.nanoTime();
+        var slot = nextSendSlot.getAndUpdate(previous -> Math.max(previous, now) + sendIntervalNanos);
+        var waitNanos = slot - now;
+        if (waitNanos > 0) LockSupport.parkNanos(waitNanos);
+    }
+
+    private static List<SendFailure> failAll(List<MimeMessage> messages, int from, MessagingException cause,
+                                             List<SendFailure> failures) {
+        for (int i = from; i < messages.size(); i++) failures.add(new SendFailure(i, cause));
+
+        return failures;
+    }
+
+    /**
+     * Başarısız bir gönderim.
+     *
+     * @param index Mesajın gönderim listesindeki sırası
+     * @param cause Hata
+     */
+    public record SendFailure(int index, MessagingException cause) {
+    }
+
+    /**
+     * Havuzdaki bir SMTP oturumu ve son kullanım zamanı.
+     */
+    private static final class PooledTransport {
+        private final Transport transport;
+        private long lastUsedNanos = System.nanoTime();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private void send(MimeMessage message) throws MessagingException {
+            if (message.getSentDate() == null) message.setSentDate(new Date());
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+        }
+
+        private boolean isConnected() {
+            return transport.isConnected();
+        }
+
+        private long idleNanos() {
+            return System.nanoTime() - lastUsedNanos;
+        }
+
+        private void touch() {
+            lastUsedNanos = System.nanoTime();
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException ignored) {
+                // Zaten kopmuş bir bağlantıyı kapatırken oluşan hata önemsizdir
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+/**
+ * Başarısız deneme sayısına göre uygulanacak bekleme ve kilitleme kuralları.
+ *
+ * @param freeAttempts     Bekleme uygulanmadan izin verilen başarısız deneme sayısı
+ * @param baseBackoffMs    İlk bekleme süresi; sonraki her başarısızlıkta iki katına çıkar
+ * @param maxBackoffMs     En uzun bekleme süresi
+ * @param lockoutThreshold Bu sayıya ulaşıldığında anahtar {@code lockoutMs} boyunca kilitlenir
+ * @param lockoutMs        Kilit süresi
+ * @param windowMs         Başarısız denemelerin sayıldığı kayan pencere süresi
+ */
+public record FailurePolicy(int freeAttempts, long baseBackoffMs, long maxBackoffMs, int lockoutThreshold,
+                            long lockoutMs, long windowMs) {
+    /**
+     * Pencere içindeki başarısız deneme sayısına göre uygulanacak bekleme süresini hesaplar.
+     *
+     * @param failures Pencere içindeki başarısız deneme sayısı
+     * @return Bekleme süresi (ms), bekleme yoksa {@code 0}
+     */
+    public long blockMs(int failures) {
+        if (failures >= lockoutThreshold) return lockoutMs;
+        if (failures <= freeAttempts) return 0;
+
+        int shift = Math.min(failures - freeAttempts - 1, 30);
+        return Math.min(maxBackoffMs, baseBackoffMs << shift);
+    }
+}
@@ -0,0 +1,102 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Başarısız giriş denemelerini bellekte, kilitsiz olarak sayan depo.
+ * <p>
+ * Her anahtarın durumu değişmez bir {@link Attempts} kaydıdır ve {@link AtomicReference} üzerinde CAS ile güncellenir;
+ * okuma yolu ({@link #blockedForMs}) tek bir volatile okumadır. Sayım, iki ardışık pencere sayacıyla yaklaşık kayan
+ * pencere (sliding window counter) olarak yapılır: önceki pencerenin sayısı, mevcut pencerede geçen süre oranında azaltılarak
+ * eklenir.
+ */
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+    private final ConcurrentHashMap<String, AtomicReference<Attempts>> attempts = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    public InMemoryLoginAttemptStore() {
+        this(System::currentTimeMillis);
+    }
+
+    InMemoryLoginAttemptStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public long blockedForMs(String key) {
+        var reference = attempts.get(key);
+        if (reference == null) return 0;
+
+        return Math.max(0, reference.get().blockedUntil() - clock.getAsLong());
+    }
+
+    @Override
+    public long recordFailure(String key, FailurePolicy policy) {
+        var now = clock.getAsLong();
+        var reference = attempts.computeIfAbsent(key, k -> new AtomicReference<>(Attempts.empty(now, policy.windowMs())));
+        while (true) {
+            var current = reference.get();
+            var rolled = current.roll(now);
+            int estimate = rolled.estimate(now) + 1;
+            long block = policy.blockMs(estimate);
+            var next = new Attempts(rolled.windowStart(), rolled.windowMs(), rolled.previous(), rolled.current() + 1,
+                    Math.max(rolled.blockedUntil(), now + block));
+            if (reference.compareAndSet(current, next)) return block;
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        attempts.remove(key);
+    }
+
+    /**
+     * Sayacı ve kilidi sona ermiş anahtarları siler.
+     */
+    @Scheduled(fixedDelayString = "${app.ratelimit.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        var now = clock.getAsLong();
+        attempts.values().removeIf(reference -> reference.get().isExpired(now));
+    }
+
+    int size() {
+        return attempts.size();
+    }
+
+    /**
+     * Bir anahtarın değişmez deneme durumu.
+     *
+     * @param windowStart  Mevcut pencerenin başlangıcı
+     * @param windowMs     Pencere süresi
+     * @param previous     Önceki penceredeki başarısız deneme sayısı
+     * @param current      Mevcut penceredeki başarısız deneme sayısı
+     * @param blockedUntil Bekleme veya kilidin bittiği zaman
+     */
+    private record Attempts(long windowStart, long windowMs, int previous, int current, long blockedUntil) {
+        private static Attempts empty(long now, long windowMs) {
+            return new Attempts(now, windowMs, 0, 0, 0);
+        }
+
+        private Attempts roll(long now) {
+            var elapsed = now - windowStart;
+            if (elapsed >= 2 * windowMs) return new Attempts(now, windowMs, 0, 0, blockedUntil);
+            if (elapsed >= windowMs) return new Attempts(windowStart + windowMs, windowMs, current, 0, blockedUntil);
+
+            return this;
+        }
+
+        private int estimate(long now) {
+            var weight = 1 - (now - windowStart) / (double) windowMs;
+
+            return (int) Math.ceil(previous * weight) + current;
+        }
+
+        private boolean isExpired(long now) {
+            return now - windowStart >= 2 * windowMs && blockedUntil <= now;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Tek instance için bellekte tutulan kayan pencere hız sınırı deposu.
+ * <p>
+ * Her anahtar için son {@code limit} isteğin zamanları bir halka buffer'da tutulur; en eski kayıt pencere içindeyse istek
+ * reddedilir. Süresi dolmuş anahtarlar periyodik olarak temizlenir.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    public InMemoryRateLimitStore() {
+        this(System::currentTimeMillis);
+    }
+
+    InMemoryRateLimitStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public long tryAcquire(String key, int limit, Duration window) {
+        var now = clock.getAsLong();
+        var state = windows.computeIfAbsent(key, k -> new Window(limit, window.toMillis()));
+
+        return state.tryAcquire(now);
+    }
+
+    /**
+     * Pencere süresi dolmuş anahtarları siler.
+     */
+    @Scheduled(fixedDelayString = "${app.ratelimit.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        var now = clock.getAsLong();
+        windows.values().removeIf(window -> window.isExpired(now));
+    }
+
+    int size() {
+        return windows.size();
+    }
+
+    /**
+     * Bir anahtarın son isteklerinin zamanlarını tutan halka buffer.
+     */
+    private static final class Window {
+        private final long[] timestamps;
+        private final long windowMs;
+        private int next;
+        private long lastAcquired;
+
+        private Window(int limit, long windowMs) {
+            this.timestamps = new long[limit];
+            this.windowMs = windowMs;
+            Arrays.fill(timestamps, Long.MIN_VALUE / 2);
+        }
+
+        private synchronized long tryAcquire(long now) {
+            // En eski kayıt: halkada sıradaki yazılacak konum
+            var oldest = timestamps[next];
+            if (now - oldest < windowMs) return oldest + windowMs - now;
+
+            timestamps[next] = now;
+            next = (next + 1) % timestamps.length;
+            lastAcquired = now;
+
+            return 0;
+        }
+
+        private synchronized boolean isExpired(long now) {
+            return now - lastAcquired >= windowMs;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+/**
+ * Başarısız giriş denemelerini anahtar (hesap veya IP) bazında sayan ve bekleme/kilit durumunu tutan depo.
+ */
+public interface LoginAttemptStore {
+    /**
+     * Anahtarın bekleme veya kilit süresinin ne kadar kaldığını döner.
+     *
+     * @param key Anahtar
+     * @return Kalan süre (ms), anahtar serbestse {@code 0}
+     */
+    long blockedForMs(String key);
+
+    /**
+     * Başarısız bir denemeyi kaydeder ve kurala göre bekleme/kilit süresini günceller.
+     *
+     * @param key    Anahtar
+     * @param policy Bekleme ve kilitleme kuralı
+     * @return Bu denemeden sonra uygulanan bekleme süresi (ms)
+     */
+    long recordFailure(String key, FailurePolicy policy);
+
+    /**
+     * Anahtarın sayaçlarını sıfırlar (başarılı giriş sonrası).
+     *
+     * @param key Anahtar
+     */
+    void reset(String key);
+}
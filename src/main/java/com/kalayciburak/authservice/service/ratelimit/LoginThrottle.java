@@ -0,0 +1,133 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import com.kalayciburak.authservice.advice.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import static com.kalayciburak.authservice.service.helper.UserHelper.normalizeEmail;
+
+/**
+ * Kaba kuvvet (brute-force) giriş denemelerini hesap ve IP bazında yavaşlatır.
+ * <p>
+ * <ul>
+ *     <li>Her başarısız giriş hesap ve IP anahtarları için kayan pencerede sayılır. Ücretsiz deneme sayısı aşıldıktan sonra
+ *     her başarısızlıkta bekleme süresi iki katına çıkar, eşik aşılınca anahtar geçici olarak kilitlenir.</li>
+ *     <li>{@link #check} giriş isteğinin en başında, veritabanı sorgusu ve şifre hash karşılaştırmasından önce çağrılır;
+ *     bekleme süresindeki istekler sadece depodan tek bir okuma ile reddedilir.</li>
+ *     <li>Başarılı giriş hesap sayacını sıfırlar. IP sayacı sıfırlanmaz; böylece aynı IP'den çok sayıda hesaba yapılan
+ *     denemeler tek bir başarılı girişle gizlenemez.</li>
+ *     <li>IP anahtarı varsayılan olarak kapalıdır ({@code app.login.throttle.ip.enabled}). Gateway arkasında istemci IP'si
+ *     ancak {@code app.security.trusted-proxies} tanımlıysa çözülür; aksi halde bütün istemciler proxy'nin adresiyle gelir
+ *     ve tek bir IP sayacı herkesin girişini kilitler.</li>
+ *     <li>Başarısız girişler ({@code auth.login.failures}) ve reddedilen istekler ({@code auth.login.throttled},
+ *     {@code scope} etiketiyle) metrik olarak yayınlanır.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginThrottle {
+    private static final String ACCOUNT_KEY_PREFIX = "login:account:";
+    private static final String IP_KEY_PREFIX = "login:ip:";
+
+    private final LoginAttemptStore store;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.login.throttle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.login.throttle.window-ms:900000}")
+    private long windowMs;
+
+    @Value("${app.login.throttle.base-backoff-ms:1000}")
+    private long baseBackoffMs;
+
+    @Value("${app.login.throttle.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    @Value("${app.login.throttle.lockout-ms:900000}")
+    private long lockoutMs;
+
+    @Value("${app.login.throttle.account.free-attempts:3}")
+    private int accountFreeAttempts;
+
+    @Value("${app.login.throttle.account.lockout-threshold:10}")
+    private int accountLockoutThreshold;
+
+    @Value("${app.login.throttle.ip.enabled:false}")
+    private boolean ipEnabled;
+
+    @Value("${app.login.throttle.ip.free-attempts:20}")
+    private int ipFreeAttempts;
+
+    @Value("${app.login.throttle.ip.lockout-threshold:100}")
+    private int ipLockoutThreshold;
+
+    private FailurePolicy accountPolicy;
+    private FailurePolicy ipPolicy;
+    private Counter failures;
+    private Counter accountThrottled;
+    private Counter ipThrottled;
+
+    @PostConstruct
+    void init() {
+        accountPolicy = new FailurePolicy(accountFreeAttempts, baseBackoffMs, maxBackoffMs, accountLockoutThreshold, lockoutMs, windowMs);
+        ipPolicy = new FailurePolicy(ipFreeAttempts, baseBackoffMs, maxBackoffMs, ipLockoutThreshold, lockoutMs, windowMs);
+        failures = meterRegistry.counter("auth.login.failures");
+        accountThrottled = meterRegistry.counter("auth.login.throttled", "scope", "account");
+        ipThrottled = meterRegistry.counter("auth.login.throttled", "scope", "ip");
+    }
+
+    /**
+     * Hesap veya IP bekleme süresindeyse isteği reddeder.
+     *
+     * @param email    Giriş yapılmak istenen email adresi
+     * @param clientIp İstemci IP adresi
+     * @throws TooManyRequestsException Hesap veya IP bekleme süresindeyse
+     */
+    public void check(String email, String clientIp) {
+        if (!enabled) return;
+
+        if (ipEnabled) reject(store.blockedForMs(IP_KEY_PREFIX + clientIp), ipThrottled);
+        reject(store.blockedForMs(accountKey(email)), accountThrottled);
+    }
+
+    /**
+     * Başarısız bir girişi hesap ve IP için kaydeder.
+     *
+     * @param email    Giriş yapılmak istenen email adresi
+     * @param clientIp İstemci IP adresi
+     */
+    public void recordFailure(String email, String clientIp) {
+        if (!enabled) return;
+
+        failures.increment();
+        if (ipEnabled) store.recordFailure(IP_KEY_PREFIX + clientIp, ipPolicy);
+        store.recordFailure(accountKey(email), accountPolicy);
+    }
+
+    /**
+     * Başarılı girişten sonra hesap sayacını sıfırlar.
+     *
+     * @param email Giriş yapan email adresi
+     */
+    public void recordSuccess(String email) {
+        if (!enabled) return;
+
+        store.reset(accountKey(email));
+    }
+
+    private static String accountKey(String email) {
+        return ACCOUNT_KEY_PREFIX + normalizeEmail(email);
+    }
+
+    private static void reject(long waitMs, Counter throttled) {
+        if (waitMs <= 0) return;
+
+        throttled.increment();
+        throw new TooManyRequestsException(Math.max(1, (waitMs + 999) / 1000));
+    }
+}
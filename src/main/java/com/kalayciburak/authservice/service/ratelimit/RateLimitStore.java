@@ -0,0 +1,18 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Kayan pencere (sliding window) hız sınırı sayaçlarını tutan depo.
+ */
+public interface RateLimitStore {
+    /**
+     * Anahtar için pencere içinde sınır aşılmadıysa bir istek kaydeder.
+     *
+     * @param key    Sınır anahtarı (örn. email veya IP)
+     * @param limit  Pencere içinde izin verilen en fazla istek sayısı
+     * @param window Pencere süresi
+     * @return İstek kabul edildiyse {@code 0}, reddedildiyse bir sonraki isteğe kadar beklenmesi gereken süre (ms)
+     */
+    long tryAcquire(String key, int limit, Duration window);
+}
@@ -0,0 +1,88 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+
+/**
+ * Başarısız giriş denemelerini tüm instance'lar arasında ortak tutan Redis deposu.
+ * <p>
+ * {@link InMemoryLoginAttemptStore} ile aynı kayan pencere sayacı ve kurallar, bir Redis hash'i üzerinde atomik Lua
+ * betikleriyle uygulanır. Zaman olarak Redis sunucusunun saati kullanılır.
+ */
+@RequiredArgsConstructor
+public class RedisLoginAttemptStore implements LoginAttemptStore {
+    private static final String KEY_PREFIX = "LOGIN_ATTEMPTS:";
+    private static final String NOW = """
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            """;
+    private static final RedisScript<Long> BLOCKED_FOR_SCRIPT = new DefaultRedisScript<>(NOW + """
+            local blocked = tonumber(redis.call('HGET', KEYS[1], 'blocked') or '0')
+            if blocked > now then return blocked - now end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> RECORD_FAILURE_SCRIPT = new DefaultRedisScript<>(NOW + """
+            local window = tonumber(ARGV[1])
+            local free = tonumber(ARGV[2])
+            local base = tonumber(ARGV[3])
+            local max = tonumber(ARGV[4])
+            local lockThreshold = tonumber(ARGV[5])
+            local lockMs = tonumber(ARGV[6])
+            local state = redis.call('HMGET', KEYS[1], 'start', 'prev', 'cur', 'blocked')
+            local start = tonumber(state[1]) or now
+            local prev = tonumber(state[2]) or 0
+            local cur = tonumber(state[3]) or 0
+            local blocked = tonumber(state[4]) or 0
+            if now - start >= 2 * window then
+                start = now; prev = 0; cur = 0
+            elseif now - start >= window then
+                start = start + window; prev = cur; cur = 0
+            end
+            cur = cur + 1
+            local estimate = math.ceil(prev * (1 - (now - start) / window)) + cur
+            local block = 0
+            if estimate >= lockThreshold then
+                block = lockMs
+            elseif estimate > free then
+                block = math.min(max, base * 2 ^ math.min(estimate - free - 1, 30))
+            end
+            if now + block > blocked then blocked = now + block end
+            redis.call('HSET', KEYS[1], 'start', string.format('%.0f', start), 'prev', prev, 'cur', cur,
+                    'blocked', string.format('%.0f', blocked))
+            redis.call('PEXPIRE', KEYS[1], math.max(2 * window, blocked - now))
+            return block
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public long blockedForMs(String key) {
+        return execute(BLOCKED_FOR_SCRIPT, key);
+    }
+
+    @Override
+    public long recordFailure(String key, FailurePolicy policy) {
+        return execute(RECORD_FAILURE_SCRIPT, key,
+                String.valueOf(policy.windowMs()), String.valueOf(policy.freeAttempts()),
+                String.valueOf(policy.baseBackoffMs()), String.valueOf(policy.maxBackoffMs()),
+                String.valueOf(policy.lockoutThreshold()), String.valueOf(policy.lockoutMs()));
+    }
+
+    @Override
+    public void reset(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+
+    private long execute(RedisScript<Long> script, String key, Object... args) {
+        var result = redisTemplate.execute(script, RedisSerializer.string(), new GenericToStringSerializer<>(Long.class),
+                List.of(KEY_PREFIX + key), args);
+
+        return result == null ? 0 : result;
+    }
+}
@@ -0,0 +1,48 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Birden fazla instance arasında paylaşılan, Redis sorted set ile tutulan kayan pencere hız sınırı deposu.
+ * <p>
+ * Kontrol ve kayıt tek bir Lua betiğiyle atomik olarak yapılır; zaman olarak Redis sunucusunun saati kullanılır, böylece
+ * instance'lar arasındaki saat farkı sınırı etkilemez.
+ */
+@RequiredArgsConstructor
+public class RedisRateLimitStore implements RateLimitStore {
+    private static final String KEY_PREFIX = "RATELIMIT:";
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            local limit = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+            if redis.call('ZCARD', KEYS[1]) < limit then
+                redis.call('ZADD', KEYS[1], now, ARGV[3])
+                redis.call('PEXPIRE', KEYS[1], window)
+                return 0
+            end
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            return tonumber(oldest[2]) + window - now
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public long tryAcquire(String key, int limit, Duration window) {
+        var waitMs = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, RedisSerializer.string(),
+                new GenericToStringSerializer<>(Long.class), List.of(KEY_PREFIX + key),
+                String.valueOf(window.toMillis()), String.valueOf(limit), UUID.randomUUID().toString());
+
+        return waitMs == null ? 0 : Math.max(waitMs, 0);
+    }
+}
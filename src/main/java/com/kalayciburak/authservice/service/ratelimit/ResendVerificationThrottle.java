@@ -0,0 +1,71 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import com.kalayciburak.authservice.advice.exception.TooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static com.kalayciburak.authservice.service.helper.UserHelper.normalizeEmail;
+
+/**
+ * Doğrulama emailini tekrar gönderme isteklerini email ve IP bazında sınırlar.
+ * <p>
+ * Kararlar sadece {@link RateLimitStore} üzerinden verilir, veritabanına gidilmez:
+ * <ol>
+ *     <li>IP başına pencere sınırı aşıldıysa istek reddedilir.</li>
+ *     <li>Aynı email için bekleme süresi (cooldown) içinde gelen tekrar istekleri birleştirilir: önceki istek zaten bir
+ *     email kuyruğa eklediği için yeni bir işlem yapılmaz.</li>
+ *     <li>Email başına pencere sınırı aşıldıysa istek reddedilir.</li>
+ * </ol>
+ * IP sınırı, giriş sınırlamasındaki IP anahtarı gibi varsayılan olarak kapalıdır
+ * ({@code app.verification.resend.ip-enabled}); istemci IP'si sadece {@code app.security.trusted-proxies} tanımlıyken
+ * gateway arkasında doğru çözülür, aksi halde bütün kullanıcılar tek bir IP bütçesini paylaşır.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResendVerificationThrottle {
+    private final RateLimitStore store;
+
+    @Value("${app.verification.resend.cooldown-ms:60000}")
+    private long cooldownMs;
+
+    @Value("${app.verification.resend.email-limit:5}")
+    private int emailLimit;
+
+    @Value("${app.verification.resend.email-window-ms:3600000}")
+    private long emailWindowMs;
+
+    @Value("${app.verification.resend.ip-enabled:false}")
+    private boolean ipEnabled;
+
+    @Value("${app.verification.resend.ip-limit:20}")
+    private int ipLimit;
+
+    @Value("${app.verification.resend.ip-window-ms:3600000}")
+    private long ipWindowMs;
+
+    /**
+     * İstek için sınırları kontrol eder ve kaydeder.
+     *
+     * @param email    İstenen email adresi
+     * @param clientIp İstemci IP adresi
+     * @return Email gönderilmeliyse {@code true}, istek önceki bir istekle birleştirildiyse {@code false}
+     * @throws TooManyRequestsException IP veya email sınırı aşıldıysa
+     */
+    public boolean acquire(String email, String clientIp) {
+        if (ipEnabled) reject(store.tryAcquire("resend:ip:" + clientIp, ipLimit, Duration.ofMillis(ipWindowMs)));
+
+        var normalizedEmail = normalizeEmail(email);
+        if (store.tryAcquire("resend:cooldown:" + normalizedEmail, 1, Duration.ofMillis(cooldownMs)) > 0) return false;
+
+        reject(store.tryAcquire("resend:email:" + normalizedEmail, emailLimit, Duration.ofMillis(emailWindowMs)));
+
+        return true;
+    }
+
+    private static void reject(long waitMs) {
+        if (waitMs > 0) throw new TooManyRequestsException(Math.max(1, (waitMs + 999) / 1000));
+    }
+}
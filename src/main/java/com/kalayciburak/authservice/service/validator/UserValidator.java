@@ -1,11 +1,9 @@
 package com.kalayciburak.authservice.service.validator;
 
 import com.kalayciburak.authservice.advice.exception.BreachedPasswordException;
-import com.kalayciburak.authservice.advice.exception.EmailAlreadyExistsException;
 import com.kalayciburak.authservice.advice.exception.OldPasswordMismatchException;
 import com.kalayciburak.authservice.model.dto.request.ChangePasswordRequest;
 import com.kalayciburak.authservice.model.entity.User;
-import com.kalayciburak.authservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.password.CompromisedPasswordChecker;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -17,19 +15,9 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 public class UserValidator {
-    private final UserRepository repository;
     private final PasswordEncoder passwordEncoder;
     private final CompromisedPasswordChecker passwordChecker;
 
-    /**
-     * Email adresinin eşsiz olup olmadığını kontrol eder.
-     *
-     * @param email Email adresi
-     */
-    public void validateUniqueEmail(String email) {
-        if (repository.existsByEmail(email)) throw new EmailAlreadyExistsException(email);
-    }
-
     /**
      * Eski parolanın doğruluğunu kontrol eder.
      * <p>
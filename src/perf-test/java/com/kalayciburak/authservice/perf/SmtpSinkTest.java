@@ -0,0 +1,55 @@
+package com.kalayciburak.authservice.perf;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SmtpSink sınıfının gerçek SMTP istemcisinden gelen emailleri kabul etmesini ve doğrulama token'ını alıcıya göre
+ * saklamasını test eden sınıftır.
+ */
+class SmtpSinkTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SmtpSink sink;
+    private JavaMailSenderImpl mailSender;
+
+    @BeforeEach
+    void setUp() {
+        sink = new SmtpSink(0, meterRegistry);
+        sink.start();
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(sink.getLocalPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sink.stop();
+    }
+
+    @Test
+    @DisplayName("Quoted-printable kodlanmış HTML + düz metin emailden doğrulama token'ı okunur")
+    void capturesVerificationTokenTest() throws Exception {
+        var link = "http://localhost:3000/verify-email?token=v1.42.1900000000.1f2e3d.AbC-dEf_123";
+        var message = mailSender.createMimeMessage();
+        var helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom("no-reply@perf.local");
+        helper.setTo("Ayse@Example.com");
+        helper.setSubject("Email adresinizi doğrulayın");
+        helper.setText("Merhaba Ayşe, hesabınızı doğrulamak için: " + link,
+                "<p>Merhaba Ayşe, <a href=\"" + link + "\">doğrulamak için tıklayın</a>.</p>");
+
+        mailSender.send(message);
+
+        assertEquals(1.0, meterRegistry.counter("perf.smtp.received").count());
+        assertEquals("v1.42.1900000000.1f2e3d.AbC-dEf_123", sink.takeVerificationToken("ayse@example.com").orElseThrow());
+        assertTrue(sink.takeVerificationToken("ayse@example.com").isEmpty(), "Token bir kez okunabilmelidir.");
+    }
+}
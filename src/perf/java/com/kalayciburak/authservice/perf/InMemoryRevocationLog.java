@@ -0,0 +1,89 @@
+package com.kalayciburak.authservice.perf;
+
+import com.kalayciburak.authservice.security.token.RevocationLog;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis yerine instance belleğinde tutulan iptal günlüğü. Sadece tek instance çalışan {@code perf} profilinde kullanılır.
+ * <p>
+ * Olaylar {@code app.revocation.replay-size} ile sınırlı bir halkada, iptal kümesi map'lerde tutulur; olay ID'leri
+ * Redis Stream biçimindedir ({@code <sıra>-0}).
+ */
+public class InMemoryRevocationLog extends RevocationLog {
+    private final ArrayDeque<Event> events = new ArrayDeque<>();
+    private final Map<String, Long> tokens = new HashMap<>();
+    private final Map<String, Long> users = new HashMap<>();
+    private long sequence;
+
+    public InMemoryRevocationLog() {
+        super(null);
+    }
+
+    @Override
+    public synchronized void revokeToken(String tokenId, long expiresAt) {
+        tokens.put(tokenId, expiresAt);
+        append(Event.token(nextId(), tokenId, expiresAt));
+    }
+
+    @Override
+    protected synchronized void revokeUserNow(String subject) {
+        var digest = subjectDigest(subject);
+        long epoch = System.currentTimeMillis() / 1000;
+        users.put(digest, epoch);
+        append(Event.user(nextId(), userRevocation(digest, epoch)));
+    }
+
+    @Override
+    public synchronized String lastId() {
+        return events.isEmpty() ? START_ID : events.getLast().id();
+    }
+
+    @Override
+    public synchronized List<Event> readAfter(String afterId, int limit) {
+        var result = new ArrayList<Event>();
+        for (var event : events) {
+            if (result.size() == limit) break;
+            if (compareIds(event.id(), afterId) > 0) result.add(event);
+        }
+
+        return result;
+    }
+
+    @Override
+    public synchronized boolean canReplayFrom(String lastEventId) {
+        return isValidId(lastEventId) && !events.isEmpty()
+                && compareIds(events.getFirst().id(), lastEventId) <= 0 && compareIds(lastEventId, lastId()) <= 0;
+    }
+
+    @Override
+    public synchronized Snapshot snapshot() {
+        long now = System.currentTimeMillis() / 1000;
+        tokens.values().removeIf(expiresAt -> expiresAt < now);
+
+        var tokenRevocations = new ArrayList<TokenRevocation>(tokens.size());
+        tokens.forEach((tokenId, expiresAt) -> tokenRevocations.add(new TokenRevocation(tokenId, expiresAt)));
+        var userRevocations = new ArrayList<UserRevocation>(users.size());
+        users.forEach((digest, epoch) -> userRevocations.add(userRevocation(digest, epoch)));
+        userRevocations.removeIf(user -> {
+            if (user.exp() >= now) return false;
+            users.remove(user.subHash());
+            return true;
+        });
+
+        return new Snapshot(tokenRevocations, userRevocations);
+    }
+
+    private String nextId() {
+        return ++sequence + "-0";
+    }
+
+    private void append(Event event) {
+        events.addLast(event);
+        if (events.size() > replaySize) events.removeFirst();
+    }
+}
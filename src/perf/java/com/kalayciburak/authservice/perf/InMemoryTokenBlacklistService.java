@@ -0,0 +1,70 @@
+package com.kalayciburak.authservice.perf;
+
+import com.kalayciburak.authservice.security.token.RevocationLog;
+import com.kalayciburak.authservice.security.token.TokenBlacklistService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis yerine instance belleğinde tutulan token kara listesi.
+ * <p>
+ * Sadece {@code perf} profilinde, Redis olmadan yük testi yapabilmek için kullanılır. Kayıtlar token'ın kalan geçerlilik
+ * süresi kadar tutulur ve süresi dolanlar periyodik olarak temizlenir; sorgu süresi Redis sürümüyle aynı
+ * {@code auth.blacklist.lookup} metriğine yazılır.
+ */
+public class InMemoryTokenBlacklistService extends TokenBlacklistService {
+    private final Map<String, Long> expiresAtByToken = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final RevocationLog revocationLog;
+
+    public InMemoryTokenBlacklistService(MeterRegistry meterRegistry, RevocationLog revocationLog) {
+        super(null, meterRegistry, revocationLog);
+        this.meterRegistry = meterRegistry;
+        this.revocationLog = revocationLog;
+    }
+
+    @Override
+    public void addTokenToBlacklist(String token, String tokenId, Date expirationTime) {
+        if (expirationTime.getTime() <= System.currentTimeMillis()) return;
+
+        expiresAtByToken.put(token, expirationTime.getTime());
+        if (tokenId != null) revocationLog.revokeToken(tokenId, expirationTime.getTime() / 1000);
+    }
+
+    @Override
+    public boolean isTokenBlacklisted(String token) {
+        var sample = Timer.start(meterRegistry);
+        var expiresAt = expiresAtByToken.get(token);
+        boolean blacklisted = expiresAt != null && expiresAt > System.currentTimeMillis();
+        sample.stop(meterRegistry.timer("auth.blacklist.lookup", "result", blacklisted ? "hit" : "miss"));
+
+        return blacklisted;
+    }
+
+    @Override
+    public boolean[] areTokensBlacklisted(List<String> tokens) {
+        var now = System.currentTimeMillis();
+        var blacklisted = new boolean[tokens.size()];
+        for (int i = 0; i < blacklisted.length; i++) {
+            var expiresAt = expiresAtByToken.get(tokens.get(i));
+            blacklisted[i] = expiresAt != null && expiresAt > now;
+        }
+
+        return blacklisted;
+    }
+
+    /**
+     * Süresi dolmuş kayıtları siler.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        var now = System.currentTimeMillis();
+        expiresAtByToken.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
@@ -0,0 +1,38 @@
+package com.kalayciburak.authservice.perf;
+
+import com.kalayciburak.authservice.service.helper.RedisLock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis yerine instance belleğinde tutulan, süreli kilit. Sadece tek instance çalışan {@code perf} profilinde kullanılır.
+ */
+public class LocalLock extends RedisLock {
+    private final Map<String, Holder> holders = new ConcurrentHashMap<>();
+
+    public LocalLock() {
+        super(null);
+    }
+
+    @Override
+    public Optional<String> tryAcquire(String name, Duration ttl) {
+        var now = System.nanoTime();
+        var candidate = new Holder(UUID.randomUUID().toString(), now + ttl.toNanos());
+        var holder = holders.compute(name, (key, current) ->
+                current == null || current.expiresAtNanos() - now <= 0 ? candidate : current);
+
+        return holder == candidate ? Optional.of(candidate.owner()) : Optional.empty();
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        holders.computeIfPresent(name, (key, current) -> current.owner().equals(owner) ? null : current);
+    }
+
+    private record Holder(String owner, long expiresAtNanos) {
+    }
+}
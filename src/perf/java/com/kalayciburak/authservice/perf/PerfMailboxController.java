@@ -0,0 +1,36 @@
+package com.kalayciburak.authservice.perf;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Yük üreticisinin, {@link SmtpSink}'e düşen doğrulama token'larını okuyabilmesi için {@code perf} profiline özel uç
+ * nokta. Diğer profillerde bu controller yüklenmez.
+ */
+@Profile("perf")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "/public/perf/mailbox", produces = "application/json")
+public class PerfMailboxController {
+    private final SmtpSink smtpSink;
+
+    /**
+     * Alıcıya gönderilen son doğrulama token'ını döner ve siler.
+     *
+     * @param email Alıcı email adresi
+     * @return {@code {"token": "..."}}, email henüz gelmediyse 404
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, String>> takeVerificationToken(@RequestParam String email) {
+        return smtpSink.takeVerificationToken(email)
+                .map(token -> ResponseEntity.ok(Map.of("token", token)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
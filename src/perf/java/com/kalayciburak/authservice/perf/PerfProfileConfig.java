@@ -0,0 +1,54 @@
+package com.kalayciburak.authservice.perf;
+
+import com.kalayciburak.authservice.security.token.RevocationLog;
+import com.kalayciburak.authservice.security.token.TokenBlacklistService;
+import com.kalayciburak.authservice.service.helper.RedisLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Servisi dış bağımlılıklar olmadan yük testi için ayağa kaldıran {@code perf} profili yapılandırması.
+ * <p>
+ * <ul>
+ *     <li>MySQL yerine gömülü H2 (MySQL modu), Vault yerine {@code application-perf.yml} kullanılır; RSA anahtarları
+ *     her açılışta üretilir.</li>
+ *     <li>Redis'e giden token kara listesi, iptal günlüğü ve zamanlanmış iş kilidi bellekteki karşılıklarıyla
+ *     değiştirilir; hız sınırı sayaçları zaten varsayılan olarak bellektedir.</li>
+ *     <li>Emailler uygulama içindeki {@link SmtpSink}'e gönderilir.</li>
+ *     <li>Parola sızıntı kontrolü yerel yaygın parola listesiyle yapılır ({@code app.password.breach-check.mode=local}).</li>
+ * </ul>
+ * Ölçülen gecikmeler ağ gidiş-dönüşlerini içermez; servisin kendi CPU ve bellek maliyetini gösterir.
+ */
+@Configuration
+@Profile("perf")
+public class PerfProfileConfig {
+    @Value("${app.perf.smtp-port:2525}")
+    private int smtpPort;
+
+    @Bean
+    @Primary
+    public TokenBlacklistService inMemoryTokenBlacklistService(MeterRegistry meterRegistry, RevocationLog revocationLog) {
+        return new InMemoryTokenBlacklistService(meterRegistry, revocationLog);
+    }
+
+    @Bean
+    @Primary
+    public RevocationLog inMemoryRevocationLog() {
+        return new InMemoryRevocationLog();
+    }
+
+    @Bean
+    @Primary
+    public RedisLock localLock() {
+        return new LocalLock();
+    }
+
+    @Bean
+    public SmtpSink smtpSink(MeterRegistry meterRegistry) {
+        return new SmtpSink(smtpPort, meterRegistry);
+    }
+}
@@ -0,0 +1,177 @@
+package com.kalayciburak.authservice.perf;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Gelen emailleri gerçekten göndermeden kabul eden, uygulama içinde çalışan minimal bir SMTP sunucusu.
+ * <p>
+ * Sadece {@code perf} profilinde kullanılır: servis, emailleri gerçek SMTP protokolüyle (oturum havuzu ve outbox dahil)
+ * loopback üzerinden bu sunucuya gönderir, böylece email maliyeti yük testine dahil olur ama dışarıya email çıkmaz.
+ * Doğrulama emailindeki token alıcıya göre saklanır ve yük üreticisi tarafından {@link #takeVerificationToken} ile
+ * alınır. Sadece {@code 127.0.0.1} üzerinde dinler ve AUTH/STARTTLS desteklemez.
+ */
+@Slf4j
+public class SmtpSink implements SmartLifecycle {
+    private static final Pattern VERIFICATION_TOKEN = Pattern.compile("verify-email\\?token=([A-Za-z0-9._~-]+)");
+
+    private final int port;
+    private final Counter receivedCounter;
+    private final Session session = Session.getInstance(new Properties());
+    private final Map<String, String> verificationTokens = new ConcurrentHashMap<>();
+
+    private volatile ServerSocket serverSocket;
+
+    public SmtpSink(int port, MeterRegistry meterRegistry) {
+        this.port = port;
+        this.receivedCounter = meterRegistry.counter("perf.smtp.received");
+    }
+
+    /**
+     * Alıcıya gönderilen son doğrulama token'ını döner ve siler.
+     *
+     * @param email Alıcı email adresi
+     * @return Token, henüz email gelmediyse boş
+     */
+    public Optional<String> takeVerificationToken(String email) {
+        return Optional.ofNullable(verificationTokens.remove(email.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Dinlenen portu döner ({@code 0} ile başlatıldıysa işletim sisteminin atadığı port).
+     *
+     * @return Port, sunucu çalışmıyorsa -1
+     */
+    public int getLocalPort() {
+        var server = serverSocket;
+        return server != null ? server.getLocalPort() : -1;
+    }
+
+    @Override
+    public void start() {
+        try {
+            serverSocket = new ServerSocket(port, 512, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new UncheckedIOException("SMTP sink başlatılamadı, port: " + port, e);
+        }
+        Thread.ofPlatform().name("perf-smtp-accept").daemon().start(this::acceptLoop);
+        log.info("Yük testi SMTP sink'i 127.0.0.1:{} üzerinde dinliyor.", getLocalPort());
+    }
+
+    @Override
+    public void stop() {
+        try {
+            if (serverSocket != null) serverSocket.close();
+        } catch (IOException e) {
+            log.debug("SMTP sink kapatılamadı.", e);
+        }
+        serverSocket = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return serverSocket != null;
+    }
+
+    private void acceptLoop() {
+        var server = serverSocket;
+        while (server != null && !server.isClosed()) {
+            try {
+                var socket = server.accept();
+                Thread.ofVirtual().name("perf-smtp-session").start(() -> handle(socket));
+            } catch (IOException e) {
+                if (!server.isClosed()) log.warn("SMTP sink bağlantı kabul hatası: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             var in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+             var out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.ISO_8859_1))) {
+            reply(out, "220 perf-smtp ready");
+            String line;
+            while ((line = in.readLine()) != null) {
+                var command = line.substring(0, Math.min(4, line.length())).toUpperCase(Locale.ROOT);
+                switch (command) {
+                    case "EHLO", "HELO" -> reply(out, "250 perf-smtp");
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        receive(readData(in));
+                        reply(out, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "250 OK");
+                }
+            }
+        } catch (IOException e) {
+            log.debug("SMTP sink oturumu kapandı: {}", e.getMessage());
+        }
+    }
+
+    private static byte[] readData(BufferedReader in) throws IOException {
+        var data = new ByteArrayOutputStream(4096);
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            // Dot-stuffing (RFC 5321 4.5.2)
+            if (line.startsWith("..")) line = line.substring(1);
+            data.writeBytes(line.getBytes(StandardCharsets.ISO_8859_1));
+            data.writeBytes(new byte[]{'\r', '\n'});
+        }
+
+        return data.toByteArray();
+    }
+
+    private void receive(byte[] data) {
+        receivedCounter.increment();
+        try {
+            var message = new MimeMessage(session, new ByteArrayInputStream(data));
+            var matcher = VERIFICATION_TOKEN.matcher(text(message));
+            var recipients = message.getAllRecipients();
+            if (matcher.find() && recipients != null && recipients.length > 0
+                    && recipients[0] instanceof InternetAddress recipient)
+                verificationTokens.put(recipient.getAddress().toLowerCase(Locale.ROOT), matcher.group(1));
+        } catch (MessagingException | IOException e) {
+            log.warn("SMTP sink mesajı ayrıştıramadı: {}", e.getMessage());
+        }
+    }
+
+    private static String text(Part part) throws MessagingException, IOException {
+        if (part.isMimeType("text/plain")) return (String) part.getContent();
+        if (!(part.getContent() instanceof Multipart multipart)) return "";
+
+        var text = new StringBuilder();
+        for (int i = 0; i < multipart.getCount(); i++) text.append(text(multipart.getBodyPart(i)));
+
+        return text.toString();
+    }
+
+    private static void reply(BufferedWriter out, String line) throws IOException {
+        out.write(line);
+        out.write("\r\n");
+        out.flush();
+    }
+}
@@ -0,0 +1,136 @@
+package com.kalayciburak.authservice.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Platform thread'li ve sanal thread'li Tomcat'i yüksek eşzamanlılıkta karşılaştıran yük testidir.
+ * <p>
+ * Her istek servisin tipik bloklayan adımlarını taklit eder: Redis kontrolü, bağlantı havuzuyla sınırlanmış bir veritabanı
+ * sorgusu ve uzak bir çağrı (HIBP/SMTP). Saniyedeki istek sayısı, p50/p99 gecikme ve aynı anda kullanılan en fazla
+ * veritabanı bağlantısı raporlanır; sanal thread'lerde de veritabanı eşzamanlılığının havuz boyutunu aşmadığı doğrulanır.
+ * Varsayılan build'de çalışmaz, {@code ./mvnw test -Pbenchmark} ile çalıştırılır.
+ * </p>
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+    private static final int CLIENTS = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 5;
+    private static final int DB_POOL_SIZE = 20;
+    private static final long REDIS_MS = 1;
+    private static final long DB_MS = 2;
+    private static final long REMOTE_MS = 50;
+
+    @Test
+    @DisplayName("Yük testi - Platform thread ve sanal thread Tomcat karşılaştırması")
+    void loadTest() throws Exception {
+        var platform = run(false);
+        var virtual = run(true);
+
+        System.out.printf("[load] platform: %.0f istek/sn, p50 %.0f ms, p99 %.0f ms, en fazla %d DB bağlantısı%n",
+                platform.throughput(), platform.p50(), platform.p99(), platform.maxDbConnections());
+        System.out.printf("[load] sanal:    %.0f istek/sn, p50 %.0f ms, p99 %.0f ms, en fazla %d DB bağlantısı%n",
+                virtual.throughput(), virtual.p50(), virtual.p99(), virtual.maxDbConnections());
+
+        assertTrue(virtual.maxDbConnections() <= DB_POOL_SIZE, "DB eşzamanlılığı havuz boyutunu aşmamalıdır.");
+        assertTrue(virtual.throughput() > platform.throughput(), "Sanal thread'ler yüksek eşzamanlılıkta daha fazla istek işlemelidir.");
+    }
+
+    private static Result run(boolean virtualThreads) throws Exception {
+        var factory = new TomcatServletWebServerFactory(0);
+        if (virtualThreads)
+            factory.addProtocolHandlerCustomizers(protocol -> protocol.setExecutor(new VirtualThreadExecutor("tomcat-handler-")));
+
+        var servlet = new BlockingServlet();
+        var server = factory.getWebServer(context -> context.addServlet("login", servlet).addMapping("/login"));
+        server.start();
+        try (var client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            var request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/login"))
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+
+            // Isınma
+            for (int i = 0; i < 50; i++) client.send(request, HttpResponse.BodyHandlers.discarding());
+
+            var latencies = new double[CLIENTS * REQUESTS_PER_CLIENT];
+            var futures = new ArrayList<Future<?>>();
+            long start = System.nanoTime();
+            for (int c = 0; c < CLIENTS; c++) {
+                int offset = c * REQUESTS_PER_CLIENT;
+                futures.add(clients.submit(() -> {
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        long sent = System.nanoTime();
+                        client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[offset + r] = (System.nanoTime() - sent) / 1e6;
+                    }
+                    return null;
+                }));
+            }
+            for (var future : futures) future.get();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            Arrays.sort(latencies);
+            return new Result(latencies.length / seconds, latencies[latencies.length / 2],
+                    latencies[(int) (latencies.length * 0.99)], servlet.maxDbConnections.get());
+        } finally {
+            server.stop();
+        }
+    }
+
+    /**
+     * Servisin bir login isteğindeki bloklayan adımlarını taklit eden servlet.
+     */
+    private static final class BlockingServlet extends HttpServlet {
+        private final Semaphore dbPool = new Semaphore(DB_POOL_SIZE, true);
+        private final AtomicInteger dbConnections = new AtomicInteger();
+        private final AtomicInteger maxDbConnections = new AtomicInteger();
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            try {
+                Thread.sleep(REDIS_MS);
+
+                dbPool.acquire();
+                try {
+                    maxDbConnections.accumulateAndGet(dbConnections.incrementAndGet(), Math::max);
+                    Thread.sleep(DB_MS);
+                } finally {
+                    dbConnections.decrementAndGet();
+                    dbPool.release();
+                }
+
+                Thread.sleep(REMOTE_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                return;
+            }
+            response.getWriter().write("ok");
+        }
+    }
+
+    private record Result(double throughput, double p50, double p99, int maxDbConnections) {
+    }
+}
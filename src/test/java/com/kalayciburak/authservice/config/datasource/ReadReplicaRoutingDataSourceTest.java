@@ -0,0 +1,87 @@
+package com.kalayciburak.authservice.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReadReplicaRoutingDataSource sınıfının yönlendirme kararlarını test eden sınıftır. Read-only transaction'ların
+ * replikalara dağıtılması, sağlıksız replikaların atlanması ve read-your-writes penceresi doğrulanır.
+ */
+class ReadReplicaRoutingDataSourceTest {
+    private DataSource healthyReplica;
+    private DataSource unhealthyReplica;
+    private ReadYourWritesTracker tracker;
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        healthyReplica = mock(DataSource.class);
+        var connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(healthyReplica.getConnection()).thenReturn(connection);
+
+        unhealthyReplica = mock(DataSource.class);
+        when(unhealthyReplica.getConnection()).thenThrow(new SQLException("down"));
+
+        tracker = new ReadYourWritesTracker(60_000);
+        routingDataSource = new ReadReplicaRoutingDataSource(
+                mock(DataSource.class), List.of(healthyReplica, unhealthyReplica), tracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Read-write transaction primary'ye yönlendirilir")
+    void readWriteTransactionGoesToPrimaryTest() {
+        assertEquals("primary", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Read-only transaction sadece sağlıklı replikaya yönlendirilir")
+    void readOnlyTransactionSkipsUnhealthyReplicaTest() {
+        routingDataSource.checkReplicaHealth();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        for (int i = 0; i < 4; i++) assertEquals(0, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Hiç sağlıklı replika yoksa primary kullanılır")
+    void fallsBackToPrimaryWhenNoReplicaIsHealthyTest() {
+        var routing = new ReadReplicaRoutingDataSource(mock(DataSource.class), List.of(unhealthyReplica), tracker);
+        routing.checkReplicaHealth();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Kullanıcının kendi yazmasından sonraki okumaları primary'ye gider")
+    void readYourWritesWindowRoutesToPrimaryTest() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("test@test.com", null, List.of()));
+        tracker.recordWrite();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", routingDataSource.determineCurrentLookupKey());
+    }
+}
@@ -0,0 +1,66 @@
+package com.kalayciburak.authservice.controller;
+
+import com.kalayciburak.authservice.advice.exception.TooManyRequestsException;
+import com.kalayciburak.authservice.model.dto.request.LoginRequest;
+import com.kalayciburak.authservice.service.AuthService;
+import com.kalayciburak.authservice.service.ratelimit.LoginThrottle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * AuthController sınıfının giriş isteğini servise girmeden önce hız sınırından geçirdiğini test eden sınıftır.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthControllerTest {
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @InjectMocks
+    private AuthController authController;
+
+    /**
+     * Bekleme süresindeki bir giriş isteğinin AuthService'e (transaction ve veritabanı sorgusu) girmeden reddedildiğini
+     * test eder.
+     */
+    @Test
+    @DisplayName("Bekleme süresindeki giriş servise girmeden reddedilir")
+    void throttledLoginSkipsServiceTest() {
+        var request = new LoginRequest("test@test.com", "TestPass123!");
+        var httpRequest = new MockHttpServletRequest();
+        httpRequest.setRemoteAddr("127.0.0.1");
+
+        doThrow(new TooManyRequestsException(30)).when(loginThrottle).check("test@test.com", "127.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> authController.login(request, httpRequest));
+
+        verifyNoInteractions(authService);
+    }
+
+    /**
+     * Bekleme süresinde olmayan giriş isteğinin servise iletildiğini test eder.
+     */
+    @Test
+    @DisplayName("Bekleme süresinde olmayan giriş servise iletilir")
+    void loginPassesThrottleTest() {
+        var request = new LoginRequest("test@test.com", "TestPass123!");
+        var httpRequest = new MockHttpServletRequest();
+        httpRequest.setRemoteAddr("127.0.0.1");
+
+        authController.login(request, httpRequest);
+
+        var inOrder = inOrder(loginThrottle, authService);
+        inOrder.verify(loginThrottle).check("test@test.com", "127.0.0.1");
+        inOrder.verify(authService).login(request, "127.0.0.1");
+    }
+}
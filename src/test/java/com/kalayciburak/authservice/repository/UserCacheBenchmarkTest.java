@@ -0,0 +1,134 @@
+package com.kalayciburak.authservice.repository;
+
+import com.kalayciburak.authservice.model.entity.Role;
+import com.kalayciburak.authservice.model.entity.User;
+import com.kalayciburak.authservice.model.enums.RoleType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hibernate ikinci seviye cache'inin login ve JWT filtre akışlarındaki kullanıcı okumalarına etkisini ölçen benchmark
+ * testidir.
+ * <p>
+ * Her senaryo iki kez çalıştırılır: her istekten önce tüm cache bölgeleri temizlenerek (cache yokmuş gibi) ve ısınmış cache
+ * ile. İstek başına çalıştırılan SQL ifadesi sayısı ve ortalama gecikme raporlanır. Varsayılan build'de çalışmaz,
+ * {@code ./mvnw test -Pbenchmark} ile çalıştırılır.
+ * </p>
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.cloud.vault.enabled=false",
+        "app.cache.l2.enabled=true",
+        "app.cache.l2.statistics=true"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserCacheBenchmarkTest {
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int ITERATIONS = 2_000;
+    private static final String EMAIL = "benchmark@test.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Ölçüm için rolleri ve tek bir doğrulanmış kullanıcıyı oluşturur.
+     */
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (userRepository.existsByEmail(EMAIL)) return;
+
+            var roles = roleRepository.saveAll(Arrays.stream(RoleType.values()).map(Role::new).toList());
+            var user = User.builder()
+                    .firstName("Benchmark")
+                    .lastName("User")
+                    .email(EMAIL)
+                    .password("{noop}Password123!")
+                    .emailVerified(true)
+                    .roles(new HashSet<>(roles.subList(0, 1)))
+                    .build();
+            userRepository.save(user);
+        });
+    }
+
+    /**
+     * Login akışı: {@code AuthService.login}, {@code AuthenticationManager} ve token üretimi sırasında kullanıcı email ile üç
+     * kez yüklenir.
+     */
+    @Test
+    @DisplayName("Login akışı - L2 cache ile SQL ifadesi sayısı ve gecikme")
+    void loginPathTest() {
+        compare("login", 3);
+    }
+
+    /**
+     * JWT filtre akışı: her korumalı istekte kullanıcı email ile bir kez yüklenir.
+     */
+    @Test
+    @DisplayName("JWT filtre akışı - L2 cache ile SQL ifadesi sayısı ve gecikme")
+    void filterPathTest() {
+        compare("filter", 1);
+    }
+
+    private void compare(String path, int lookupsPerRequest) {
+        var cold = measure(lookupsPerRequest, true);
+        var warm = measure(lookupsPerRequest, false);
+
+        System.out.printf("[%s] cache yok: %.2f SQL/istek, %.1f µs/istek | cache açık: %.2f SQL/istek, %.1f µs/istek%n",
+                path, cold.statementsPerRequest(), cold.microsPerRequest(),
+                warm.statementsPerRequest(), warm.microsPerRequest());
+
+        assertTrue(warm.statementsPerRequest() < cold.statementsPerRequest(),
+                "Isınmış cache ile istek başına SQL ifadesi sayısı azalmalıdır.");
+    }
+
+    private Result measure(int lookupsPerRequest, boolean evictBeforeEachRequest) {
+        var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        var statistics = sessionFactory.getStatistics();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) simulateRequest(sessionFactory, lookupsPerRequest, evictBeforeEachRequest);
+        statistics.clear();
+
+        long totalNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) totalNanos += simulateRequest(sessionFactory, lookupsPerRequest, evictBeforeEachRequest);
+
+        return new Result(
+                statistics.getPrepareStatementCount() / (double) ITERATIONS,
+                totalNanos / (double) ITERATIONS / 1_000);
+    }
+
+    private long simulateRequest(SessionFactory sessionFactory, int lookups, boolean evict) {
+        if (evict) sessionFactory.getCache().evictAllRegions();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) userRepository.findByEmail(EMAIL).orElseThrow();
+
+        return System.nanoTime() - start;
+    }
+
+    private record Result(double statementsPerRequest, double microsPerRequest) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.kalayciburak.authservice.security.config;
+
+import com.kalayciburak.authservice.controller.IntrospectionController;
+import com.kalayciburak.authservice.controller.RevocationFeedController;
+import com.kalayciburak.authservice.model.dto.response.IntrospectionResponse;
+import com.kalayciburak.authservice.security.handler.CustomAccessDeniedHandler;
+import com.kalayciburak.authservice.security.handler.JwtAuthenticationEntryPoint;
+import com.kalayciburak.authservice.security.handler.JwtRejectionHandler;
+import com.kalayciburak.authservice.security.token.JwtUtil;
+import com.kalayciburak.authservice.security.token.RsaKeyService;
+import com.kalayciburak.authservice.security.token.TokenBlacklistService;
+import com.kalayciburak.authservice.security.token.TokenVerification;
+import com.kalayciburak.authservice.service.CustomUserDetailsService;
+import com.kalayciburak.authservice.service.RevocationFeedService;
+import com.kalayciburak.authservice.service.TokenIntrospectionService;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static com.kalayciburak.authservice.constant.JwtConstants.ACCESS_TOKEN_TYPE;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SecurityConfig'in {@code /api/auth/**} altındaki servis uç noktalarını herkese açık bırakmadığını test eden sınıftır.
+ */
+@WebMvcTest(controllers = {IntrospectionController.class, RevocationFeedController.class},
+        properties = "spring.cloud.vault.enabled=false")
+@Import({SecurityConfig.class, RsaKeyService.class, JwtRejectionHandler.class, CustomAccessDeniedHandler.class,
+        JwtAuthenticationEntryPoint.class})
+class SecurityConfigTest {
+    private static final String TOKEN = "header.payload.signature";
+    private static final String BODY = "{\"tokens\": [\"" + TOKEN + "\"]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    @MockitoBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    @MockitoBean
+    private TokenIntrospectionService introspectionService;
+
+    @MockitoBean
+    private RevocationFeedService revocationFeedService;
+
+    @Test
+    @DisplayName("Token'sız introspection isteği 401 alır ve servise ulaşmaz")
+    void anonymousIntrospectionIsUnauthorizedTest() throws Exception {
+        mockMvc.perform(post("/api/auth/introspect").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(introspectionService);
+    }
+
+    @Test
+    @DisplayName("ROLE_SERVICE rolü olmayan kullanıcının introspection isteği 403 alır")
+    void userIntrospectionIsForbiddenTest() throws Exception {
+        authenticate("test@test.com", "FREE");
+
+        mockMvc.perform(post("/api/auth/introspect").header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(introspectionService);
+    }
+
+    @Test
+    @DisplayName("Servis hesabının introspection isteği servise iletilir")
+    void serviceIntrospectionIsAllowedTest() throws Exception {
+        authenticate("service@test.com", "SERVICE");
+        when(introspectionService.introspect(anyList())).thenReturn(new IntrospectionResponse(List.of()));
+
+        mockMvc.perform(post("/api/auth/introspect").header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isOk());
+
+        verify(introspectionService).introspect(List.of(TOKEN));
+    }
+
+    @Test
+    @DisplayName("Token'sız iptal akışı aboneliği 401 alır, servis hesabı abone olabilir")
+    void revocationStreamRequiresServiceAccountTest() throws Exception {
+        mockMvc.perform(get("/api/auth/revocations/stream"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(revocationFeedService);
+
+        authenticate("service@test.com", "SERVICE");
+        mockMvc.perform(get("/api/auth/revocations/stream").header("Authorization", "Bearer " + TOKEN));
+
+        verify(revocationFeedService).subscribe(null);
+    }
+
+    private void authenticate(String email, String role) {
+        var claims = Jwts.claims().subject(email).build();
+        when(jwtUtil.verify(TOKEN, ACCESS_TOKEN_TYPE)).thenReturn(new TokenVerification(TokenVerification.Status.VALID, claims));
+        when(customUserDetailsService.loadUserByUsername(email))
+                .thenReturn(User.withUsername(email).password("x").roles(role).build());
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.kalayciburak.authservice.security.filter;
+
+import com.kalayciburak.authservice.security.handler.JwtRejectionHandler;
+import com.kalayciburak.authservice.security.token.JwtUtil;
+import com.kalayciburak.authservice.security.token.TokenBlacklistService;
+import com.kalayciburak.authservice.security.token.TokenVerification;
+import com.kalayciburak.authservice.service.CustomUserDetailsService;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static com.kalayciburak.authservice.constant.JwtConstants.ACCESS_TOKEN_TYPE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * JwtAuthenticationFilter sınıfının geçerli token'la kimliği doldurduğunu, reddedilen token'lar için ise 401 yanıtını
+ * doğrudan yazıp zinciri durdurduğunu test eden sınıftır.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        filter = new JwtAuthenticationFilter(jwtUtil, tokenBlacklistService, customUserDetailsService,
+                new SimpleMeterRegistry(), new JwtRejectionHandler());
+        request = new MockHttpServletRequest("GET", "/api/user/profile");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Geçerli access token ile kullanıcı SecurityContext'e eklenir ve zincir devam eder")
+    void authenticatesValidTokenTest() throws Exception {
+        var claims = Jwts.claims().subject("test@test.com").build();
+        when(jwtUtil.verify(TOKEN, ACCESS_TOKEN_TYPE)).thenReturn(new TokenVerification(TokenVerification.Status.VALID, claims));
+        when(customUserDetailsService.loadUserByUsername("test@test.com"))
+                .thenReturn(User.withUsername("test@test.com").password("x").roles("FREE").build());
+
+        filter.doFilter(request, response, filterChain);
+
+        assertEquals("test@test.com", SecurityContextHolder.getContext().getAuthentication().getName());
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("Süresi dolmuş token için 401 yazılır, exception fırlatılmaz ve zincir durur")
+    void rejectsExpiredTokenTest() throws Exception {
+        when(jwtUtil.verify(TOKEN, ACCESS_TOKEN_TYPE)).thenReturn(new TokenVerification(TokenVerification.Status.EXPIRED, null));
+
+        assertDoesNotThrow(() -> filter.doFilter(request, response, filterChain));
+
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Token'ın süresi dolmuş."));
+        assertNotNull(response.getHeader("WWW-Authenticate"));
+        verifyNoInteractions(tokenBlacklistService, customUserDetailsService, filterChain);
+    }
+
+    @Test
+    @DisplayName("Kara listedeki token için 401 yazılır ve kullanıcı yüklenmez")
+    void rejectsBlacklistedTokenTest() throws Exception {
+        var claims = Jwts.claims().subject("test@test.com").build();
+        when(jwtUtil.verify(TOKEN, ACCESS_TOKEN_TYPE)).thenReturn(new TokenVerification(TokenVerification.Status.VALID, claims));
+        when(tokenBlacklistService.isTokenBlacklisted(TOKEN)).thenReturn(true);
+
+        filter.doFilter(request, response, filterChain);
+
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Token kara listede."));
+        verifyNoInteractions(customUserDetailsService);
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Herkese açık uç noktada eski token işlenmez ve istek zincire geçer")
+    void skipsPublicEndpointsTest() throws Exception {
+        for (var path : List.of("/api/auth/login", "/.well-known/jwks.json", "/swagger-ui/index.html")) {
+            var publicRequest = new MockHttpServletRequest("POST", path);
+            publicRequest.addHeader("Authorization", "Bearer " + TOKEN);
+
+            filter.doFilter(publicRequest, response, filterChain);
+
+            verify(filterChain).doFilter(publicRequest, response);
+        }
+        verifyNoInteractions(jwtUtil, tokenBlacklistService, customUserDetailsService);
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Sadece claim gerektiren yolda kullanıcı yüklenmez ve kara liste sorgulanmaz")
+    void claimsOnlyPathSkipsDatabaseAndRedisTest() throws Exception {
+        ReflectionTestUtils.setField(filter, "claimsOnlyPatterns", new String[]{"/api/user"});
+        filter.init();
+        var userListRequest = new MockHttpServletRequest("GET", "/api/user");
+        userListRequest.addHeader("Authorization", "Bearer " + TOKEN);
+        var claims = Jwts.claims().subject("admin@test.com").build();
+        when(jwtUtil.verify(TOKEN, ACCESS_TOKEN_TYPE)).thenReturn(new TokenVerification(TokenVerification.Status.VALID, claims));
+        when(jwtUtil.getAuthorities(claims)).thenReturn(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+        filter.doFilter(userListRequest, response, filterChain);
+
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals("admin@test.com", authentication.getName());
+        assertTrue(authentication.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        verifyNoInteractions(tokenBlacklistService, customUserDetailsService);
+        verify(filterChain).doFilter(userListRequest, response);
+    }
+}
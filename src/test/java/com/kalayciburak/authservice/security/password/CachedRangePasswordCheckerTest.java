@@ -0,0 +1,73 @@
+package com.kalayciburak.authservice.security.password;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * CachedRangePasswordChecker sınıfının k-anonymity range yanıtlarını önbelleğe almasını test eden sınıftır.
+ */
+class CachedRangePasswordCheckerTest {
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private MockRestServiceServer server;
+    private CachedRangePasswordChecker checker;
+    private String prefix;
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        var builder = RestClient.builder().baseUrl("https://api.test");
+        server = MockRestServiceServer.bindTo(builder).build();
+        checker = new CachedRangePasswordChecker(builder.build(), 2, 60_000, now::get);
+
+        var hash = HexFormat.of().withUpperCase().formatHex(BloomFilterPasswordChecker.sha1("password"));
+        prefix = hash.substring(0, 5);
+        suffix = hash.substring(5);
+    }
+
+    @Test
+    @DisplayName("Aynı öneke düşen kontroller için API'ye tek istek atılır")
+    void cachesRangeResponseTest() {
+        server.expect(once(), requestTo("https://api.test/range/" + prefix))
+                .andRespond(withSuccess("0018A45C4D1DEF81644B54AB7F969B88D65:0\r\n" + suffix + ":9545824\r\n", MediaType.TEXT_PLAIN));
+
+        assertTrue(checker.check("password").isCompromised());
+        assertTrue(checker.check("password").isCompromised());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Dolgu satırları (sayı 0) sızdırılmış sayılmaz")
+    void ignoresPaddingTest() {
+        server.expect(requestTo("https://api.test/range/" + prefix))
+                .andRespond(withSuccess(suffix + ":0\r\n", MediaType.TEXT_PLAIN));
+
+        assertFalse(checker.check("password").isCompromised());
+    }
+
+    @Test
+    @DisplayName("Önbellek süresi dolunca range tekrar istenir, API hatasında parola engellenmez")
+    void expiresAndFailsOpenTest() {
+        server.expect(requestTo("https://api.test/range/" + prefix))
+                .andRespond(withSuccess(suffix + ":3\r\n", MediaType.TEXT_PLAIN));
+        server.expect(requestTo("https://api.test/range/" + prefix)).andRespond(withServerError());
+
+        assertTrue(checker.check("password").isCompromised());
+        now.addAndGet(60_000);
+        assertFalse(checker.check("password").isCompromised());
+        server.verify();
+    }
+}
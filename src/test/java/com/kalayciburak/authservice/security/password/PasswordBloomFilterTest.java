@@ -0,0 +1,73 @@
+package com.kalayciburak.authservice.security.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PasswordBloomFilter ve BreachedPasswordFilterBuilder sınıflarının filtre dosyası oluşturmasını ve yerel parola
+ * kontrolünü test eden sınıftır.
+ */
+class PasswordBloomFilterTest {
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
+    private static final int BREACHED = 10_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Listedeki parolalar sızdırılmış, listede olmayanlar büyük oranda temiz kabul edilir")
+    void buildAndCheckTest() throws Exception {
+        var input = writeCorpus();
+        var output = dir.resolve("pwned.bloom");
+
+        assertEquals(BREACHED, BreachedPasswordFilterBuilder.build(input, output, 0.001, 1));
+
+        try (var checker = new BloomFilterPasswordChecker(PasswordBloomFilter.open(output))) {
+            for (int i = 0; i < BREACHED; i++)
+                assertTrue(checker.check("breached-" + i).isCompromised(), "Sızdırılmış parola kaçırılmamalıdır.");
+
+            long falsePositives = IntStream.range(0, 100_000).filter(i -> checker.check("clean-" + i).isCompromised()).count();
+            assertTrue(falsePositives < 300, "Hatalı pozitif oranı hedefe yakın olmalıdır: " + falsePositives);
+            assertFalse(checker.check(null).isCompromised());
+        }
+    }
+
+    @Test
+    @DisplayName("En az sayı eşiğinin altındaki parolalar filtreye eklenmez")
+    void minCountTest() throws Exception {
+        var input = writeCorpus();
+        var output = dir.resolve("pwned.bloom");
+
+        // Sayılar i % 10 + 1 olduğu için eşik 6 olunca yarısı elenir
+        assertEquals(BREACHED / 2, BreachedPasswordFilterBuilder.build(input, output, 0.001, 6));
+
+        try (var filter = PasswordBloomFilter.open(output)) {
+            assertEquals(BREACHED / 2, filter.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Geçerli bir filtre dosyası olmayan dosya açılmaz")
+    void rejectsInvalidFileTest() throws IOException {
+        var file = Files.writeString(dir.resolve("invalid.bloom"), "not a bloom filter, not a bloom filter");
+
+        assertThrows(IOException.class, () -> PasswordBloomFilter.open(file));
+    }
+
+    private Path writeCorpus() throws IOException {
+        var lines = IntStream.range(0, BREACHED)
+                .mapToObj(i -> HEX.formatHex(BloomFilterPasswordChecker.sha1("breached-" + i)) + ":" + (i % 10 + 1))
+                .toList();
+
+        return Files.write(dir.resolve("pwned.txt"), lines);
+    }
+}
@@ -0,0 +1,51 @@
+package com.kalayciburak.authservice.security.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TimedPasswordEncoder ve TimedCompromisedPasswordChecker sarmalayıcılarının sonucu değiştirmeden süreleri metriklere
+ * yazmasını test eden sınıftır.
+ */
+class TimedPasswordEncoderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Hash üretimi ve karşılaştırma süreleri sonuca göre ölçülür")
+    void recordsEncodeAndMatchesTest() {
+        var encoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(4), meterRegistry);
+
+        var hash = encoder.encode("Secret123!");
+
+        assertTrue(encoder.matches("Secret123!", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(1, meterRegistry.timer("auth.password.encode").count());
+        assertEquals(1, meterRegistry.timer("auth.password.matches", "outcome", "match").count());
+        assertEquals(1, meterRegistry.timer("auth.password.matches", "outcome", "mismatch").count());
+    }
+
+    @Test
+    @DisplayName("Sızıntı kontrolü süresi kontrolcü ve sonuca göre ölçülür, hata da kaydedilir")
+    void recordsBreachCheckTest() {
+        var checker = new TimedCompromisedPasswordChecker(
+                password -> {
+                    if (password == null) throw new IllegalStateException("api");
+                    return new CompromisedPasswordDecision(password.equals("password"));
+                },
+                meterRegistry);
+
+        assertTrue(checker.check("password").isCompromised());
+        assertFalse(checker.check("Xy7#qLm2!vR").isCompromised());
+        assertThrows(IllegalStateException.class, () -> checker.check(null));
+
+        var timers = meterRegistry.find("auth.password.breach-check").timers();
+        assertEquals(3, timers.size());
+        assertEquals(1, meterRegistry.find("auth.password.breach-check").tag("result", "compromised").timer().count());
+        assertEquals(1, meterRegistry.find("auth.password.breach-check").tag("result", "error").timer().count());
+    }
+}
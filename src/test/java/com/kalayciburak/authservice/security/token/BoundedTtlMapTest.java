@@ -0,0 +1,42 @@
+package com.kalayciburak.authservice.security.token;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoundedTtlMap sınıfının süre ve boyut sınırı davranışını test eden sınıftır.
+ */
+class BoundedTtlMapTest {
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final BoundedTtlMap<String, String> map = new BoundedTtlMap<>(now::get);
+
+    @Test
+    @DisplayName("Kayıt süresi dolana kadar okunur, dolduktan sonra okunurken silinir")
+    void expiresEntryTest() {
+        map.put("key", "value", now.get() + 1_000, 10);
+
+        assertEquals("value", map.get("key"));
+
+        now.addAndGet(1_000);
+        assertNull(map.get("key"));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    @DisplayName("Sınırda önce süresi dolanlar, yer yoksa tüm kayıtlar silinir; sınır 0 ise hiçbir şey saklanmaz")
+    void evictsAtLimitTest() {
+        map.put("one", "1", now.get() + 1_000, 2);
+        map.put("two", "2", now.get() + 5_000, 2);
+        now.addAndGet(1_000);
+
+        assertEquals(1, map.put("three", "3", now.get() + 5_000, 2));
+        assertEquals(2, map.put("four", "4", now.get() + 5_000, 2));
+        assertEquals(1, map.size());
+        assertEquals(0, map.put("five", "5", now.get() + 5_000, 0));
+        assertNull(map.get("five"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.kalayciburak.authservice.security.token;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.kalayciburak.authservice.security.token.JwtPrecheck.Result.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * JwtPrecheck sınıfının token'ları imza doğrulamasından önce hangi aşamada reddettiğini test eden sınıftır.
+ */
+class JwtPrecheckTest {
+    private static final String KEY_ID = "test-key-id";
+    private static final int SIGNATURE_BYTES = 256;
+    private static final long NOW = 1_700_000_000_000L;
+    private static final String VALID_HEADER = "{\"kid\":\"" + KEY_ID + "\",\"alg\":\"RS256\"}";
+    private static final String SIGNATURE = encode(new byte[SIGNATURE_BYTES]);
+
+    @Test
+    @DisplayName("Servisin ürettiği biçimdeki token ön kontrolden geçer")
+    void passesWellFormedTokenTest() {
+        var token = token(VALID_HEADER, "{\"sub\":\"test@test.com\",\"exp\":" + (NOW / 1000 + 60) + "}");
+
+        assertEquals(PASSED, check(token));
+    }
+
+    @Test
+    @DisplayName("Boş veya çok uzun token boyut aşamasında reddedilir")
+    void rejectsSizeTest() {
+        assertEquals(SIZE, check(null));
+        assertEquals(SIZE, check(""));
+        assertEquals(SIZE, check("a".repeat(JwtPrecheck.MAX_LENGTH + 1)));
+    }
+
+    @Test
+    @DisplayName("Üç parçalı olmayan, Base64URL dışı karakter içeren veya imza uzunluğu tutmayan token reddedilir")
+    void rejectsShapeTest() {
+        var payload = "{\"exp\":" + (NOW / 1000 + 60) + "}";
+
+        assertEquals(SHAPE, check("invalid.token.format"));
+        assertEquals(SHAPE, check(encode(VALID_HEADER) + "." + encode(payload)));
+        assertEquals(SHAPE, check(encode(VALID_HEADER) + ".." + SIGNATURE));
+        assertEquals(SHAPE, check(token(VALID_HEADER, payload) + ".extra"));
+        assertEquals(SHAPE, check(encode(VALID_HEADER) + "." + encode(payload) + "=." + SIGNATURE));
+        assertEquals(SHAPE, check(encode(VALID_HEADER) + "." + encode(payload) + "." + SIGNATURE.substring(1)));
+    }
+
+    @Test
+    @DisplayName("Desteklenmeyen algoritma veya bilinmeyen anahtar header aşamasında reddedilir")
+    void rejectsHeaderTest() {
+        var payload = "{\"exp\":" + (NOW / 1000 + 60) + "}";
+
+        assertEquals(HEADER, check(token("{\"kid\":\"" + KEY_ID + "\",\"alg\":\"none\"}", payload)));
+        assertEquals(HEADER, check(token("{\"kid\":\"old-key\",\"alg\":\"RS256\"}", payload)));
+        assertEquals(HEADER, check(token("{\"alg\":\"RS256\"}", payload)));
+        assertEquals(HEADER, check(token("not-json", payload)));
+    }
+
+    @Test
+    @DisplayName("Geçiş döneminde kid'i olmayan veya thumbprint biçiminde olmayan token imza doğrulamasına bırakılır")
+    void acceptsLegacyKeyIdTest() {
+        var payload = "{\"exp\":" + (NOW / 1000 + 60) + "}";
+        var thumbprint = "A".repeat(43);
+
+        assertEquals(PASSED, JwtPrecheck.check(token("{\"kid\":\"old-key\",\"alg\":\"RS256\"}", payload), thumbprint, true, SIGNATURE_BYTES, NOW));
+        assertEquals(PASSED, JwtPrecheck.check(token("{\"alg\":\"RS256\"}", payload), thumbprint, true, SIGNATURE_BYTES, NOW));
+        assertEquals(HEADER, JwtPrecheck.check(token("{\"kid\":\"" + "B".repeat(43) + "\",\"alg\":\"RS256\"}", payload), thumbprint, true, SIGNATURE_BYTES, NOW));
+        assertEquals(HEADER, JwtPrecheck.check(token("{\"alg\":\"none\"}", payload), thumbprint, true, SIGNATURE_BYTES, NOW));
+    }
+
+    @Test
+    @DisplayName("Süresi dolmuş, henüz geçerli olmayan veya exp içermeyen token reddedilir")
+    void rejectsClaimsTest() {
+        assertEquals(EXPIRED, check(token(VALID_HEADER, "{\"exp\":" + (NOW / 1000 - 1) + "}")));
+        assertEquals(NOT_YET_VALID, check(token(VALID_HEADER, "{\"exp\":" + (NOW / 1000 + 60) + ",\"nbf\":" + (NOW / 1000 + 30) + "}")));
+        assertEquals(CLAIMS, check(token(VALID_HEADER, "{\"sub\":\"test@test.com\"}")));
+        assertEquals(CLAIMS, check(token(VALID_HEADER, "{\"exp\":\"yarın\"}")));
+        assertEquals(CLAIMS, check(token(VALID_HEADER, "[1,2,3]")));
+    }
+
+    private static JwtPrecheck.Result check(String token) {
+        return JwtPrecheck.check(token, KEY_ID, SIGNATURE_BYTES, NOW);
+    }
+
+    private static String token(String header, String payload) {
+        return encode(header) + "." + encode(payload) + "." + SIGNATURE;
+    }
+
+    private static String encode(String value) {
+        return encode(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String encode(byte[] value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+}
@@ -1,12 +1,16 @@
 package com.kalayciburak.authservice.security.token;
 
 import com.kalayciburak.authservice.advice.exception.InvalidJwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -18,10 +22,13 @@ import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 import static com.kalayciburak.authservice.constant.JwtConstants.ACCESS_TOKEN_TYPE;
 import static com.kalayciburak.authservice.constant.JwtConstants.REFRESH_TOKEN_TYPE;
+import static com.kalayciburak.authservice.constant.JwtConstants.TOKEN_TYPE_CLAIM;
 import static java.lang.Math.abs;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -45,6 +52,12 @@ class JwtUtilTest {
     @Mock
     private RsaKeyService rsaKeyService;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private RejectedTokenCache rejectedTokenCache = new RejectedTokenCache(new SimpleMeterRegistry());
+
     @InjectMocks
     private JwtUtil jwtUtil;
 
@@ -111,6 +124,19 @@ class JwtUtilTest {
         assertEquals(REFRESH_TOKEN_TYPE, jwtUtil.getTokenType(token), "Token tipi 'refresh' olmalıdır.");
     }
 
+    /**
+     * Her token'ın iptal akışında kullanılan benzersiz bir ID ({@code jti}) taşıdığını test eder.
+     */
+    @Test
+    @DisplayName("Token ID testi - Her token benzersiz jti taşır")
+    void generatedTokensHaveUniqueIdTest() {
+        var first = jwtUtil.getTokenId(jwtUtil.generateToken(email, authorities));
+        var second = jwtUtil.getTokenId(jwtUtil.generateToken(email, authorities));
+
+        assertNotNull(first, "Token ID'si null olmamalıdır.");
+        assertNotEquals(first, second, "Her token farklı bir ID taşımalıdır.");
+    }
+
     /**
      * Geçerli bir token kullanılarak token doğrulama işleminin başarılı olduğunu test eder.
      */
@@ -252,4 +278,136 @@ class JwtUtilTest {
         var isExpirationDateWithinTolerance = abs(expirationDate.getTime() - expectedExpiration) < 10000;
         assertTrue(isExpirationDateWithinTolerance, "Token son kullanma tarihi beklenen değere yakın olmalıdır.");
     }
+
+    /**
+     * İmzalama ve doğrulama sürelerinin token tipi ve sonuca göre metriklere yazıldığını test eder.
+     */
+    @Test
+    @DisplayName("İmzalama ve doğrulama metrikleri testi")
+    void recordsSignAndVerifyMetricsTest() {
+        // Arrange
+        var token = jwtUtil.generateToken(email, authorities);
+
+        var refreshToken = jwtUtil.generateRefreshToken(email);
+        var forgedToken = token.substring(0, token.lastIndexOf('.')) + refreshToken.substring(refreshToken.lastIndexOf('.'));
+
+        // Act
+        jwtUtil.validateToken(token);
+        assertThrows(InvalidJwtException.class, () -> jwtUtil.validateToken(forgedToken));
+
+        // Assert
+        assertEquals(1, meterRegistry.timer("auth.jwt.sign", "type", ACCESS_TOKEN_TYPE).count());
+        assertEquals(1, meterRegistry.timer("auth.jwt.sign", "type", REFRESH_TOKEN_TYPE).count());
+        assertEquals(2, meterRegistry.counter("auth.jwt.precheck", "result", "passed").count());
+        assertEquals(1, meterRegistry.timer("auth.jwt.verify", "outcome", "valid").count());
+        assertEquals(1, meterRegistry.timer("auth.jwt.verify", "outcome", "invalid").count());
+    }
+
+    /**
+     * Yapısal olarak bozuk veya süresi dolmuş token'ların imza doğrulamasına gelmeden reddedildiğini test eder.
+     */
+    @Test
+    @DisplayName("Ön kontrol testi - Bozuk token imza doğrulamasına ulaşmaz")
+    void precheckRejectsBeforeSignatureVerificationTest() {
+        // Arrange
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationInMs", -60_000L);
+        var expiredToken = jwtUtil.generateToken(email, authorities);
+
+        // Act & Assert
+        assertThrows(InvalidJwtException.class, () -> jwtUtil.validateToken("invalid.token.format"));
+        assertThrows(InvalidJwtException.class, () -> jwtUtil.validateToken(expiredToken));
+
+        assertEquals(1, meterRegistry.counter("auth.jwt.precheck", "result", "shape").count());
+        assertEquals(1, meterRegistry.counter("auth.jwt.precheck", "result", "expired").count());
+        assertEquals(0, meterRegistry.timer("auth.jwt.verify", "outcome", "invalid").count());
+    }
+
+    /**
+     * Exception fırlatmayan doğrulamanın her red sebebi için doğru sonucu döndüğünü test eder.
+     */
+    @Test
+    @DisplayName("Exception'sız doğrulama testi - Sonuçlar")
+    void verifyReturnsStatusWithoutThrowingTest() {
+        // Arrange
+        var accessToken = jwtUtil.generateToken(email, authorities);
+        var refreshToken = jwtUtil.generateRefreshToken(email);
+        var forgedToken = accessToken.substring(0, accessToken.lastIndexOf('.')) + refreshToken.substring(refreshToken.lastIndexOf('.'));
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationInMs", -60_000L);
+        var expiredToken = jwtUtil.generateToken(email, authorities);
+
+        // Act
+        var valid = jwtUtil.verify(accessToken, ACCESS_TOKEN_TYPE);
+
+        // Assert
+        assertTrue(valid.isValid());
+        assertEquals(email, valid.claims().getSubject());
+        assertEquals(TokenVerification.Status.WRONG_TYPE, jwtUtil.verify(refreshToken, ACCESS_TOKEN_TYPE).status());
+        assertEquals(TokenVerification.Status.BAD_SIGNATURE, jwtUtil.verify(forgedToken, ACCESS_TOKEN_TYPE).status());
+        assertEquals(TokenVerification.Status.EXPIRED, jwtUtil.verify(expiredToken, ACCESS_TOKEN_TYPE).status());
+        assertEquals(TokenVerification.Status.MALFORMED, jwtUtil.verify("invalid.token.format", ACCESS_TOKEN_TYPE).status());
+        assertNull(jwtUtil.verify(forgedToken, ACCESS_TOKEN_TYPE).claims());
+    }
+
+    /**
+     * İmzası geçersiz token'ın ikinci kez geldiğinde imza doğrulaması yapılmadan reddedildiğini, geçerli token'ın ise
+     * önbelleğe eklenmediğini test eder.
+     */
+    @Test
+    @DisplayName("Reddedilen token önbelleği testi - Tekrarlanan geçersiz imza")
+    void repeatedBadSignatureSkipsVerificationTest() {
+        // Arrange
+        var accessToken = jwtUtil.generateToken(email, authorities);
+        var refreshToken = jwtUtil.generateRefreshToken(email);
+        var forgedToken = accessToken.substring(0, accessToken.lastIndexOf('.')) + refreshToken.substring(refreshToken.lastIndexOf('.'));
+
+        // Act
+        jwtUtil.verify(accessToken, ACCESS_TOKEN_TYPE);
+        jwtUtil.verify(refreshToken, ACCESS_TOKEN_TYPE);
+        var first = jwtUtil.verify(forgedToken, ACCESS_TOKEN_TYPE);
+        var second = jwtUtil.verify(forgedToken, ACCESS_TOKEN_TYPE);
+
+        // Assert
+        assertEquals(TokenVerification.Status.BAD_SIGNATURE, first.status());
+        assertEquals(TokenVerification.Status.BAD_SIGNATURE, second.status());
+        assertEquals(1, meterRegistry.timer("auth.jwt.verify", "outcome", "invalid").count());
+        assertFalse(rejectedTokenCache.contains(accessToken));
+        assertFalse(rejectedTokenCache.contains(refreshToken));
+    }
+
+    /**
+     * Key ID thumbprint'e geçmeden önce açılışta üretilen UUID {@code kid} ile verilmiş token'ın, aynı anahtarla
+     * imzalandıysa geçiş döneminde kabul edildiğini; geçiş kapatılınca ve başka bir anahtarın thumbprint'i ile geldiğinde
+     * ön kontrolde reddedildiğini test eder.
+     */
+    @Test
+    @DisplayName("Eski biçimli kid testi - Geçiş döneminde imza doğrulanır")
+    void legacyKeyIdTokenTest() throws NoSuchAlgorithmException {
+        // Arrange
+        var publicKey = rsaKeyService.getPublicKey();
+        when(rsaKeyService.getKeyId()).thenReturn(RsaKeyService.thumbprint(publicKey));
+        var otherKey = (RSAPublicKey) KeyPairGenerator.getInstance("RSA").generateKeyPair().getPublic();
+        var legacyToken = signedToken(UUID.randomUUID().toString());
+        var noKidToken = signedToken(null);
+        var otherKidToken = signedToken(RsaKeyService.thumbprint(otherKey));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> jwtUtil.validateToken(legacyToken));
+        assertEquals(TokenVerification.Status.VALID, jwtUtil.verify(legacyToken, ACCESS_TOKEN_TYPE).status());
+        assertEquals(TokenVerification.Status.VALID, jwtUtil.verify(noKidToken, ACCESS_TOKEN_TYPE).status());
+        assertEquals(TokenVerification.Status.MALFORMED, jwtUtil.verify(otherKidToken, ACCESS_TOKEN_TYPE).status());
+
+        ReflectionTestUtils.setField(jwtUtil, "acceptLegacyKid", false);
+        assertThrows(InvalidJwtException.class, () -> jwtUtil.validateToken(legacyToken));
+    }
+
+    private String signedToken(String keyId) {
+        var builder = Jwts.builder();
+        if (keyId != null) builder.header().keyId(keyId).and();
+
+        return builder.subject(email)
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .expiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
+                .signWith(rsaKeyService.getPrivateKey())
+                .compact();
+    }
 }
@@ -0,0 +1,62 @@
+package com.kalayciburak.authservice.security.token;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RejectedTokenCache sınıfının süre, boyut sınırı ve metrik davranışını test eden sınıftır.
+ */
+class RejectedTokenCacheTest {
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private SimpleMeterRegistry meterRegistry;
+    private RejectedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RejectedTokenCache(meterRegistry, now::get);
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        ReflectionTestUtils.setField(cache, "ttlMs", 1_000L);
+    }
+
+    @Test
+    @DisplayName("Eklenen token süre dolana kadar bulunur, sonra düşer")
+    void expiresAfterTtlTest() {
+        cache.add("bad.token.one");
+
+        assertTrue(cache.contains("bad.token.one"));
+        assertFalse(cache.contains("bad.token.two"));
+
+        now.addAndGet(1_000);
+        assertFalse(cache.contains("bad.token.one"));
+        assertEquals(0, cache.size());
+        assertEquals(1, meterRegistry.counter("auth.jwt.rejected-cache.lookup", "result", "hit").count());
+        assertEquals(2, meterRegistry.counter("auth.jwt.rejected-cache.lookup", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("Sınıra ulaşıldığında önce süresi dolanlar, yer yoksa tüm kayıtlar silinir")
+    void boundedBySizeTest() {
+        cache.add("bad.token.one");
+        now.addAndGet(1_000);
+        cache.add("bad.token.two");
+        cache.add("bad.token.three");
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.contains("bad.token.one"));
+
+        cache.add("bad.token.four");
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.contains("bad.token.four"));
+        assertEquals(3, meterRegistry.counter("auth.jwt.rejected-cache.evictions").count());
+        assertEquals(1, meterRegistry.get("auth.jwt.rejected-cache.size").gauge().value());
+    }
+}
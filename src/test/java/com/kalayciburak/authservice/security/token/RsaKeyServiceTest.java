@@ -0,0 +1,69 @@
+package com.kalayciburak.authservice.security.token;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * RsaKeyService sınıfının key ID'yi public key'den türetmesini test eden sınıftır.
+ */
+class RsaKeyServiceTest {
+    // RFC 7638, 3.1. bölümdeki örnek key
+    private static final String MODULUS = "0vx7agoebGcQSuuPiLJXZptN9nndrQmbXEps2aiAFbWhM78LhWx4cbbfAAtVT86zwu1RK7aPFFx"
+            + "uhDR1L6tSoc_BJECPebWKRXjBZCiFV4n3oknjhMstn64tZ_2W-5JsGY4Hc5n9yBXArwl93lqt7_RN5w6Cf0h4QyQ5v-65YGjQR0_FDW2Qv"
+            + "zqY368QQMicAtaSqzs8KJZgnYb9c7d0zgdAZHzu6qMQvRL5hajrn1n91CbOpbISD08qNLyrdkt-bFTWhAI4vMQFh6WeZu0fM4lFd2NcRwr3"
+            + "XPksINHaQ-G_xBniIqbw0Ls1jF44-csFCur-kEgU8awapJzKnqDKgw";
+
+    @Test
+    @DisplayName("Key ID, public key'in RFC 7638 thumbprint'idir")
+    void keyIdIsJwkThumbprintTest() throws Exception {
+        var spec = new RSAPublicKeySpec(new BigInteger(1, Base64.getUrlDecoder().decode(MODULUS)), BigInteger.valueOf(65537));
+        var publicKey = (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(spec);
+
+        assertEquals("NzbLsXh8uDCcd-6MNwXF4W_7noWXFZAfHkxZsRGC9Xs", RsaKeyService.thumbprint(publicKey));
+    }
+
+    @Test
+    @DisplayName("Aynı key'i yükleyen başka bir instance'ın ürettiği token ön kontrolden geçer")
+    void tokenFromAnotherInstancePassesPrecheckTest() throws Exception {
+        var generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        var keyPair = generator.generateKeyPair();
+        var privateKey = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+        var publicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+
+        var issuer = keyService(privateKey, publicKey);
+        var verifier = keyService(privateKey, publicKey);
+        var token = Jwts.builder()
+                .header().keyId(issuer.getKeyId()).and()
+                .subject("test@test.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(issuer.getPrivateKey())
+                .compact();
+        int signatureBytes = (verifier.getPublicKey().getModulus().bitLength() + 7) / 8;
+
+        assertEquals(issuer.getKeyId(), verifier.getKeyId());
+        assertEquals(JwtPrecheck.Result.PASSED,
+                JwtPrecheck.check(token, verifier.getKeyId(), signatureBytes, System.currentTimeMillis()));
+    }
+
+    private static RsaKeyService keyService(String privateKey, String publicKey) {
+        var service = new RsaKeyService();
+        ReflectionTestUtils.setField(service, "privateKeyString", privateKey);
+        ReflectionTestUtils.setField(service, "publicKeyString", publicKey);
+        ReflectionTestUtils.invokeMethod(service, "initializeKeys");
+
+        return service;
+    }
+}
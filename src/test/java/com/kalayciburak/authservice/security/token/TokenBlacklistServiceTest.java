@@ -1,5 +1,7 @@
 package com.kalayciburak.authservice.security.token;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,10 +10,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -35,6 +40,12 @@ class TokenBlacklistServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private RevocationLog revocationLog;
+
     @InjectMocks
     private TokenBlacklistService tokenBlacklistService;
 
@@ -47,7 +58,8 @@ class TokenBlacklistServiceTest {
 
     /**
      * Token'ın süresi dolmamış olduğunda kara listeye eklenme işleminin başarılı olduğunu test eder. Bu test, RedisTemplate
-     * üzerinden opsForValue() çağrısının yapıldığını ve set metodunun doğru parametrelerle çağrıldığını doğrular.
+     * üzerinden opsForValue() çağrısının yapıldığını, set metodunun doğru parametrelerle çağrıldığını ve iptalin token ID'si
+     * ile yayınlandığını doğrular.
      */
     @Test
     @DisplayName("Token kara listeye ekleme testi - token süresi dolmamış")
@@ -57,7 +69,7 @@ class TokenBlacklistServiceTest {
         var futureDate = new Date(System.currentTimeMillis() + 3600000); // 1 saat sonrası
 
         // Act
-        tokenBlacklistService.addTokenToBlacklist(token, futureDate);
+        tokenBlacklistService.addTokenToBlacklist(token, "token-id", futureDate);
 
         // Verify
         verify(redisTemplate).opsForValue();
@@ -66,6 +78,24 @@ class TokenBlacklistServiceTest {
                 eq("blacklisted"),
                 anyLong(),
                 eq(TimeUnit.MILLISECONDS));
+        verify(revocationLog).revokeToken("token-id", futureDate.getTime() / 1000);
+    }
+
+    /**
+     * İptalin diğer servislere yayınlanamadığı durumda, token'ın kara listeye eklendiğini ve hatanın çıkış işlemine
+     * yansımadığını test eder.
+     */
+    @Test
+    @DisplayName("Token kara listeye ekleme testi - iptal yayınlanamazsa hata fırlatılmaz")
+    void addTokenToBlacklistPublishFailureTest() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        // Arrange
+        var futureDate = new Date(System.currentTimeMillis() + 3600000); // 1 saat sonrası
+        doThrow(new IllegalStateException("Redis stream kapalı")).when(revocationLog).revokeToken(eq("token-id"), anyLong());
+
+        // Act & Assert
+        assertDoesNotThrow(() -> tokenBlacklistService.addTokenToBlacklist(token, "token-id", futureDate));
+        verify(valueOperations).set(eq(blacklistKey), eq("blacklisted"), anyLong(), eq(TimeUnit.MILLISECONDS));
     }
 
     /**
@@ -79,10 +109,10 @@ class TokenBlacklistServiceTest {
         var pastDate = new Date(System.currentTimeMillis() - 3600000); // 1 saat öncesi
 
         // Act
-        tokenBlacklistService.addTokenToBlacklist(token, pastDate);
+        tokenBlacklistService.addTokenToBlacklist(token, "token-id", pastDate);
 
         // Verify
-        verifyNoInteractions(redisTemplate);
+        verifyNoInteractions(redisTemplate, revocationLog);
         verifyNoMoreInteractions(valueOperations);
     }
 
@@ -100,6 +130,7 @@ class TokenBlacklistServiceTest {
 
         // Assert
         assertTrue(result, "Token kara listede ise sonuç true olmalıdır.");
+        assertEquals(1, meterRegistry.timer("auth.blacklist.lookup", "result", "hit").count());
 
         // Verify
         verify(redisTemplate).hasKey(blacklistKey);
@@ -119,6 +150,7 @@ class TokenBlacklistServiceTest {
 
         // Assert
         assertFalse(result, "Token kara listede değilse sonuç false olmalıdır.");
+        assertEquals(1, meterRegistry.timer("auth.blacklist.lookup", "result", "miss").count());
 
         // Verify
         verify(redisTemplate).hasKey(blacklistKey);
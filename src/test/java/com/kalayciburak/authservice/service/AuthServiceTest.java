@@ -7,6 +7,7 @@ import com.kalayciburak.authservice.model.entity.User;
 import com.kalayciburak.authservice.repository.UserRepository;
 import com.kalayciburak.authservice.security.token.JwtUtil;
 import com.kalayciburak.authservice.security.token.TokenBlacklistService;
+import com.kalayciburak.authservice.service.ratelimit.LoginThrottle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -39,6 +41,7 @@ class AuthServiceTest {
     private final String password = "TestPass123!";
     private final String accessToken = "access.token.123";
     private final String refreshToken = "refresh.token.456";
+    private final String clientIp = "127.0.0.1";
     private final List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_FREE"));
 
     @Mock
@@ -56,6 +59,9 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private LoginThrottle loginThrottle;
+
     @InjectMocks
     private AuthService authService;
 
@@ -92,7 +98,7 @@ class AuthServiceTest {
         when(jwtUtil.generateRefreshToken(email)).thenReturn(refreshToken);
 
         // Act: Giriş işlemi gerçekleştirilir.
-        var response = authService.login(request);
+        var response = authService.login(request, clientIp);
 
         // Assert: Üretilen token'lar ve yanıt nesnesi kontrol edilir.
         assertNotNull(response, "Giriş yanıtı null olmamalıdır.");
@@ -106,6 +112,26 @@ class AuthServiceTest {
         verify(customUserDetailsService).loadUserByUsername(email);
         verify(jwtUtil).generateToken(eq(email), anyCollection());
         verify(jwtUtil).generateRefreshToken(email);
+        verify(loginThrottle).recordSuccess(email);
+    }
+
+    /**
+     * Hatalı şifre ile yapılan girişin başarısız deneme olarak kaydedildiğini ve token üretilmediğini test eder.
+     */
+    @Test
+    @DisplayName("Hatalı şifre başarısız deneme olarak kaydedilir")
+    void loginWithBadCredentialsRecordsFailureTest() {
+        var request = new LoginRequest(email, "WrongPass123!");
+
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+
+        assertThrows(BadCredentialsException.class, () -> authService.login(request, clientIp));
+
+        verify(loginThrottle).recordFailure(email, clientIp);
+        verify(loginThrottle, never()).recordSuccess(anyString());
+        verifyNoInteractions(jwtUtil);
     }
 
     /**
@@ -119,7 +145,8 @@ class AuthServiceTest {
         var expirationDate = new Date(System.currentTimeMillis() + 3600000);
         when(tokenBlacklistService.isTokenBlacklisted(accessToken)).thenReturn(false);
         when(jwtUtil.getExpirationDate(accessToken)).thenReturn(expirationDate);
-        doNothing().when(tokenBlacklistService).addTokenToBlacklist(accessToken, expirationDate);
+        when(jwtUtil.getTokenId(accessToken)).thenReturn("token-id");
+        doNothing().when(tokenBlacklistService).addTokenToBlacklist(accessToken, "token-id", expirationDate);
 
         // Act: Çıkış işlemi gerçekleştirilir.
         var response = authService.logout(accessToken);
@@ -131,7 +158,7 @@ class AuthServiceTest {
         // Verify: Kara liste kontrolü ve token son kullanma tarihi işlemleri
         // doğrulanır.
         verify(tokenBlacklistService).isTokenBlacklisted(accessToken);
-        verify(tokenBlacklistService).addTokenToBlacklist(accessToken, expirationDate);
+        verify(tokenBlacklistService).addTokenToBlacklist(accessToken, "token-id", expirationDate);
         verify(jwtUtil).getExpirationDate(accessToken);
     }
 
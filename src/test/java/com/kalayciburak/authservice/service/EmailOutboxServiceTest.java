@@ -0,0 +1,109 @@
+package com.kalayciburak.authservice.service;
+
+import com.kalayciburak.authservice.model.entity.EmailOutbox;
+import com.kalayciburak.authservice.model.entity.User;
+import com.kalayciburak.authservice.model.enums.EmailType;
+import com.kalayciburak.authservice.model.enums.OutboxStatus;
+import com.kalayciburak.authservice.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmailOutboxService sınıfının dil seçimi, yeniden deneme ve dead-letter davranışını test eden sınıftır.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+    @Mock
+    private EmailOutboxRepository repository;
+
+    @InjectMocks
+    private EmailOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxService, "initialBackoffMs", 1000L);
+        ReflectionTestUtils.setField(outboxService, "maxBackoffMs", 5000L);
+    }
+
+    private EmailOutbox createEntry(int attempts) {
+        return EmailOutbox.builder()
+                .id(1L)
+                .type(EmailType.VERIFICATION)
+                .recipient("test@test.com")
+                .firstName("Test")
+                .lastName("User")
+                .status(OutboxStatus.PROCESSING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Başarısız gönderim - Deneme hakkı varsa yeniden planlanır")
+    void markFailedReschedulesTest() {
+        var entry = createEntry(0);
+        when(repository.findById(1L)).thenReturn(Optional.of(entry));
+
+        outboxService.markFailed(1L, new RuntimeException("SMTP kapalı"));
+
+        assertEquals(OutboxStatus.PENDING, entry.getStatus());
+        assertEquals(1, entry.getAttempts());
+        assertTrue(entry.getNextAttemptAt().isAfter(LocalDateTime.now()), "Sonraki deneme ileri bir zamana planlanmalıdır.");
+        assertEquals("SMTP kapalı", entry.getLastError());
+    }
+
+    @Test
+    @DisplayName("Başarısız gönderim - Deneme hakkı bittiyse DEAD olarak işaretlenir")
+    void markFailedMovesToDeadLetterTest() {
+        var entry = createEntry(2);
+        when(repository.findById(1L)).thenReturn(Optional.of(entry));
+
+        outboxService.markFailed(1L, new RuntimeException("SMTP kapalı"));
+
+        assertEquals(OutboxStatus.DEAD, entry.getStatus());
+        assertEquals(3, entry.getAttempts());
+    }
+
+    @Test
+    @DisplayName("Üstel geri çekilme üst sınırı aşmaz")
+    void backoffIsExponentialAndCappedTest() {
+        assertEquals(1000L, outboxService.backoffMs(1));
+        assertEquals(2000L, outboxService.backoffMs(2));
+        assertEquals(4000L, outboxService.backoffMs(3));
+        assertEquals(5000L, outboxService.backoffMs(4));
+        assertEquals(5000L, outboxService.backoffMs(40));
+    }
+
+    @Test
+    @DisplayName("Email dili isteğin dil etiketiyle, bölgesi korunarak kaydedilir; istek dışında boş bırakılır")
+    void storesRequestLanguageTagTest() {
+        var user = User.builder().email("test@test.com").firstName("Test").lastName("User").build();
+        when(repository.save(any(EmailOutbox.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        try {
+            LocaleContextHolder.setLocale(Locale.forLanguageTag("en-US"));
+            assertEquals("en-US", outboxService.enqueueWelcomeEmail(user).getLocale());
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+
+        assertNull(outboxService.enqueueWelcomeEmail(user).getLocale());
+    }
+}
@@ -0,0 +1,112 @@
+package com.kalayciburak.authservice.service;
+
+import com.kalayciburak.authservice.security.token.JwtUtil;
+import com.kalayciburak.authservice.security.token.TokenBlacklistService;
+import com.kalayciburak.authservice.security.token.TokenVerification;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.kalayciburak.authservice.constant.JwtConstants.ACCESS_TOKEN_TYPE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * GatewayAuthorizationService sınıfının karar, önbellek ve metrik davranışını test eden sınıftır.
+ */
+@ExtendWith(MockitoExtension.class)
+class GatewayAuthorizationServiceTest {
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private SimpleMeterRegistry meterRegistry;
+    private GatewayAuthorizationService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new GatewayAuthorizationService(jwtUtil, tokenBlacklistService, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("Geçerli token için kimlik ve roller döner, tekrar eden istek önbellekten cevaplanır")
+    void allowsAndCachesValidTokenTest() {
+        var claims = Jwts.claims().subject("test@test.com").expiration(new Date(now.get() + 60_000)).build();
+        when(jwtUtil.verify(TOKEN, ACCESS_TOKEN_TYPE)).thenReturn(new TokenVerification(TokenVerification.Status.VALID, claims));
+        when(jwtUtil.getAuthorities(claims)).thenReturn(List.of(new SimpleGrantedAuthority("ROLE_FREE"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+        var first = service.authorize(TOKEN);
+        var second = service.authorize(TOKEN);
+
+        assertTrue(first.allowed());
+        assertEquals("test@test.com", first.subject());
+        assertEquals("ROLE_FREE,ROLE_ADMIN", first.roles());
+        assertSame(first, second);
+        verify(jwtUtil, times(1)).verify(TOKEN, ACCESS_TOKEN_TYPE);
+        verify(tokenBlacklistService, times(1)).isTokenBlacklisted(TOKEN);
+        assertEquals(1, meterRegistry.counter("auth.gateway.authorize", "result", "allowed", "cache", "hit").count());
+    }
+
+    @Test
+    @DisplayName("Önbellek süresi dolunca kara liste yeniden sorgulanır")
+    void reevaluatesAfterTtlTest() {
+        var claims = Jwts.claims().subject("test@test.com").expiration(new Date(now.get() + 60_000)).build();
+        when(jwtUtil.verify(TOKEN, ACCESS_TOKEN_TYPE)).thenReturn(new TokenVerification(TokenVerification.Status.VALID, claims));
+        when(jwtUtil.getAuthorities(claims)).thenReturn(List.of(new SimpleGrantedAuthority("ROLE_FREE")));
+        when(tokenBlacklistService.isTokenBlacklisted(TOKEN)).thenReturn(false, true);
+
+        assertTrue(service.authorize(TOKEN).allowed());
+        now.addAndGet(1_000);
+
+        assertFalse(service.authorize(TOKEN).allowed());
+        verify(tokenBlacklistService, times(2)).isTokenBlacklisted(TOKEN);
+    }
+
+    @Test
+    @DisplayName("Geçersiz veya eksik token reddedilir")
+    void deniesInvalidTokenTest() {
+        when(jwtUtil.verify(TOKEN, ACCESS_TOKEN_TYPE)).thenReturn(new TokenVerification(TokenVerification.Status.EXPIRED, null));
+
+        assertFalse(service.authorize(TOKEN).allowed());
+        assertFalse(service.authorize(null).allowed());
+        verifyNoInteractions(tokenBlacklistService);
+        assertEquals(2, meterRegistry.counter("auth.gateway.authorize", "result", "denied", "cache", "miss").count());
+    }
+
+    @Test
+    @DisplayName("Ön kontrolde reddedilen token'ın kararı önbelleğe alınmaz, imzası geçersiz token'ınki alınır")
+    void skipsCachingPrecheckRejectionsTest() {
+        when(jwtUtil.verify(TOKEN, ACCESS_TOKEN_TYPE)).thenReturn(new TokenVerification(TokenVerification.Status.MALFORMED, null));
+
+        service.authorize(TOKEN);
+        service.authorize(TOKEN);
+
+        verify(jwtUtil, times(2)).verify(TOKEN, ACCESS_TOKEN_TYPE);
+        assertEquals(0, service.cacheSize());
+
+        var forged = "header.payload.forged";
+        when(jwtUtil.verify(forged, ACCESS_TOKEN_TYPE)).thenReturn(new TokenVerification(TokenVerification.Status.BAD_SIGNATURE, null));
+
+        assertFalse(service.authorize(forged).allowed());
+        assertFalse(service.authorize(forged).allowed());
+
+        verify(jwtUtil, times(1)).verify(forged, ACCESS_TOKEN_TYPE);
+        assertEquals(1, service.cacheSize());
+    }
+}
@@ -0,0 +1,109 @@
+package com.kalayciburak.authservice.service;
+
+import com.kalayciburak.authservice.security.token.RevocationLog;
+import com.kalayciburak.authservice.security.token.RevocationLog.Event;
+import com.kalayciburak.authservice.security.token.RevocationLog.Snapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * RevocationFeedService sınıfının bağlanan aboneye anlık görüntü veya tekrar göndermesini ve yeni olayları dağıtmasını
+ * test eden sınıftır.
+ */
+class RevocationFeedServiceTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RevocationLog revocationLog;
+    private RevocationFeedService service;
+
+    @BeforeEach
+    void setUp() {
+        revocationLog = mock(RevocationLog.class);
+        when(revocationLog.lastId()).thenReturn(RevocationLog.START_ID);
+        when(revocationLog.snapshot()).thenReturn(new Snapshot(List.of(), List.of()));
+        service = new RevocationFeedService(revocationLog, meterRegistry);
+        // Zamanlanmış okuma testlerde elle tetiklenir
+        ReflectionTestUtils.setField(service, "pollIntervalMs", 3_600_000L);
+        ReflectionTestUtils.setField(service, "heartbeatMs", 3_600_000L);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID olmadan veya günlükte olmayan bir ID ile bağlanan aboneye anlık görüntü gönderilir")
+    void sendsSnapshotOnConnectTest() {
+        service.subscribe(null);
+        service.subscribe("99-0");
+        service.subscribe("invalid");
+
+        verify(revocationLog, times(3)).snapshot();
+        assertEquals(3, meterRegistry.counter("auth.revocation.connect", "mode", "snapshot").count());
+        assertEquals(3, service.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Günlükte duran son olay ID'si ile bağlanan aboneye sadece kaçırılan olaylar tekrar edilir")
+    void replaysMissedEventsTest() {
+        long exp = System.currentTimeMillis() / 1000 + 60;
+        when(revocationLog.lastId()).thenReturn("3-0");
+        when(revocationLog.canReplayFrom("1-0")).thenReturn(true);
+        when(revocationLog.readAfter("1-0", 1000))
+                .thenReturn(List.of(Event.token("2-0", "jti-2", exp), Event.token("3-0", "jti-3", exp)));
+
+        service.subscribe("1-0");
+
+        verify(revocationLog, never()).snapshot();
+        verify(revocationLog).readAfter("1-0", 1000);
+        assertEquals(1, meterRegistry.counter("auth.revocation.connect", "mode", "replay").count());
+    }
+
+    @Test
+    @DisplayName("Yeni olaylar abonelere bir kez dağıtılır, abone yokken günlük okunmaz")
+    void dispatchesNewEventsTest() {
+        service.poll();
+        verify(revocationLog, never()).readAfter(anyString(), anyInt());
+
+        service.subscribe(null);
+        long exp = System.currentTimeMillis() / 1000 + 60;
+        when(revocationLog.readAfter(RevocationLog.START_ID, 1000))
+                .thenReturn(List.of(Event.token("1-0", "jti-1", exp), Event.token("2-0", "jti-2", exp)));
+        when(revocationLog.readAfter("2-0", 1000)).thenReturn(List.of());
+
+        service.poll();
+        service.poll();
+
+        assertEquals(2, meterRegistry.counter("auth.revocation.events").count());
+    }
+
+    @Test
+    @DisplayName("Abone bağlanırken dağıtım ilerlediyse aradaki olaylar gönderilip abone sonra eklenir")
+    void catchesUpWithDispatchedEventsTest() {
+        service.subscribe(null);
+        long exp = System.currentTimeMillis() / 1000 + 60;
+        when(revocationLog.readAfter(RevocationLog.START_ID, 1000))
+                .thenReturn(List.of(Event.token("1-0", "jti-1", exp), Event.token("2-0", "jti-2", exp)));
+        service.poll();
+
+        // İkinci abonenin anlık görüntüsü, dağıtım imlecinin gerisindeki bir ID'de alınmış olsun
+        when(revocationLog.lastId()).thenReturn("1-0");
+        when(revocationLog.readAfter("1-0", 1000)).thenReturn(List.of(Event.token("2-0", "jti-2", exp)));
+        service.subscribe(null);
+
+        verify(revocationLog).readAfter("1-0", 1000);
+        assertEquals(2, service.subscriberCount());
+    }
+}
@@ -0,0 +1,100 @@
+package com.kalayciburak.authservice.service;
+
+import com.kalayciburak.authservice.model.dto.response.TokenIntrospectionResponse;
+import com.kalayciburak.authservice.security.token.JwtUtil;
+import com.kalayciburak.authservice.security.token.TokenBlacklistService;
+import com.kalayciburak.authservice.security.token.TokenVerification;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.kalayciburak.authservice.constant.JwtConstants.ACCESS_TOKEN_TYPE;
+import static com.kalayciburak.authservice.constant.JwtConstants.TOKEN_TYPE_CLAIM;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TokenIntrospectionService sınıfının toplu doğrulama, sıra koruma ve tek seferlik kara liste sorgusunu test eden
+ * sınıftır.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TokenIntrospectionServiceTest {
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    private TokenIntrospectionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TokenIntrospectionService(jwtUtil, tokenBlacklistService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "threads", 4);
+        service.init();
+        when(jwtUtil.getAuthorities(any(Claims.class))).thenReturn(List.of(new SimpleGrantedAuthority("ROLE_FREE")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Sonuçlar istek sırasıyla döner, kara liste tek sorguda kontrol edilir")
+    void introspectsInOrderWithSingleBlacklistQueryTest() {
+        var tokens = IntStream.range(0, 10).mapToObj(i -> "token-" + i).toList();
+        when(jwtUtil.verify(anyString(), eq(ACCESS_TOKEN_TYPE))).thenAnswer(invocation -> {
+            String token = invocation.getArgument(0);
+            int index = Integer.parseInt(token.substring("token-".length()));
+            if (index % 3 == 0) return new TokenVerification(TokenVerification.Status.EXPIRED, null);
+
+            var claims = Jwts.claims()
+                    .subject("user" + index + "@test.com")
+                    .expiration(new Date(2_000_000_000_000L))
+                    .add(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                    .build();
+            return new TokenVerification(TokenVerification.Status.VALID, claims);
+        });
+        when(tokenBlacklistService.areTokensBlacklisted(anyList())).thenAnswer(invocation -> {
+            List<String> valid = invocation.getArgument(0);
+            var blacklisted = new boolean[valid.size()];
+            for (int i = 0; i < blacklisted.length; i++) blacklisted[i] = valid.get(i).equals("token-5");
+            return blacklisted;
+        });
+
+        var results = service.introspect(tokens).results();
+
+        assertEquals(10, results.size());
+        for (int i = 0; i < 10; i++) {
+            var result = results.get(i);
+            if (i % 3 == 0 || i == 5) {
+                assertSame(TokenIntrospectionResponse.INACTIVE, result);
+            } else {
+                assertTrue(result.active());
+                assertEquals("user" + i + "@test.com", result.subject());
+                assertEquals(2_000_000_000L, result.expiresAt());
+                assertEquals(List.of("ROLE_FREE"), result.roles());
+            }
+        }
+        verify(tokenBlacklistService, times(1)).areTokensBlacklisted(anyList());
+        verify(tokenBlacklistService, never()).isTokenBlacklisted(anyString());
+    }
+}
@@ -0,0 +1,150 @@
+package com.kalayciburak.authservice.service;
+
+import com.kalayciburak.authservice.advice.exception.EmailAlreadyExistsException;
+import com.kalayciburak.authservice.model.dto.request.RegisterRequest;
+import com.kalayciburak.authservice.model.entity.User;
+import com.kalayciburak.authservice.repository.UserRepository;
+import com.kalayciburak.authservice.security.audit.SecurityAuditorProvider;
+import com.kalayciburak.authservice.security.token.RevocationLog;
+import com.kalayciburak.authservice.service.helper.RegistrationPreparer;
+import com.kalayciburak.authservice.service.helper.UserCacheEvictor;
+import com.kalayciburak.authservice.service.helper.UserHelper;
+import com.kalayciburak.authservice.service.validator.UserValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Kayıt sırasında email eşsizliğinin {@code users.email} kısıtıyla sağlandığını, aynı anda gelen kayıtlarda sadece birinin
+ * başarılı olduğunu ve silinen kullanıcının email adresinin yeniden kullanılabildiğini test eden sınıftır.
+ * <p>
+ * Kayıt ve silme {@link UserService} üzerinden yapılır; parola, rol, doğrulama emaili ve iptal akışı adımları
+ * veritabanı davranışını etkilemediği için mock'lanır.
+ */
+@DataJpaTest(properties = "spring.cloud.vault.enabled=false")
+@Import({UserService.class, UserHelper.class, UserCacheEvictor.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRegistrationConcurrencyTest {
+    private static final int REGISTRATIONS = 8;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private UserValidator validator;
+
+    @MockitoBean
+    private RoleService roleService;
+
+    @MockitoBean
+    private SecurityAuditorProvider auditorProvider;
+
+    @MockitoBean
+    private EmailVerificationService verificationService;
+
+    @MockitoBean
+    private RegistrationPreparer registrationPreparer;
+
+    @MockitoBean
+    private RevocationLog revocationLog;
+
+    @BeforeEach
+    void setUp() {
+        when(registrationPreparer.validateAndEncodePassword(any())).thenReturn("{noop}Password123!");
+        when(roleService.assignDefaultRoles()).thenAnswer(invocation -> new HashSet<>());
+        when(auditorProvider.getCurrentAuditor()).thenReturn("test");
+    }
+
+    @Test
+    @DisplayName("Aynı email ile eşzamanlı kayıtlardan sadece biri başarılı olur, diğerleri EmailAlreadyExistsException alır")
+    void concurrentRegistrationsTest() throws Exception {
+        var start = new CountDownLatch(1);
+        var results = new ArrayList<Future<Boolean>>();
+        try (var executor = Executors.newFixedThreadPool(REGISTRATIONS)) {
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                // Farklı yazımlar aynı normalize edilmiş adrese düşer
+                var email = i % 2 == 0 ? "Race@Test.com" : " race@test.COM ";
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return register(email);
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (var result : results) if (result.get(30, TimeUnit.SECONDS)) succeeded++;
+            assertEquals(1, succeeded, "Aynı email ile sadece bir kayıt başarılı olmalıdır.");
+        }
+    }
+
+    @Test
+    @DisplayName("Silinen kullanıcının email adresi ile yeniden kayıt olunabilir")
+    void reRegisterAfterDeleteTest() {
+        assertTrue(register("deleted@test.com"));
+        assertFalse(register("deleted@test.com"));
+
+        userService.deleteUser(findId("deleted@test.com"));
+
+        assertTrue(register("deleted@test.com"), "Silinen kullanıcının email adresi serbest kalmalıdır.");
+    }
+
+    @Test
+    @DisplayName("Email'i serbest bırakılmadan silinmiş eski kayıtların adresi geçişle serbest kalır")
+    void releaseDeletedEmailsTest() {
+        assertTrue(register("legacy@test.com"));
+        var id = findId("legacy@test.com");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> userRepository.softDeleteById("test", id));
+        assertFalse(register("legacy@test.com"));
+
+        assertEquals(1, userRepository.releaseDeletedEmails());
+        assertEquals(0, userRepository.releaseDeletedEmails(), "Geçiş tekrar çalıştırıldığında etkisiz olmalıdır.");
+        assertTrue(register("legacy@test.com"), "Eski silinmiş kullanıcının email adresi serbest kalmalıdır.");
+    }
+
+    private Long findId(String email) {
+        return userRepository.findByEmail(email).map(User::getId).orElseThrow();
+    }
+
+    /**
+     * Kullanıcıyı {@link UserService#registerUser(RegisterRequest)} ile kaydeder.
+     *
+     * @return Kaydedildiyse {@code true}, email zaten kullanılıyorsa {@code false}
+     */
+    private boolean register(String email) {
+        try {
+            userService.registerUser(new RegisterRequest("Race", "User", email, "Password123!"));
+            return true;
+        } catch (EmailAlreadyExistsException e) {
+            return false;
+        }
+    }
+}
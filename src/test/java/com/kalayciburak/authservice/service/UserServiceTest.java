@@ -1,6 +1,7 @@
 package com.kalayciburak.authservice.service;
 
 import com.kalayciburak.authservice.advice.exception.AdminCannotBeDeletedException;
+import com.kalayciburak.authservice.advice.exception.EmailAlreadyExistsException;
 import com.kalayciburak.authservice.advice.exception.UserNotFoundException;
 import com.kalayciburak.authservice.model.dto.request.ChangePasswordRequest;
 import com.kalayciburak.authservice.model.dto.request.RegisterRequest;
@@ -10,6 +11,9 @@ import com.kalayciburak.authservice.model.entity.User;
 import com.kalayciburak.authservice.model.enums.RoleType;
 import com.kalayciburak.authservice.repository.UserRepository;
 import com.kalayciburak.authservice.security.audit.SecurityAuditorProvider;
+import com.kalayciburak.authservice.security.token.RevocationLog;
+import com.kalayciburak.authservice.service.helper.RegistrationPreparer;
+import com.kalayciburak.authservice.service.helper.UserCacheEvictor;
 import com.kalayciburak.authservice.service.helper.UserHelper;
 import com.kalayciburak.authservice.service.validator.UserValidator;
 import com.kalayciburak.commonpackage.core.response.success.SuccessResponse;
@@ -18,18 +22,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
 
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,12 +52,21 @@ class UserServiceTest {
     @Mock
     private UserRepository repository;
 
+    @Mock
+    private UserCacheEvictor cacheEvictor;
+
     @Mock
     private SecurityAuditorProvider auditorProvider;
 
     @Mock
     private EmailVerificationService emailVerificationService;
 
+    @Mock
+    private RegistrationPreparer registrationPreparer;
+
+    @Mock
+    private RevocationLog revocationLog;
+
     @InjectMocks
     private UserService userService;
 
@@ -167,9 +182,10 @@ class UserServiceTest {
         var newUser = createUser(1L, "Test", "User", "test@test.com", "encodedPassword", new HashSet<>());
         Set<Role> roles = new HashSet<>();
 
+        when(registrationPreparer.validateAndEncodePassword(request)).thenReturn("encodedPassword");
         when(roleService.assignDefaultRoles()).thenReturn(roles);
-        when(helper.buildUser(request, roles)).thenReturn(newUser);
-        when(repository.save(any(User.class))).thenReturn(newUser);
+        when(helper.buildUser(request, roles, "encodedPassword")).thenReturn(newUser);
+        when(repository.saveAndFlush(any(User.class))).thenReturn(newUser);
         doNothing().when(emailVerificationService).createVerificationToken(any(User.class));
 
         // Act
@@ -184,14 +200,52 @@ class UserServiceTest {
         assertTrue(response.isSuccess(), "Kayıt işlemi başarılı olmalıdır.");
 
         // Verify
-        verify(validator).validateUniqueEmail(request.email());
-        verify(validator).validatePasswordDataBreachStatus(request.password());
+        verify(registrationPreparer).validateAndEncodePassword(request);
         verify(roleService).assignDefaultRoles();
-        verify(helper).buildUser(request, roles);
-        verify(repository).save(any(User.class));
+        verify(helper).buildUser(request, roles, "encodedPassword");
+        verify(repository).saveAndFlush(any(User.class));
+        verify(repository).existsByEmail("test@test.com");
         verify(emailVerificationService).createVerificationToken(newUser);
     }
 
+    /**
+     * Aynı email ile kayıt olma senaryosunu test eder. Eşsizlik kısıtı ihlali {@link EmailAlreadyExistsException}'a
+     * çevrilir ve doğrulama token'ı oluşturulmaz.
+     */
+    @Test
+    @DisplayName("Kullanıcı kaydı yapma testi - Email zaten kullanılıyor")
+    void registerUserDuplicateEmailTest() {
+        // Arrange
+        var request = new RegisterRequest("Test", "User", "test@test.com", "Password123!");
+        var newUser = createUser(null, "Test", "User", "test@test.com", "encodedPassword", new HashSet<>());
+        var duplicate = new DataIntegrityViolationException("Duplicate entry",
+                new SQLIntegrityConstraintViolationException("Duplicate entry 'test@test.com' for key 'users.email'", "23000", 1062));
+
+        when(registrationPreparer.validateAndEncodePassword(request)).thenReturn("encodedPassword");
+        when(helper.buildUser(eq(request), any(), eq("encodedPassword"))).thenReturn(newUser);
+        when(repository.saveAndFlush(newUser)).thenThrow(duplicate);
+
+        // Act & Assert
+        assertThrows(EmailAlreadyExistsException.class, () -> userService.registerUser(request));
+        verifyNoInteractions(emailVerificationService);
+    }
+
+    /**
+     * Kayıtlı bir email ile kayıt olma senaryosunu test eder. İstek, parola kontrolü ve hash'leme yapılmadan reddedilir.
+     */
+    @Test
+    @DisplayName("Kullanıcı kaydı yapma testi - Kayıtlı email hash'lenmeden reddedilir")
+    void registerUserExistingEmailSkipsHashingTest() {
+        // Arrange
+        var request = new RegisterRequest("Test", "User", " Test@Test.com ", "Password123!");
+        when(repository.existsByEmail("test@test.com")).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(EmailAlreadyExistsException.class, () -> userService.registerUser(request));
+        verifyNoInteractions(registrationPreparer, emailVerificationService);
+        verify(repository, never()).saveAndFlush(any(User.class));
+    }
+
     /**
      * Kullanıcı rollerini güncelleme senaryosunu test eder. Kullanıcı bulunup roller güncellendiğinde, doğru yanıtın döndüğü
      * kontrol edilir.
@@ -238,21 +292,21 @@ class UserServiceTest {
         var currentAuditor = "admin";
 
         when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(roleService.hasAdminRole(user)).thenReturn(false);
         when(auditorProvider.getCurrentAuditor()).thenReturn(currentAuditor);
         doNothing().when(repository).softDeleteById(currentAuditor, userId);
 
-        try (MockedStatic<UserHelper> mockedUserHelper = mockStatic(UserHelper.class)) {
-            mockedUserHelper.when(() -> UserHelper.hasAdminRole(any(User.class))).thenReturn(false);
-
-            // Act
-            userService.deleteUser(userId);
+        // Act
+        userService.deleteUser(userId);
 
-            // Verify
-            verify(repository).findById(userId);
-            mockedUserHelper.verify(() -> UserHelper.hasAdminRole(any(User.class)));
-            verify(auditorProvider).getCurrentAuditor();
-            verify(repository).softDeleteById(currentAuditor, userId);
-        }
+        // Verify
+        verify(repository).findById(userId);
+        verify(roleService).hasAdminRole(user);
+        verify(auditorProvider).getCurrentAuditor();
+        verify(repository).releaseEmail(userId);
+        verify(repository).softDeleteById(currentAuditor, userId);
+        verify(cacheEvictor).evict(userId, "test@test.com");
+        verify(revocationLog).revokeUser("test@test.com");
     }
 
     /**
@@ -268,16 +322,13 @@ class UserServiceTest {
                 Set.of(createRole(2L, RoleType.ROLE_ADMIN)));
 
         when(repository.findById(userId)).thenReturn(Optional.of(adminUser));
+        when(roleService.hasAdminRole(adminUser)).thenReturn(true);
 
-        try (MockedStatic<UserHelper> mockedUserHelper = mockStatic(UserHelper.class)) {
-            mockedUserHelper.when(() -> UserHelper.hasAdminRole(any(User.class))).thenReturn(true);
-
-            // Act & Assert
-            assertThrows(AdminCannotBeDeletedException.class, () -> userService.deleteUser(userId),
-                    "Admin kullanıcısı silinmeye çalışıldığında AdminCannotBeDeletedException fırlatılmalıdır.");
+        // Act & Assert
+        assertThrows(AdminCannotBeDeletedException.class, () -> userService.deleteUser(userId),
+                "Admin kullanıcısı silinmeye çalışıldığında AdminCannotBeDeletedException fırlatılmalıdır.");
 
-            mockedUserHelper.verify(() -> UserHelper.hasAdminRole(any(User.class)));
-        }
+        verify(roleService).hasAdminRole(adminUser);
 
         // Verify repository çağrıları
         verify(repository).findById(userId);
@@ -0,0 +1,91 @@
+package com.kalayciburak.authservice.service;
+
+import com.kalayciburak.authservice.repository.VerificationTokenRepository;
+import com.kalayciburak.authservice.service.helper.RedisLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * VerificationTokenCleaner sınıfının parçalı silme, metrik ve dağıtık kilit davranışını test eden sınıftır.
+ */
+@ExtendWith(MockitoExtension.class)
+class VerificationTokenCleanerTest {
+    @Mock
+    private VerificationTokenRepository tokenRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RedisLock lock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerificationTokenCleaner cleaner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cleaner = new VerificationTokenCleaner(tokenRepository, new TransactionTemplate(transactionManager), lock, meterRegistry);
+        ReflectionTestUtils.setField(cleaner, "batchSize", 2);
+        ReflectionTestUtils.setField(cleaner, "pauseMs", 0L);
+        ReflectionTestUtils.setField(cleaner, "lockTtlMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("Süresi dolmuş token'lar parçalar halinde silinir ve gerçek sayı metriklere yansır")
+    void deletesInChunksTest() {
+        when(lock.tryAcquire(eq("verification-token-cleanup"), any(Duration.class))).thenReturn(Optional.of("owner"));
+        when(tokenRepository.findExpiredIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        when(tokenRepository.deleteAllByIdIn(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        cleaner.cleanupExpiredTokens();
+
+        verify(tokenRepository, times(3)).deleteAllByIdIn(anyList());
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(5.0, meterRegistry.counter("auth.verification.cleanup.deleted").count());
+        assertEquals(1, meterRegistry.timer("auth.verification.cleanup.duration").count());
+        verify(lock).release("verification-token-cleanup", "owner");
+    }
+
+    @Test
+    @DisplayName("Kilit başka bir instance'taysa temizlik yapılmaz")
+    void skipsWhenLockIsHeldTest() {
+        when(lock.tryAcquire(anyString(), any(Duration.class))).thenReturn(Optional.empty());
+
+        cleaner.cleanupExpiredTokens();
+
+        verifyNoInteractions(tokenRepository);
+        verify(lock, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Süre dolduğunda yeni parça başlatılmaz")
+    void stopsAtDeadlineTest() {
+        when(tokenRepository.findExpiredIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(tokenRepository.deleteAllByIdIn(anyList())).thenReturn(2);
+
+        int deleted = cleaner.deleteExpired(LocalDateTime.now(), System.nanoTime() - 1);
+
+        assertEquals(2, deleted);
+        verify(tokenRepository, times(1)).deleteAllByIdIn(anyList());
+    }
+}
@@ -0,0 +1,79 @@
+package com.kalayciburak.authservice.service.helper;
+
+import com.kalayciburak.authservice.model.dto.request.RegisterRequest;
+import com.kalayciburak.authservice.service.validator.UserValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Kayıt doğrulama adımlarının sıralı ve eşzamanlı çalıştırılmasındaki p50/p99 gecikmeyi karşılaştıran benchmark testidir.
+ * <p>
+ * Parola hash'i gerçek {@link BCryptPasswordEncoder} ile hesaplanır; sızıntı kontrolü HaveIBeenPwned API'sinin ağ
+ * gecikmesini modelleyen sabit bir bekleme ile taklit edilir. Varsayılan build'de çalışmaz,
+ * {@code ./mvnw test -Pbenchmark} ile çalıştırılır.
+ * </p>
+ */
+@Tag("benchmark")
+class RegistrationLatencyBenchmarkTest {
+    private static final int REGISTRATIONS = 100;
+    private static final long BREACH_CHECK_MS = 80;
+
+    @Test
+    @DisplayName("Kayıt doğrulama - Sıralı ve eşzamanlı p50/p99 gecikme")
+    void latencyTest() {
+        var sequential = measure(false);
+        var concurrent = measure(true);
+
+        System.out.printf("[register] sıralı: p50 %.1f ms, p99 %.1f ms | eşzamanlı: p50 %.1f ms, p99 %.1f ms%n",
+                percentile(sequential, 50), percentile(sequential, 99), percentile(concurrent, 50), percentile(concurrent, 99));
+
+        assertTrue(percentile(concurrent, 50) < percentile(sequential, 50), "Eşzamanlı doğrulama daha hızlı olmalıdır.");
+    }
+
+    private static double[] measure(boolean concurrent) {
+        var encoder = new BCryptPasswordEncoder();
+        var validator = new UserValidator(encoder, password -> {
+            sleep(BREACH_CHECK_MS);
+            return new CompromisedPasswordDecision(false);
+        });
+        var preparer = new RegistrationPreparer(validator, new UserHelper(encoder));
+        ReflectionTestUtils.setField(preparer, "concurrent", concurrent);
+
+        try {
+            var request = new RegisterRequest("Test", "User", "benchmark@test.com", "Password123!");
+            for (int i = 0; i < 5; i++) preparer.validateAndEncodePassword(request);
+
+            var latencies = new double[REGISTRATIONS];
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                long start = System.nanoTime();
+                preparer.validateAndEncodePassword(request);
+                latencies[i] = (System.nanoTime() - start) / 1e6;
+            }
+            Arrays.sort(latencies);
+
+            return latencies;
+        } finally {
+            preparer.shutdown();
+        }
+    }
+
+    private static double percentile(double[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1)];
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.kalayciburak.authservice.service.helper;
+
+import com.kalayciburak.authservice.advice.exception.BreachedPasswordException;
+import com.kalayciburak.authservice.model.dto.request.RegisterRequest;
+import com.kalayciburak.authservice.service.validator.UserValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RegistrationPreparer sınıfının parola kontrolü ve hash adımlarını eşzamanlı çalıştırmasını ve hata durumunda bekleyen adımları iptal
+ * etmesini test eden sınıftır.
+ */
+@ExtendWith(MockitoExtension.class)
+class RegistrationPreparerTest {
+    private final RegisterRequest request = new RegisterRequest("Test", "User", "test@test.com", "Password123!");
+
+    @Mock
+    private UserValidator validator;
+
+    @Mock
+    private UserHelper helper;
+
+    private RegistrationPreparer preparer;
+
+    @BeforeEach
+    void setUp() {
+        preparer = new RegistrationPreparer(validator, helper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        preparer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Tüm kontroller geçerse encode edilmiş parola döner")
+    void returnsEncodedPasswordTest() {
+        when(helper.encodePassword(request.password())).thenReturn("encoded");
+
+        assertEquals("encoded", preparer.validateAndEncodePassword(request));
+
+        verify(validator).validatePasswordDataBreachStatus(request.password());
+    }
+
+    @Test
+    @DisplayName("Parola sızdırılmışsa hash beklenmez ve iptal edilir")
+    void cancelsHashWhenPasswordIsBreachedTest() throws Exception {
+        var interrupted = blockingHash();
+        doThrow(new BreachedPasswordException()).when(validator).validatePasswordDataBreachStatus(request.password());
+
+        assertThrows(BreachedPasswordException.class, () -> preparer.validateAndEncodePassword(request));
+
+        assertTrue(interrupted.get(5, TimeUnit.SECONDS), "Bekleyen hash iptal edilmelidir.");
+    }
+
+    /**
+     * İptal edilene kadar bekleyen bir hash adımı tanımlar.
+     *
+     * @return Hash adımı kesildiğinde {@code true} ile tamamlanır
+     */
+    private CompletableFuture<Boolean> blockingHash() {
+        var interrupted = new CompletableFuture<Boolean>();
+        when(helper.encodePassword(request.password())).thenAnswer(invocation -> {
+            try {
+                new CountDownLatch(1).await();
+                return "encoded";
+            } catch (InterruptedException e) {
+                interrupted.complete(true);
+                throw e;
+            }
+        });
+
+        return interrupted;
+    }
+}
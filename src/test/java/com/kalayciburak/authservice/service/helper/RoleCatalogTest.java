@@ -0,0 +1,81 @@
+package com.kalayciburak.authservice.service.helper;
+
+import com.kalayciburak.authservice.model.entity.Role;
+import com.kalayciburak.authservice.model.enums.RoleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RoleCatalog sınıfının işlevselliğini test eden sınıftır. Rol kataloğunun ID ve isim ile çözümlemesi, yetki listelerinin
+ * paylaşılması ve ADMIN kontrolü doğrulanır.
+ */
+class RoleCatalogTest {
+    private RoleCatalog catalog;
+
+    /**
+     * Her test öncesinde tüm rol tiplerini içeren bir katalog oluşturulur.
+     */
+    @BeforeEach
+    void setUp() {
+        catalog = new RoleCatalog();
+        var roles = Arrays.stream(RoleType.values()).map(this::createRole).toList();
+        catalog.refresh(roles);
+    }
+
+    /**
+     * Yardımcı metot: ID'si ordinal + 1 olan bir rol oluşturur.
+     *
+     * @param roleType Rol tipi
+     * @return Oluşturulan Role nesnesi
+     */
+    private Role createRole(RoleType roleType) {
+        var role = new Role(roleType);
+        role.setId((long) roleType.ordinal() + 1);
+
+        return role;
+    }
+
+    @Test
+    @DisplayName("Rol tipi ile rol bulma testi")
+    void findByNameTest() {
+        var role = catalog.findByName(RoleType.ROLE_FREE);
+
+        assertTrue(role.isPresent(), "ROLE_FREE katalogda bulunmalıdır.");
+        assertEquals(RoleType.ROLE_FREE, role.get().getName());
+    }
+
+    @Test
+    @DisplayName("ID ile rol bulma testi - Olmayan ID'ler atlanır")
+    void findAllByIdSkipsUnknownIdsTest() {
+        var roles = catalog.findAllById(Set.of(1L, 4L, 99L));
+
+        assertEquals(2, roles.size(), "Sadece katalogda bulunan roller dönmelidir.");
+    }
+
+    @Test
+    @DisplayName("Aynı rol kümesi için aynı yetki listesi örneği döner")
+    void authoritiesOfReturnsSharedInstanceTest() {
+        var first = catalog.authoritiesOf(catalog.findAllById(Set.of(1L, 4L)));
+        var second = catalog.authoritiesOf(catalog.findAllById(Set.of(4L, 1L)));
+
+        assertSame(first, second, "Aynı rol kümesi aynı liste örneğini paylaşmalıdır.");
+        assertEquals(2, first.size());
+        assertTrue(first.stream().map(GrantedAuthority::getAuthority).anyMatch("ROLE_ADMIN"::equals));
+        assertThrows(UnsupportedOperationException.class, () -> first.add(first.get(0)),
+                "Paylaşılan yetki listesi değiştirilemez olmalıdır.");
+    }
+
+    @Test
+    @DisplayName("ADMIN rolü kontrolü testi")
+    void containsAdminTest() {
+        assertTrue(catalog.containsAdmin(catalog.findAllById(Set.of(4L))));
+        assertFalse(catalog.containsAdmin(catalog.findAllById(Set.of(1L, 2L))));
+    }
+}
@@ -0,0 +1,75 @@
+package com.kalayciburak.authservice.service.helper;
+
+import com.kalayciburak.authservice.advice.exception.InvalidVerificationTokenException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VerificationTokenSigner sınıfının imzalı doğrulama token'larını üretmesini ve doğrulamasını test eden sınıftır.
+ */
+class VerificationTokenSignerTest {
+    private static final String SECRET = "test-secret-test-secret-test-secret!";
+
+    private final VerificationTokenSigner signer = new VerificationTokenSigner(SECRET);
+    private final Instant now = Instant.now();
+
+    @Test
+    @DisplayName("Geçerli token - Kullanıcı ID'si ve nonce geri okunur")
+    void signAndVerifyTest() {
+        var nonce = signer.newNonce();
+        var token = signer.sign(42L, nonce, now.plus(1, ChronoUnit.HOURS));
+
+        var claims = signer.verify(token, now);
+
+        assertTrue(VerificationTokenSigner.isSigned(token));
+        assertEquals(42L, claims.userId());
+        assertEquals(nonce, claims.nonce());
+    }
+
+    @Test
+    @DisplayName("Değiştirilmiş token reddedilir")
+    void rejectsTamperedTokenTest() {
+        var token = signer.sign(42L, 7L, now.plus(1, ChronoUnit.HOURS));
+        var tampered = token.replaceFirst("^v1\\.42\\.", "v1.43.");
+
+        var exception = assertThrows(InvalidVerificationTokenException.class, () -> signer.verify(tampered, now));
+        assertEquals("Geçersiz doğrulama kodu.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Farklı anahtarla imzalanmış token reddedilir")
+    void rejectsTokenSignedWithAnotherKeyTest() {
+        var otherSigner = new VerificationTokenSigner("another-secret-another-secret-12345");
+        var token = otherSigner.sign(42L, 7L, now.plus(1, ChronoUnit.HOURS));
+
+        assertThrows(InvalidVerificationTokenException.class, () -> signer.verify(token, now));
+    }
+
+    @Test
+    @DisplayName("Süresi dolmuş token reddedilir")
+    void rejectsExpiredTokenTest() {
+        var token = signer.sign(42L, 7L, now.minus(1, ChronoUnit.MINUTES));
+
+        var exception = assertThrows(InvalidVerificationTokenException.class, () -> signer.verify(token, now));
+        assertEquals("Doğrulama kodunun süresi dolmuş.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Bozuk biçimli token reddedilir")
+    void rejectsMalformedTokenTest() {
+        assertThrows(InvalidVerificationTokenException.class, () -> signer.verify("v1.abc", now));
+        assertThrows(InvalidVerificationTokenException.class, () -> signer.verify("v1.1.2.3.%%%", now));
+        assertFalse(VerificationTokenSigner.isSigned("6f1c0c5e-3b7d-4a55-9a51-0f0b2f4d8e21"));
+    }
+
+    @Test
+    @DisplayName("Kısa imza anahtarı kabul edilmez")
+    void rejectsShortSecretTest() {
+        assertThrows(IllegalStateException.class, () -> new VerificationTokenSigner("short"));
+    }
+}
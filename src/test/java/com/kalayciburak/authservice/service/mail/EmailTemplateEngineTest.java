@@ -0,0 +1,63 @@
+package com.kalayciburak.authservice.service.mail;
+
+import com.kalayciburak.authservice.model.enums.EmailType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EmailTemplateEngine sınıfının classpath'teki şablonları render etmesini, HTML kaçışını ve dil seçimini test eden sınıftır.
+ */
+class EmailTemplateEngineTest {
+    private EmailTemplateEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = EmailTemplateEngine.load(getClass().getClassLoader(), "tr", List.of("en"));
+    }
+
+    @Test
+    @DisplayName("Doğrulama emaili - Konu, HTML ve düz metin parçaları render edilir")
+    void renderVerificationEmailTest() {
+        var email = engine.render(EmailType.VERIFICATION, "tr", "Test User", "http://localhost:3000/verify-email?token=abc");
+
+        assertEquals("Email Adresinizi Doğrulayın", email.subject());
+        assertTrue(email.html().contains("<h2>Merhaba Test User,</h2>"));
+        assertTrue(email.html().contains("href=\"http://localhost:3000/verify-email?token=abc\""));
+        assertTrue(email.text().contains("http://localhost:3000/verify-email?token=abc"));
+        assertFalse(email.text().contains("<"), "Düz metin parçası HTML içermemelidir.");
+        assertFalse(email.html().contains("{{"), "Tüm yer tutucular doldurulmalıdır.");
+    }
+
+    @Test
+    @DisplayName("Parametreler HTML gövdede kaçışlı, düz metinde olduğu gibi yazılır")
+    void escapesHtmlParametersTest() {
+        var email = engine.render(EmailType.WELCOME, "tr", "<script>alert('x')</script> & \"Ali\"");
+
+        assertTrue(email.html().contains("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; &quot;Ali&quot;"));
+        assertFalse(email.html().contains("<script>"));
+        assertTrue(email.text().contains("<script>alert('x')</script> & \"Ali\""));
+    }
+
+    @Test
+    @DisplayName("Dil seçimi - Bölge etiketi dile, desteklenmeyen dil varsayılan dile düşer")
+    void localeFallbackTest() {
+        assertEquals("Welcome!", engine.render(EmailType.WELCOME, "en", "Test").subject());
+        assertEquals("Welcome!", engine.render(EmailType.WELCOME, "en-US", "Test").subject());
+        assertEquals("Hoş Geldiniz!", engine.render(EmailType.WELCOME, "fr", "Test").subject());
+        assertEquals("Hoş Geldiniz!", engine.render(EmailType.WELCOME, null, "Test").subject());
+    }
+
+    @Test
+    @DisplayName("Tanımsız şablon parametresi ayrıştırma sırasında reddedilir")
+    void rejectsUnknownParameterTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledTemplate.compile("Merhaba {{unknown}}", List.of("name"), true));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledTemplate.compile("Merhaba {{name", List.of("name"), true));
+    }
+}
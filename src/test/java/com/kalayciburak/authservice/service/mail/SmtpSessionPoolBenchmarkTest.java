@@ -0,0 +1,61 @@
+package com.kalayciburak.authservice.service.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mesaj başına yeni SMTP bağlantısı açan {@link JavaMailSenderImpl} ile oturumları yeniden kullanan
+ * {@link SmtpSessionPool}'un saniyedeki mesaj sayısını karşılaştıran benchmark testidir.
+ * <p>
+ * Uygulama içinde çalışan SMTP sunucusunda TLS ve kimlik doğrulama olmadığı için fark gerçek bir sunucuya göre daha küçük
+ * çıkar. Varsayılan build'de çalışmaz, {@code ./mvnw test -Pbenchmark} ile çalıştırılır.
+ * </p>
+ */
+@Tag("benchmark")
+class SmtpSessionPoolBenchmarkTest {
+    private static final int MESSAGES = 500;
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    @DisplayName("Oturum havuzu - Mesaj başına bağlantıya göre saniyedeki mesaj sayısı")
+    void throughputTest() throws Exception {
+        var mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        try (var pool = new SmtpSessionPool(Session.getInstance(new Properties()), "smtp", "localhost",
+                ServerSetupTest.SMTP.getPort(), null, null, 1, 60_000, 0)) {
+            // Isınma
+            pool.send(SmtpSessionPoolTest.createMessages(pool, 50));
+
+            var perConnection = SmtpSessionPoolTest.createMessages(pool, MESSAGES);
+            long start = System.nanoTime();
+            for (var message : perConnection) mailSender.send(message);
+            var perConnectionRate = MESSAGES / ((System.nanoTime() - start) / 1e9);
+
+            var pooled = SmtpSessionPoolTest.createMessages(pool, MESSAGES);
+            start = System.nanoTime();
+            var failures = pool.send(pooled);
+            var pooledRate = MESSAGES / ((System.nanoTime() - start) / 1e9);
+
+            System.out.printf("[smtp] mesaj başına bağlantı: %.0f mesaj/sn | oturum havuzu: %.0f mesaj/sn%n",
+                    perConnectionRate, pooledRate);
+
+            assertTrue(failures.isEmpty());
+            assertTrue(greenMail.waitForIncomingEmail(10_000, 2 * MESSAGES + 50));
+            assertTrue(pooledRate > perConnectionRate, "Oturum havuzu mesaj başına bağlantıdan hızlı olmalıdır.");
+        }
+    }
+}
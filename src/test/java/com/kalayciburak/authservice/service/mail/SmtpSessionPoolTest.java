@@ -0,0 +1,106 @@
+package com.kalayciburak.authservice.service.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SmtpSessionPool sınıfını uygulama içinde çalışan bir SMTP sunucusuna (GreenMail) karşı test eden sınıftır. Batch
+ * gönderimi, kopan bağlantıdan sonra yeniden bağlanma ve hız sınırı doğrulanır.
+ */
+class SmtpSessionPoolTest {
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private SmtpSessionPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) pool.close();
+    }
+
+    private SmtpSessionPool createPool(double maxMessagesPerSecond) {
+        return new SmtpSessionPool(Session.getInstance(new Properties()), "smtp", "localhost",
+                ServerSetupTest.SMTP.getPort(), null, null, 1, 60_000, maxMessagesPerSecond);
+    }
+
+    static List<MimeMessage> createMessages(SmtpSessionPool pool, int count) throws MessagingException {
+        var messages = new ArrayList<MimeMessage>(count);
+        for (int i = 0; i < count; i++) {
+            var message = pool.createMimeMessage();
+            message.setFrom(new InternetAddress("noreply@test.com"));
+            message.setRecipient(Message.RecipientType.TO, new InternetAddress("user" + i + "@test.com"));
+            message.setSubject("Test " + i);
+            message.setText("İçerik " + i, "UTF-8");
+            messages.add(message);
+        }
+
+        return messages;
+    }
+
+    @Test
+    @DisplayName("Batch gönderimi - Tüm mesajlar tek oturum üzerinden iletilir")
+    void sendBatchTest() throws Exception {
+        pool = createPool(0);
+
+        var failures = pool.send(createMessages(pool, 20));
+
+        assertTrue(failures.isEmpty(), "Hiçbir gönderim başarısız olmamalıdır.");
+        assertTrue(greenMail.waitForIncomingEmail(5_000, 20));
+    }
+
+    @Test
+    @DisplayName("Sunucu yeniden başlatıldığında kopan oturum atılır ve yeniden bağlanılır")
+    void reconnectsAfterServerRestartTest() throws Exception {
+        pool = createPool(0);
+        assertTrue(pool.send(createMessages(pool, 1)).isEmpty());
+
+        greenMail.reset();
+        var failures = pool.send(createMessages(pool, 3));
+
+        assertTrue(failures.isEmpty(), "Yeniden bağlanıldıktan sonra gönderim başarılı olmalıdır.");
+        assertTrue(greenMail.waitForIncomingEmail(5_000, 3));
+    }
+
+    @Test
+    @DisplayName("Sunucuya ulaşılamazsa tüm mesajlar başarısız olarak döner")
+    void unreachableServerFailsAllMessagesTest() throws Exception {
+        greenMail.stop();
+        pool = createPool(0);
+
+        var failures = pool.send(createMessages(pool, 3));
+
+        assertEquals(3, failures.size());
+        assertEquals(List.of(0, 1, 2), failures.stream().map(SmtpSessionPool.SendFailure::index).toList());
+        greenMail.start();
+    }
+
+    @Test
+    @DisplayName("Hız sınırı - Saniyedeki mesaj sayısı sınırı aşılmaz")
+    void rateLimitTest() throws Exception {
+        pool = createPool(50);
+        var messages = createMessages(pool, 11);
+
+        long start = System.nanoTime();
+        pool.send(messages);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // 50 mesaj/sn -> mesajlar arası 20 ms; 11 mesaj en az 10 aralık bekler
+        assertTrue(elapsedMs >= 190, "11 mesaj en az ~200 ms sürmelidir, süre: " + elapsedMs + " ms");
+    }
+}
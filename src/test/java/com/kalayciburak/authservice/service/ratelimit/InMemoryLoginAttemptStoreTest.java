@@ -0,0 +1,85 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InMemoryLoginAttemptStore sınıfının üstel bekleme, kilitleme ve kayan pencere davranışını sahte bir saat ile test eden
+ * sınıftır.
+ */
+class InMemoryLoginAttemptStoreTest {
+    private static final FailurePolicy POLICY = new FailurePolicy(2, 1_000, 4_000, 6, 60_000, 10_000);
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(now::get);
+
+    @Test
+    @DisplayName("Ücretsiz denemelerden sonra bekleme süresi katlanarak artar, eşikte anahtar kilitlenir")
+    void backoffAndLockoutTest() {
+        assertEquals(0, store.recordFailure("key", POLICY));
+        assertEquals(0, store.recordFailure("key", POLICY));
+        assertEquals(0, store.blockedForMs("key"));
+
+        assertEquals(1_000, store.recordFailure("key", POLICY));
+        assertEquals(2_000, store.recordFailure("key", POLICY));
+        assertEquals(4_000, store.recordFailure("key", POLICY), "Bekleme süresi en fazla maxBackoffMs olmalıdır.");
+        assertEquals(4_000, store.blockedForMs("key"));
+
+        assertEquals(60_000, store.recordFailure("key", POLICY));
+        now.addAndGet(10_000);
+        assertEquals(50_000, store.blockedForMs("key"));
+    }
+
+    @Test
+    @DisplayName("Pencere kaydıkça eski başarısızlıklar sayılmaz")
+    void windowSlidesTest() {
+        for (int i = 0; i < 3; i++) store.recordFailure("key", POLICY);
+
+        // Önceki pencerenin yarısı geçtiğinde eski 3 başarısızlık yaklaşık 2 olarak sayılır
+        now.addAndGet(15_000);
+        assertEquals(1_000, store.recordFailure("key", POLICY));
+
+        now.addAndGet(20_000);
+        assertEquals(0, store.recordFailure("key", POLICY));
+    }
+
+    @Test
+    @DisplayName("Sıfırlanan ve süresi dolan anahtarlar serbest kalır")
+    void resetAndPurgeTest() {
+        for (int i = 0; i < 4; i++) store.recordFailure("a", POLICY);
+        store.recordFailure("b", POLICY);
+
+        store.reset("a");
+        assertEquals(0, store.blockedForMs("a"));
+        assertEquals(1, store.size());
+
+        now.addAndGet(20_000);
+        store.purgeExpired();
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı başarısızlıkların hiçbiri kaybolmaz")
+    void concurrentFailuresAreNotLostTest() throws InterruptedException {
+        int threads = 8, perThread = 1_000;
+        var policy = new FailurePolicy(Integer.MAX_VALUE - 1, 1, 1, threads * perThread, 60_000, 10_000);
+
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) store.recordFailure("key", policy);
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(60_000, store.blockedForMs("key"), "Kilit eşiği ancak tüm denemeler sayıldıysa aşılır.");
+    }
+}
@@ -0,0 +1,56 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * InMemoryRateLimitStore sınıfının kayan pencere davranışını sahte bir saat ile test eden sınıftır.
+ */
+class InMemoryRateLimitStoreTest {
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(now::get);
+
+    @Test
+    @DisplayName("Pencere içinde sınır kadar istek kabul edilir, fazlası reddedilir")
+    void rejectsOverLimitTest() {
+        assertEquals(0, store.tryAcquire("key", 2, WINDOW));
+        now.addAndGet(1_000);
+        assertEquals(0, store.tryAcquire("key", 2, WINDOW));
+        now.addAndGet(1_000);
+
+        // İlk istek 8 saniye sonra pencereden çıkar
+        assertEquals(8_000, store.tryAcquire("key", 2, WINDOW));
+    }
+
+    @Test
+    @DisplayName("Pencere kaydıkça eski istekler sayılmaz")
+    void windowSlidesTest() {
+        store.tryAcquire("key", 2, WINDOW);
+        now.addAndGet(5_000);
+        store.tryAcquire("key", 2, WINDOW);
+        now.addAndGet(5_000);
+
+        assertEquals(0, store.tryAcquire("key", 2, WINDOW));
+        assertEquals(5_000, store.tryAcquire("key", 2, WINDOW));
+    }
+
+    @Test
+    @DisplayName("Anahtarlar birbirinden bağımsızdır ve süresi dolanlar temizlenir")
+    void keysAreIndependentAndPurgedTest() {
+        assertEquals(0, store.tryAcquire("a", 1, WINDOW));
+        assertEquals(0, store.tryAcquire("b", 1, WINDOW));
+        assertEquals(2, store.size());
+
+        now.addAndGet(WINDOW.toMillis());
+        store.purgeExpired();
+
+        assertEquals(0, store.size());
+    }
+}
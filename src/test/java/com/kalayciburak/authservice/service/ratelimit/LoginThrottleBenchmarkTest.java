@@ -0,0 +1,84 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import com.kalayciburak.authservice.advice.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tek bir hesaba hızlı şifre denemesi yapılan bir saldırıda, {@link LoginThrottle} ile ve olmadan harcanan CPU süresini ve
+ * yapılan BCrypt karşılaştırma sayısını ölçen benchmark testidir.
+ * <p>
+ * Giriş akışı, bekleme kontrolü + BCrypt karşılaştırması + başarısızlık kaydı olarak modellenir; veritabanı sorgusu
+ * ölçüme dahil değildir. Varsayılan build'de çalışmaz, {@code ./mvnw test -Pbenchmark} ile çalıştırılır.
+ * </p>
+ */
+@Tag("benchmark")
+class LoginThrottleBenchmarkTest {
+    private static final int ATTEMPTS = 100;
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final String hash = passwordEncoder.encode("CorrectPass123!");
+
+    @Test
+    @DisplayName("Saldırı deseni - Sınırlama ile ve sınırlama olmadan CPU süresi")
+    void attackCpuTest() {
+        var threadMXBean = ManagementFactory.getThreadMXBean();
+
+        // Isınma
+        for (int i = 0; i < 5; i++) passwordEncoder.matches("warmup", hash);
+
+        long start = threadMXBean.getCurrentThreadCpuTime();
+        int unthrottledHashes = attack(null);
+        long unthrottledCpu = threadMXBean.getCurrentThreadCpuTime() - start;
+
+        start = threadMXBean.getCurrentThreadCpuTime();
+        int throttledHashes = attack(newThrottle());
+        long throttledCpu = threadMXBean.getCurrentThreadCpuTime() - start;
+
+        System.out.printf("[login] sınırlama yok: %d hash, %.0f ms CPU | sınırlama: %d hash, %.0f ms CPU%n",
+                unthrottledHashes, unthrottledCpu / 1e6, throttledHashes, throttledCpu / 1e6);
+
+        assertTrue(throttledHashes < unthrottledHashes / 10, "Sınırlama hash karşılaştırmalarının çoğunu engellemelidir.");
+        assertTrue(throttledCpu < unthrottledCpu / 5, "Sınırlama CPU süresini belirgin şekilde azaltmalıdır.");
+    }
+
+    private int attack(LoginThrottle throttle) {
+        int hashes = 0;
+        for (int i = 0; i < ATTEMPTS; i++) {
+            try {
+                if (throttle != null) throttle.check("victim@test.com", "203.0.113.7");
+                hashes++;
+                if (!passwordEncoder.matches("guess-" + i, hash) && throttle != null)
+                    throttle.recordFailure("victim@test.com", "203.0.113.7");
+            } catch (TooManyRequestsException ignored) {
+                // Reddedilen istek veritabanına ve hash karşılaştırmasına ulaşmaz
+            }
+        }
+
+        return hashes;
+    }
+
+    private static LoginThrottle newThrottle() {
+        var throttle = new LoginThrottle(new InMemoryLoginAttemptStore(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(throttle, "enabled", true);
+        ReflectionTestUtils.setField(throttle, "windowMs", 900_000L);
+        ReflectionTestUtils.setField(throttle, "baseBackoffMs", 1_000L);
+        ReflectionTestUtils.setField(throttle, "maxBackoffMs", 60_000L);
+        ReflectionTestUtils.setField(throttle, "lockoutMs", 900_000L);
+        ReflectionTestUtils.setField(throttle, "accountFreeAttempts", 3);
+        ReflectionTestUtils.setField(throttle, "accountLockoutThreshold", 10);
+        ReflectionTestUtils.setField(throttle, "ipFreeAttempts", 20);
+        ReflectionTestUtils.setField(throttle, "ipLockoutThreshold", 100);
+        throttle.init();
+
+        return throttle;
+    }
+}
@@ -0,0 +1,84 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import com.kalayciburak.authservice.advice.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoginThrottle sınıfının hesap/IP bazında bekleme, sıfırlama ve metrik davranışını test eden sınıftır.
+ */
+class LoginThrottleTest {
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new LoginThrottle(new InMemoryLoginAttemptStore(now::get), meterRegistry);
+        ReflectionTestUtils.setField(throttle, "enabled", true);
+        ReflectionTestUtils.setField(throttle, "windowMs", 900_000L);
+        ReflectionTestUtils.setField(throttle, "baseBackoffMs", 1_000L);
+        ReflectionTestUtils.setField(throttle, "maxBackoffMs", 60_000L);
+        ReflectionTestUtils.setField(throttle, "lockoutMs", 900_000L);
+        ReflectionTestUtils.setField(throttle, "accountFreeAttempts", 3);
+        ReflectionTestUtils.setField(throttle, "accountLockoutThreshold", 10);
+        ReflectionTestUtils.setField(throttle, "ipFreeAttempts", 5);
+        ReflectionTestUtils.setField(throttle, "ipLockoutThreshold", 100);
+        throttle.init();
+    }
+
+    @Test
+    @DisplayName("Ücretsiz denemeler aşıldığında hesap Retry-After ile reddedilir")
+    void throttlesAccountTest() {
+        for (int i = 0; i < 4; i++) {
+            throttle.check("test@test.com", "10.0.0." + i);
+            throttle.recordFailure("TEST@test.com", "10.0.0." + i);
+        }
+
+        var exception = assertThrows(TooManyRequestsException.class, () -> throttle.check("test@test.com", "10.0.0.9"));
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(4.0, meterRegistry.counter("auth.login.failures").count());
+        assertEquals(1.0, meterRegistry.counter("auth.login.throttled", "scope", "account").count());
+
+        now.addAndGet(1_000);
+        assertDoesNotThrow(() -> throttle.check("test@test.com", "10.0.0.9"));
+    }
+
+    @Test
+    @DisplayName("Aynı IP'den farklı hesaplara yapılan denemeler IP bazında sınırlanır")
+    void throttlesIpAcrossAccountsTest() {
+        ReflectionTestUtils.setField(throttle, "ipEnabled", true);
+        for (int i = 0; i < 6; i++) throttle.recordFailure("user" + i + "@test.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.check("other@test.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> throttle.check("other@test.com", "10.0.0.2"));
+        assertEquals(1.0, meterRegistry.counter("auth.login.throttled", "scope", "ip").count());
+    }
+
+    @Test
+    @DisplayName("IP anahtarı kapalıyken aynı proxy arkasındaki iki istemci ayrı ayrı sınırlanır")
+    void clientsBehindOneProxyThrottledSeparatelyTest() {
+        for (int i = 0; i < 150; i++) throttle.recordFailure("attacker@test.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.check("attacker@test.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> throttle.check("user@test.com", "10.0.0.1"));
+        assertEquals(0.0, meterRegistry.counter("auth.login.throttled", "scope", "ip").count());
+    }
+
+    @Test
+    @DisplayName("Başarılı giriş hesap sayacını sıfırlar")
+    void successResetsAccountTest() {
+        for (int i = 0; i < 3; i++) throttle.recordFailure("test@test.com", "10.0.0.1");
+        throttle.recordSuccess("test@test.com");
+        throttle.recordFailure("test@test.com", "10.0.0.1");
+
+        assertDoesNotThrow(() -> throttle.check("test@test.com", "10.0.0.2"));
+    }
+}
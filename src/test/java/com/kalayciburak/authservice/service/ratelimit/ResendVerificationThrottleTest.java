@@ -0,0 +1,67 @@
+package com.kalayciburak.authservice.service.ratelimit;
+
+import com.kalayciburak.authservice.advice.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResendVerificationThrottle sınıfının bekleme süresi birleştirmesini ve email/IP sınırlarını test eden sınıftır.
+ */
+class ResendVerificationThrottleTest {
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private ResendVerificationThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new ResendVerificationThrottle(new InMemoryRateLimitStore(now::get));
+        ReflectionTestUtils.setField(throttle, "cooldownMs", 60_000L);
+        ReflectionTestUtils.setField(throttle, "emailLimit", 2);
+        ReflectionTestUtils.setField(throttle, "emailWindowMs", 3_600_000L);
+        ReflectionTestUtils.setField(throttle, "ipLimit", 3);
+        ReflectionTestUtils.setField(throttle, "ipWindowMs", 3_600_000L);
+    }
+
+    @Test
+    @DisplayName("Bekleme süresi içindeki tekrar isteği birleştirilir")
+    void coalescesWithinCooldownTest() {
+        assertTrue(throttle.acquire("test@test.com", "10.0.0.1"));
+        assertFalse(throttle.acquire("TEST@test.com", "10.0.0.1"), "Aynı email (büyük/küçük harf farkı) birleştirilmelidir.");
+        assertFalse(throttle.acquire(" test@test.com ", "10.0.0.1"), "Aynı email (baştaki/sondaki boşluk) birleştirilmelidir.");
+    }
+
+    @Test
+    @DisplayName("Email başına sınır aşıldığında Retry-After ile reddedilir")
+    void rejectsOverEmailLimitTest() {
+        assertTrue(throttle.acquire("test@test.com", "10.0.0.1"));
+        now.addAndGet(61_000);
+        assertTrue(throttle.acquire("test@test.com", "10.0.0.2"));
+        now.addAndGet(61_000);
+
+        var exception = assertThrows(TooManyRequestsException.class, () -> throttle.acquire("test@test.com", "10.0.0.3"));
+        assertEquals(3_600 - 122, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("IP başına sınır farklı email'ler için de uygulanır")
+    void rejectsOverIpLimitTest() {
+        ReflectionTestUtils.setField(throttle, "ipEnabled", true);
+        assertTrue(throttle.acquire("a@test.com", "10.0.0.1"));
+        assertTrue(throttle.acquire("b@test.com", "10.0.0.1"));
+        assertTrue(throttle.acquire("c@test.com", "10.0.0.1"));
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.acquire("d@test.com", "10.0.0.1"));
+        assertTrue(throttle.acquire("d@test.com", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("IP sınırı kapalıyken aynı proxy arkasındaki kullanıcılar birbirinin bütçesini tüketmez")
+    void usersBehindOneProxyDoNotShareBudgetTest() {
+        for (int i = 0; i < 5; i++) assertTrue(throttle.acquire("user" + i + "@test.com", "10.0.0.1"));
+    }
+}
@@ -0,0 +1,20 @@
+package com.kalayciburak.authservice.client;
+
+/**
+ * İstemcinin kullandığı claim adları, sabit değerler ve endpoint yolları.
+ * <p>
+ * Claim sabitleri servisteki {@code com.kalayciburak.authservice.constant.JwtConstants} ile aynıdır. İstemci servisin
+ * jar'ına bağımlı olmadığı için değerler burada kopya olarak tutulur; biri değiştirildiğinde diğeri de güncellenmelidir.
+ */
+public final class AuthClientConstants {
+    public static final String ROLES_CLAIM = "roles";
+    public static final String TOKEN_TYPE_CLAIM = "tokenType";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String ISSUER = "auth-service";
+    public static final String AUDIENCE = "auth-service-clients";
+    public static final String JWKS_PATH = "/.well-known/jwks.json";
+    public static final String REVOCATION_STREAM_PATH = "/api/auth/revocations/stream";
+
+    private AuthClientConstants() {
+    }
+}
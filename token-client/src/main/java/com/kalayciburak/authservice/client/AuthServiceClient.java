@@ -0,0 +1,176 @@
+package com.kalayciburak.authservice.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * auth-service token'larını tüketen servislerde yerel olarak doğrulayan istemci.
+ * <p>
+ * Public key'ler servisin JWK endpoint'inden alınıp {@code kid} ile önbellekte tutulur; doğrulama için servise istek
+ * atılmaz. İptal akışı açıldığında kara listeye alınan token'lar ve silinen kullanıcılar Server-Sent Events ile anında
+ * alınıp yerel bir {@link RevocationSet}'te tutulur, böylece iptal kontrolü de yerel olarak yapılır.
+ * <pre>{@code
+ * var client = AuthServiceClient.builder(URI.create("http://auth-service:8080"))
+ *         .revocationFeed(true)
+ *         .serviceToken(serviceAccount::accessToken)
+ *         .build();
+ * Claims claims = client.verify(token);
+ * }</pre>
+ * İstemci thread-safe'tir ve uygulama boyunca tek örnek olarak kullanılmalıdır; kapatılırken {@link #close()}
+ * çağrılmalıdır.
+ */
+public final class AuthServiceClient implements AutoCloseable {
+    private static final long PURGE_INTERVAL_SECONDS = 60;
+
+    private final TokenVerifier verifier;
+    private final RevocationSet revocations;
+    private final RevocationFeedSubscriber feed;
+    private final ScheduledExecutorService maintenance;
+
+    private AuthServiceClient(Builder builder) {
+        var mapper = new ObjectMapper();
+        var keys = new JwksKeyCache(builder.httpClient, mapper, builder.baseUri.resolve(AuthClientConstants.JWKS_PATH),
+                builder.requestTimeout, builder.jwksMinRefreshInterval);
+        keys.refresh();
+
+        this.revocations = new RevocationSet();
+        this.verifier = new TokenVerifier(keys::getKey, revocations, builder.clockSkew);
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("auth-client-maintenance").factory());
+        maintenance.scheduleWithFixedDelay(() -> revocations.purgeExpired(System.currentTimeMillis() / 1000),
+                PURGE_INTERVAL_SECONDS, PURGE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        if (builder.revocationFeed) {
+            this.feed = new RevocationFeedSubscriber(builder.httpClient, mapper,
+                    builder.baseUri.resolve(AuthClientConstants.REVOCATION_STREAM_PATH), revocations, builder.serviceToken,
+                    builder.feedIdleTimeout);
+            long idleCheckMs = Math.max(builder.feedIdleTimeout.toMillis() / 2, 1);
+            maintenance.scheduleWithFixedDelay(feed::checkIdle, idleCheckMs, idleCheckMs, TimeUnit.MILLISECONDS);
+            feed.start();
+        } else {
+            this.feed = null;
+        }
+    }
+
+    /**
+     * @param baseUri auth-service adresi, ör. {@code http://auth-service:8080}
+     * @return Builder
+     */
+    public static Builder builder(URI baseUri) {
+        return new Builder(baseUri);
+    }
+
+    /**
+     * Access token'ı doğrular: imza ({@code kid} ile seçilen key), issuer, audience, süre, token tipi ve iptal durumu.
+     *
+     * @param token JWT access token ({@code Bearer } öneki olmadan)
+     * @return İmzası doğrulanmış claim'ler
+     * @throws InvalidTokenException Token geçersizse
+     */
+    public Claims verify(String token) {
+        return verifier.verify(token);
+    }
+
+    /**
+     * @return Yerel iptal kümesi
+     */
+    public RevocationSet revocations() {
+        return revocations;
+    }
+
+    @Override
+    public void close() {
+        if (feed != null) feed.close();
+        maintenance.shutdownNow();
+    }
+
+    public static final class Builder {
+        private final URI baseUri;
+        private HttpClient httpClient;
+        private Duration requestTimeout = Duration.ofSeconds(5);
+        private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+        private Duration clockSkew = Duration.ofSeconds(30);
+        private Duration feedIdleTimeout = Duration.ofSeconds(60);
+        private boolean revocationFeed;
+        private Supplier<String> serviceToken = () -> null;
+
+        private Builder(URI baseUri) {
+            this.baseUri = Objects.requireNonNull(baseUri, "baseUri");
+        }
+
+        /**
+         * @param httpClient Kullanılacak HTTP istemcisi; verilmezse varsayılan ayarlarla oluşturulur
+         */
+        public Builder httpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        /**
+         * @param requestTimeout JWK isteklerinin zaman aşımı (varsayılan 5 saniye)
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * @param jwksMinRefreshInterval Bilinmeyen {@code kid} nedeniyle yapılan iki JWK yenilemesi arasındaki en kısa
+         *                               süre (varsayılan 30 saniye)
+         */
+        public Builder jwksMinRefreshInterval(Duration jwksMinRefreshInterval) {
+            this.jwksMinRefreshInterval = jwksMinRefreshInterval;
+            return this;
+        }
+
+        /**
+         * @param clockSkew {@code exp}/{@code nbf} kontrolünde tolere edilen saat farkı (varsayılan 30 saniye)
+         */
+        public Builder clockSkew(Duration clockSkew) {
+            this.clockSkew = clockSkew;
+            return this;
+        }
+
+        /**
+         * @param revocationFeed İptal akışına abone olunup olunmayacağı (varsayılan kapalı)
+         */
+        public Builder revocationFeed(boolean revocationFeed) {
+            this.revocationFeed = revocationFeed;
+            return this;
+        }
+
+        /**
+         * @param serviceToken {@code ROLE_SERVICE} rolüne sahip hesabın access token'ını dönen kaynak. İptal akışına her
+         *                     bağlanışta çağrılır; token'ın yenilenmesi çağıranın sorumluluğundadır
+         */
+        public Builder serviceToken(Supplier<String> serviceToken) {
+            this.serviceToken = Objects.requireNonNull(serviceToken, "serviceToken");
+            return this;
+        }
+
+        /**
+         * @param feedIdleTimeout İptal akışından bu süre boyunca veri gelmezse bağlantı yeniden kurulur (varsayılan 60
+         *                        saniye)
+         */
+        public Builder feedIdleTimeout(Duration feedIdleTimeout) {
+            this.feedIdleTimeout = feedIdleTimeout;
+            return this;
+        }
+
+        public AuthServiceClient build() {
+            if (httpClient == null)
+                httpClient = HttpClient.newBuilder().connectTimeout(requestTimeout).build();
+
+            return new AuthServiceClient(this);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.kalayciburak.authservice.client;
+
+/**
+ * Token doğrulanamadığında fırlatılan hata. Mesaj istemciye dönülebilecek kadar geneldir; ayrıntı varsa sebep olarak
+ * eklenir.
+ */
+public class InvalidTokenException extends RuntimeException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+
+    public InvalidTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,123 @@
+package com.kalayciburak.authservice.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Servisin JWK setini {@code kid} ile indekslenmiş public key'ler olarak önbellekte tutar.
+ * <p>
+ * <ul>
+ *     <li>Bilinen bir {@code kid} için ağ çağrısı yapılmaz; key bir {@code volatile} map'ten okunur.</li>
+ *     <li>Bilinmeyen bir {@code kid} geldiğinde (ör. key değişimi sonrası) set yeniden çekilir. Rastgele {@code kid}'li
+ *     token'lar servisi yormasın diye iki yenileme arasında en az {@code minRefreshInterval} beklenir.</li>
+ *     <li>Yenileme {@code If-None-Match} ile koşullu yapılır; key değişmediyse servis gövdesiz {@code 304} döner.</li>
+ * </ul>
+ * Yenileme başarısız olursa mevcut key'ler kullanılmaya devam eder.
+ */
+final class JwksKeyCache {
+    private static final System.Logger log = System.getLogger(JwksKeyCache.class.getName());
+
+    private final HttpClient httpClient;
+    private final ObjectMapper mapper;
+    private final URI jwksUri;
+    private final Duration requestTimeout;
+    private final long minRefreshIntervalNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private String etag;
+    private long lastRefreshNanos;
+    private boolean refreshed;
+
+    JwksKeyCache(HttpClient httpClient, ObjectMapper mapper, URI jwksUri, Duration requestTimeout,
+                 Duration minRefreshInterval) {
+        this.httpClient = httpClient;
+        this.mapper = mapper;
+        this.jwksUri = jwksUri;
+        this.requestTimeout = requestTimeout;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+    }
+
+    /**
+     * Key ID'ye ait public key'i döner, önbellekte yoksa JWK setini yenilemeyi dener.
+     *
+     * @param keyId Token header'ındaki {@code kid}
+     * @return Public key, bulunamazsa {@code null}
+     */
+    PublicKey getKey(String keyId) {
+        if (keyId == null) return null;
+
+        var key = keys.get(keyId);
+        if (key != null) return key;
+
+        refresh();
+        return keys.get(keyId);
+    }
+
+    /**
+     * JWK setini, son yenilemeden bu yana {@code minRefreshInterval} geçtiyse yeniden çeker. Aynı anda gelen istekler
+     * tek bir çağrıyı bekler.
+     */
+    void refresh() {
+        refreshLock.lock();
+        try {
+            long now = System.nanoTime();
+            if (refreshed && now - lastRefreshNanos < minRefreshIntervalNanos) return;
+            refreshed = true;
+            lastRefreshNanos = now;
+
+            var request = HttpRequest.newBuilder(jwksUri).timeout(requestTimeout).header("Accept", "application/json");
+            if (etag != null) request.header("If-None-Match", etag);
+
+            var response = httpClient.send(request.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 304) return;
+            if (response.statusCode() != 200) {
+                log.log(System.Logger.Level.WARNING, "JWK seti alınamadı, durum kodu: {0}", response.statusCode());
+                return;
+            }
+
+            keys = parse(mapper.readTree(response.body()));
+            etag = response.headers().firstValue("ETag").orElse(null);
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            log.log(System.Logger.Level.WARNING, "JWK seti alınamadı, mevcut key'ler kullanılacak.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private static Map<String, PublicKey> parse(JsonNode jwkSet) throws GeneralSecurityException {
+        var keyFactory = KeyFactory.getInstance("RSA");
+        var parsed = new HashMap<String, PublicKey>();
+        for (var jwk : jwkSet.path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) continue;
+            if (jwk.hasNonNull("use") && !"sig".equals(jwk.get("use").asText())) continue;
+
+            var spec = new RSAPublicKeySpec(decode(jwk.path("n").asText()), decode(jwk.path("e").asText()));
+            parsed.put(jwk.get("kid").asText(), keyFactory.generatePublic(spec));
+        }
+
+        return Map.copyOf(parsed);
+    }
+
+    private static BigInteger decode(String value) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+}
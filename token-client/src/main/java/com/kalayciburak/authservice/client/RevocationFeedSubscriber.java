@@ -0,0 +1,206 @@
+package com.kalayciburak.authservice.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Servisin iptal akışına (Server-Sent Events) abone olur ve gelen olayları {@link RevocationSet}'e uygular.
+ * <p>
+ * Olaylar ({@code exp} ve {@code epoch} epoch saniyesidir):
+ * <ul>
+ *     <li>{@code snapshot}: {@code {"tokens":[{"jti","exp"}],"users":[{"subHash","epoch","exp"}]}}, kümenin tamamı.</li>
+ *     <li>{@code token}: {@code {"jti","exp"}}, tek bir token iptali.</li>
+ *     <li>{@code user}: {@code {"subHash","epoch","exp"}}, kullanıcının o ana kadarki bütün token'larının iptali.</li>
+ * </ul>
+ * Kullanıcılar email yerine {@code sub} claim'inin SHA-256 özetiyle ({@code subHash}) yayınlanır. Akış sadece
+ * {@code ROLE_SERVICE} rolüne sahip hesaplara açıktır; servis hesabının access token'ı her bağlantıda
+ * {@code serviceToken}'dan okunup {@code Authorization} header'ında gönderilir.
+ * <p>
+ * Bağlantı koptuğunda artan bekleme süreleriyle yeniden bağlanılır ve son alınan olay ID'si {@code Last-Event-ID}
+ * olarak gönderilir; servis kaçırılan olayları tekrar eder, edemiyorsa yeni bir anlık görüntü gönderir. Servis boşta
+ * kalan bağlantılara düzenli olarak yorum satırı gönderir; {@code idleTimeout} boyunca hiçbir şey gelmezse bağlantı ölü
+ * sayılıp yeniden kurulur.
+ */
+final class RevocationFeedSubscriber implements AutoCloseable {
+    private static final System.Logger log = System.getLogger(RevocationFeedSubscriber.class.getName());
+    private static final long INITIAL_BACKOFF_MS = 500;
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper mapper;
+    private final URI streamUri;
+    private final RevocationSet revocations;
+    private final Supplier<String> serviceToken;
+    private final long idleTimeoutNanos;
+    private final Thread thread;
+
+    private volatile boolean closed;
+    private volatile InputStream stream;
+    private volatile long lastActivityNanos;
+    private String lastEventId;
+
+    RevocationFeedSubscriber(HttpClient httpClient, ObjectMapper mapper, URI streamUri, RevocationSet revocations,
+                             Supplier<String> serviceToken, Duration idleTimeout) {
+        this.httpClient = httpClient;
+        this.mapper = mapper;
+        this.streamUri = streamUri;
+        this.revocations = revocations;
+        this.serviceToken = serviceToken;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.thread = Thread.ofPlatform().daemon().name("revocation-feed").unstarted(this::run);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * {@code idleTimeout} boyunca veri gelmeyen bağlantıyı kapatır; okuma döngüsü yeniden bağlanır. Düzenli olarak
+     * çağrılmalıdır.
+     */
+    void checkIdle() {
+        var current = stream;
+        if (current != null && System.nanoTime() - lastActivityNanos > idleTimeoutNanos) {
+            log.log(System.Logger.Level.WARNING, "İptal akışından veri gelmiyor, bağlantı yeniden kurulacak.");
+            closeQuietly(current);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+        var current = stream;
+        if (current != null) closeQuietly(current);
+    }
+
+    private void run() {
+        long backoffMs = INITIAL_BACKOFF_MS;
+        while (!closed) {
+            try {
+                if (connect()) backoffMs = INITIAL_BACKOFF_MS;
+            } catch (IOException e) {
+                if (!closed) log.log(System.Logger.Level.WARNING, "İptal akışı bağlantısı koptu: {0}", e.getMessage());
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (closed) return;
+
+            try {
+                Thread.sleep(backoffMs / 2 + ThreadLocalRandom.current().nextLong(backoffMs / 2 + 1));
+            } catch (InterruptedException e) {
+                return;
+            }
+            backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+        }
+    }
+
+    /**
+     * Akışa bağlanır ve bağlantı kapanana kadar olayları okur.
+     *
+     * @return Bağlantı kurulduysa {@code true}
+     */
+    private boolean connect() throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(streamUri).header("Accept", "text/event-stream");
+        var token = serviceToken.get();
+        if (token != null) request.header("Authorization", "Bearer " + token);
+        if (lastEventId != null) request.header("Last-Event-ID", lastEventId);
+
+        var response = httpClient.send(request.GET().build(), HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            log.log(System.Logger.Level.WARNING, "İptal akışına bağlanılamadı, durum kodu: {0}", response.statusCode());
+            return false;
+        }
+
+        lastActivityNanos = System.nanoTime();
+        stream = response.body();
+        try (var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            read(reader);
+        } finally {
+            stream = null;
+        }
+
+        return true;
+    }
+
+    private void read(BufferedReader reader) throws IOException {
+        String event = null;
+        String id = null;
+        var data = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lastActivityNanos = System.nanoTime();
+            if (line.isEmpty()) {
+                if (!data.isEmpty()) dispatch(event, data.toString());
+                if (id != null) lastEventId = id;
+                event = null;
+                id = null;
+                data.setLength(0);
+                continue;
+            }
+            if (line.startsWith(":")) continue;
+
+            int colon = line.indexOf(':');
+            var field = colon < 0 ? line : line.substring(0, colon);
+            var value = colon < 0 ? "" : line.substring(line.startsWith(" ", colon + 1) ? colon + 2 : colon + 1);
+            switch (field) {
+                case "event" -> event = value;
+                case "id" -> id = value;
+                case "data" -> {
+                    if (!data.isEmpty()) data.append('\n');
+                    data.append(value);
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void dispatch(String event, String data) throws IOException {
+        var payload = mapper.readTree(data);
+        switch (event == null ? "" : event) {
+            case "snapshot" -> applySnapshot(payload);
+            case "token" -> revocations.revokeToken(payload.path("jti").asText(), payload.path("exp").asLong());
+            case "user" -> revocations.revokeUser(payload.path("subHash").asText(), payload.path("epoch").asLong(),
+                    payload.path("exp").asLong());
+            default -> log.log(System.Logger.Level.DEBUG, "Bilinmeyen iptal olayı atlandı: {0}", event);
+        }
+    }
+
+    private void applySnapshot(JsonNode payload) {
+        var tokens = new HashMap<String, Long>();
+        for (var token : payload.path("tokens")) tokens.put(token.path("jti").asText(), token.path("exp").asLong());
+
+        var users = new HashMap<String, RevocationSet.UserRevocation>();
+        for (var user : payload.path("users")) {
+            users.put(user.path("subHash").asText(),
+                    new RevocationSet.UserRevocation(user.path("epoch").asLong(), user.path("exp").asLong()));
+        }
+
+        revocations.replace(tokens, users);
+        log.log(System.Logger.Level.INFO, "İptal listesi yüklendi: {0} token, {1} kullanıcı.", tokens.size(), users.size());
+    }
+
+    private static void closeQuietly(InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException ignored) {
+            // Okuma döngüsü bağlantının kapandığını görüp yeniden bağlanır
+        }
+    }
+}
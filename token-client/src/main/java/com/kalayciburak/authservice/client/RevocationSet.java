@@ -0,0 +1,118 @@
+package com.kalayciburak.authservice.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * İptal edilmiş token'ları ve kullanıcıları bellekte tutan küme.
+ * <p>
+ * <ul>
+ *     <li>Token iptalleri {@code jti} ile tutulur ve token'ın süresi ({@code exp}) dolunca silinir.</li>
+ *     <li>Kullanıcı iptalleri bir epoch ile tutulur: kullanıcının bu andan önce (aynı saniye dahil) üretilmiş bütün
+ *     token'ları iptal sayılır. Kayıt, o anda üretilmiş son token'ın süresi dolunca silinir. Kullanıcılar email
+ *     yerine {@code sub} claim'inin SHA-256 özetiyle ({@link #subjectDigest}) tutulur; özet sadece kümede kullanıcı
+ *     kaydı varken hesaplanır.</li>
+ * </ul>
+ * Bütün zamanlar epoch saniyesidir. Okumalar kilitsizdir; {@link #replace} yeni map'leri tek seferde yayınladığı için
+ * anlık görüntü yüklenirken kısmi bir küme görülmez.
+ */
+public final class RevocationSet {
+    private volatile ConcurrentHashMap<String, Long> tokens = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<String, UserRevocation> users = new ConcurrentHashMap<>();
+
+    /**
+     * Token'ın iptal edilip edilmediğini döner.
+     *
+     * @param tokenId  Token'ın {@code jti} claim'i, yoksa {@code null}
+     * @param subject  Token'ın {@code sub} claim'i
+     * @param issuedAt Token'ın {@code iat} claim'i
+     * @return İptal edilmişse {@code true}
+     */
+    public boolean isRevoked(String tokenId, String subject, Date issuedAt) {
+        if (tokenId != null && tokens.containsKey(tokenId)) return true;
+        var current = users;
+        if (subject == null || current.isEmpty()) return false;
+
+        var user = current.get(subjectDigest(subject));
+        return user != null && (issuedAt == null || issuedAt.getTime() / 1000 <= user.epoch());
+    }
+
+    /**
+     * Tek bir token'ı iptal eder.
+     *
+     * @param tokenId   Token'ın {@code jti} claim'i
+     * @param expiresAt Token'ın son geçerlilik zamanı
+     */
+    public void revokeToken(String tokenId, long expiresAt) {
+        tokens.put(tokenId, expiresAt);
+    }
+
+    /**
+     * Kullanıcının epoch'a kadar üretilmiş bütün token'larını iptal eder. Daha eski bir epoch mevcut kaydı geri almaz.
+     *
+     * @param subjectDigest Kullanıcı özeti ({@link #subjectDigest})
+     * @param epoch         Bu zamana kadar üretilmiş token'lar iptal edilir
+     * @param expiresAt     Kaydın tutulacağı son zaman
+     */
+    public void revokeUser(String subjectDigest, long epoch, long expiresAt) {
+        users.merge(subjectDigest, new UserRevocation(epoch, expiresAt),
+                (current, next) -> current.epoch() >= next.epoch() ? current : next);
+    }
+
+    /**
+     * Kümenin tamamını servisten alınan anlık görüntü ile değiştirir.
+     *
+     * @param tokens Token ID'si → son geçerlilik zamanı
+     * @param users  Kullanıcı özeti → epoch ve son geçerlilik zamanı
+     */
+    public void replace(Map<String, Long> tokens, Map<String, UserRevocation> users) {
+        this.tokens = new ConcurrentHashMap<>(tokens);
+        this.users = new ConcurrentHashMap<>(users);
+    }
+
+    /**
+     * Süresi dolmuş kayıtları siler.
+     *
+     * @param now Şu anki zaman
+     */
+    public void purgeExpired(long now) {
+        tokens.values().removeIf(expiresAt -> expiresAt < now);
+        users.values().removeIf(user -> user.expiresAt() < now);
+    }
+
+    /**
+     * @return Kümedeki token ve kullanıcı kaydı sayısı
+     */
+    public int size() {
+        return tokens.size() + users.size();
+    }
+
+    /**
+     * Kullanıcının akışta yayınlanan özetini döner: {@code sub} claim'inin SHA-256 özeti (Base64URL, padding'siz).
+     *
+     * @param subject Kullanıcı ({@code sub} claim'i)
+     * @return Özet
+     */
+    public static String subjectDigest(String subject) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(subject.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Kullanıcı iptal kaydı.
+     *
+     * @param epoch     Bu zamana kadar üretilmiş token'lar iptal edilir
+     * @param expiresAt Kaydın tutulacağı son zaman
+     */
+    public record UserRevocation(long epoch, long expiresAt) {
+    }
+}
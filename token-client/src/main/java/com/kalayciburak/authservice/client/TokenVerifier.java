@@ -0,0 +1,69 @@
+package com.kalayciburak.authservice.client;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.function.Function;
+
+import static com.kalayciburak.authservice.client.AuthClientConstants.*;
+
+/**
+ * Access token'ları yerel olarak doğrular.
+ * <p>
+ * Parser bir kez kurulur ve bütün isteklerde paylaşılır. İmza key'i token header'ındaki {@code kid} ile seçilir;
+ * issuer, audience ve süre parser tarafından, token tipi ve iptal durumu ise burada kontrol edilir.
+ */
+final class TokenVerifier {
+    private final JwtParser parser;
+    private final RevocationSet revocations;
+
+    TokenVerifier(Function<String, PublicKey> keys, RevocationSet revocations, Duration clockSkew) {
+        this.revocations = revocations;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keys.apply(header.getKeyId());
+                    }
+                })
+                .requireIssuer(ISSUER)
+                .requireAudience(AUDIENCE)
+                .clockSkewSeconds(clockSkew.toSeconds())
+                .build();
+    }
+
+    /**
+     * Token'ı doğrular.
+     *
+     * @param token JWT access token
+     * @return İmzası doğrulanmış claim'ler
+     * @throws InvalidTokenException Token geçersiz, süresi dolmuş, access token değil veya iptal edilmişse
+     */
+    Claims verify(String token) {
+        if (token == null || token.isBlank()) throw new InvalidTokenException("Token bulunamadı.");
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            throw new InvalidTokenException("Token süresi dolmuş.", e);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Geçersiz token.", e);
+        }
+
+        if (!ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class)))
+            throw new InvalidTokenException("Geçersiz token tipi.");
+        if (revocations.isRevoked(claims.getId(), claims.getSubject(), claims.getIssuedAt()))
+            throw new InvalidTokenException("Token iptal edilmiş.");
+
+        return claims;
+    }
+}
@@ -0,0 +1,107 @@
+package com.kalayciburak.authservice.client;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static com.kalayciburak.authservice.client.AuthClientConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TokenVerifier sınıfının imza, claim, token tipi ve yerel iptal kontrollerini test eden sınıftır.
+ */
+class TokenVerifierTest {
+    private static final String KEY_ID = "test-key-id";
+
+    private static KeyPair keyPair;
+
+    private final RevocationSet revocations = new RevocationSet();
+    private final TokenVerifier verifier = new TokenVerifier(
+            kid -> KEY_ID.equals(kid) ? keyPair.getPublic() : null, revocations, Duration.ZERO);
+
+    @BeforeAll
+    static void generateKeys() throws NoSuchAlgorithmException {
+        var generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+    }
+
+    @Test
+    @DisplayName("Geçerli access token doğrulanır ve claim'leri okunur")
+    void verifiesValidTokenTest() {
+        var claims = verifier.verify(token(KEY_ID, ISSUER, ACCESS_TOKEN_TYPE, "jti-1", Instant.now()));
+
+        assertEquals("user@test.com", claims.getSubject());
+        assertEquals(List.of("ROLE_USER"), claims.get(ROLES_CLAIM, List.class));
+    }
+
+    @Test
+    @DisplayName("Bilinmeyen key ID, yanlış issuer ve refresh token reddedilir")
+    void rejectsInvalidTokensTest() {
+        var now = Instant.now();
+
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(token("other-key", ISSUER, ACCESS_TOKEN_TYPE, "jti-1", now)));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(token(KEY_ID, "other-issuer", ACCESS_TOKEN_TYPE, "jti-1", now)));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(token(KEY_ID, ISSUER, "refresh", "jti-1", now)));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify("not-a-token"));
+    }
+
+    @Test
+    @DisplayName("İptal edilen token ve epoch'tan önce üretilmiş kullanıcı token'ları reddedilir")
+    void rejectsRevokedTokensTest() {
+        var issuedAt = Instant.now().minusSeconds(60);
+        var expiresAt = issuedAt.plusSeconds(3600).getEpochSecond();
+        var revokedToken = token(KEY_ID, ISSUER, ACCESS_TOKEN_TYPE, "jti-revoked", issuedAt);
+        var userToken = token(KEY_ID, ISSUER, ACCESS_TOKEN_TYPE, "jti-2", issuedAt);
+        var newerToken = token(KEY_ID, ISSUER, ACCESS_TOKEN_TYPE, "jti-3", Instant.now());
+
+        revocations.revokeToken("jti-revoked", expiresAt);
+        revocations.revokeUser(RevocationSet.subjectDigest("user@test.com"), issuedAt.getEpochSecond(), expiresAt);
+
+        var exception = assertThrows(InvalidTokenException.class, () -> verifier.verify(revokedToken));
+        assertEquals("Token iptal edilmiş.", exception.getMessage());
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(userToken));
+        assertDoesNotThrow(() -> verifier.verify(newerToken));
+    }
+
+    @Test
+    @DisplayName("Anlık görüntü kümeyi değiştirir ve süresi dolmuş kayıtlar silinir")
+    void replacesAndPurgesRevocationsTest() {
+        long now = Instant.now().getEpochSecond();
+        revocations.revokeToken("old", now + 60);
+
+        revocations.replace(Map.of("expired", now - 1, "active", now + 60),
+                Map.of(RevocationSet.subjectDigest("user@test.com"), new RevocationSet.UserRevocation(now, now - 1)));
+        revocations.purgeExpired(now);
+
+        assertFalse(revocations.isRevoked("old", null, null));
+        assertFalse(revocations.isRevoked("expired", null, null));
+        assertTrue(revocations.isRevoked("active", null, null));
+        assertEquals(1, revocations.size());
+    }
+
+    private static String token(String keyId, String issuer, String tokenType, String tokenId, Instant issuedAt) {
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .id(tokenId)
+                .subject("user@test.com")
+                .issuer(issuer)
+                .audience().add(AUDIENCE).and()
+                .claim(TOKEN_TYPE_CLAIM, tokenType)
+                .claim(ROLES_CLAIM, List.of("ROLE_USER"))
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(issuedAt.plusSeconds(3600)))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+}